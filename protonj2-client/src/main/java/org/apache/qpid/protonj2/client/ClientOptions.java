@@ -21,8 +21,14 @@ package org.apache.qpid.protonj2.client;
  */
 public class ClientOptions implements Cloneable {
 
+    /**
+     * The default limit on connection attempts per second across all client connections (unlimited).
+     */
+    public static final int DEFAULT_CONNECT_RATE_LIMIT = 0;
+
     private String id;
     private String futureType;
+    private int connectRateLimit = DEFAULT_CONNECT_RATE_LIMIT;
 
     /**
      * Create a new ClientOptions instance with defaults set for all options.
@@ -83,6 +89,33 @@ public class ClientOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return the maximum number of connection attempts per second across all connections of the client.
+     */
+    public int connectRateLimit() {
+        return connectRateLimit;
+    }
+
+    /**
+     * Sets a limit on the number of connection and reconnection attempts per second that are performed
+     * across all connections created from the client.  When a large number of connections lose their
+     * remote at the same time the limit spreads out the connection attempts that follow instead of
+     * allowing them all to hit the remote at once.  A value of zero (the default) disables the limit.
+     *
+     * @param connectRateLimit
+     *      The maximum number of connection attempts per second, or zero for no limit.
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions connectRateLimit(int connectRateLimit) {
+        if (connectRateLimit < 0) {
+            throw new IllegalArgumentException("Connect rate limit cannot be negative");
+        }
+
+        this.connectRateLimit = connectRateLimit;
+        return this;
+    }
+
     @Override
     public ClientOptions clone() {
         return copyInto(new ClientOptions());
@@ -100,6 +133,7 @@ public class ClientOptions implements Cloneable {
     protected ClientOptions copyInto(ClientOptions other) {
         other.id(id);
         other.futureType(futureType);
+        other.connectRateLimit(connectRateLimit);
 
         return other;
     }
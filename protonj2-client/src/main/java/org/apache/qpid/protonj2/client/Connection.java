@@ -559,4 +559,13 @@ public interface Connection extends AutoCloseable {
      */
     String[] desiredCapabilities() throws ClientException;
 
+    /**
+     * Returns a read-only view of the queue used to deliver connection life-cycle events to the
+     * handlers configured in the {@link ConnectionOptions}, the returned instance reflects the
+     * current state of the queue each time it is read.
+     *
+     * @return the {@link NotificationStats} for the event notifications of this {@link Connection}.
+     */
+    NotificationStats notificationStats();
+
 }
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
@@ -51,6 +52,8 @@ public class ConnectionOptions implements Cloneable {
     public static final int DEFAULT_CHANNEL_MAX = 65535;
     public static final int DEFAULT_MAX_FRAME_SIZE = 65536;
     public static final NextReceiverPolicy DEFAULT_NEXT_RECEIVER_POLICY = NextReceiverPolicy.ROUND_ROBIN;
+    public static final NotificationDispatchPolicy DEFAULT_NOTIFICATION_DISPATCH_POLICY = NotificationDispatchPolicy.CONNECTION_THREAD;
+    public static final int DEFAULT_NOTIFICATION_QUEUE_CAPACITY = 1024;
 
     private long sendTimeout = DEFAULT_SEND_TIMEOUT;
     private long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -74,6 +77,9 @@ public class ConnectionOptions implements Cloneable {
     private String virtualHost;
     private boolean traceFrames;
     private NextReceiverPolicy nextReceiverPolicy = DEFAULT_NEXT_RECEIVER_POLICY;
+    private NotificationDispatchPolicy notificationDispatchPolicy = DEFAULT_NOTIFICATION_DISPATCH_POLICY;
+    private Executor notificationExecutor;
+    private int notificationQueueCapacity = DEFAULT_NOTIFICATION_QUEUE_CAPACITY;
 
     private BiConsumer<Connection, ConnectionEvent> connectedHandler;
     private BiConsumer<Connection, DisconnectionEvent> disconnectedHandler;
@@ -130,6 +136,9 @@ public class ConnectionOptions implements Cloneable {
         other.reconnectedHandler(reconnectedHandler);
         other.disconnectedHandler(disconnectedHandler);
         other.defaultNextReceiverPolicy(nextReceiverPolicy);
+        other.notificationDispatchPolicy(notificationDispatchPolicy);
+        other.notificationExecutor(notificationExecutor);
+        other.notificationQueueCapacity(notificationQueueCapacity);
 
         if (offeredCapabilities != null) {
             other.offeredCapabilities(Arrays.copyOf(offeredCapabilities, offeredCapabilities.length));
@@ -753,6 +762,82 @@ public class ConnectionOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return the policy that selects the thread on which connection event handlers are invoked.
+     */
+    public NotificationDispatchPolicy notificationDispatchPolicy() {
+        return notificationDispatchPolicy;
+    }
+
+    /**
+     * Configures which thread the {@link Connection} uses to invoke the connection life-cycle
+     * event handlers, the policy is ignored if a notification {@link Executor} is configured.
+     *
+     * @param policy
+     *      The notification dispatch policy to assign.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     *
+     * @see #notificationExecutor(Executor)
+     */
+    public ConnectionOptions notificationDispatchPolicy(NotificationDispatchPolicy policy) {
+        this.notificationDispatchPolicy = policy;
+        return this;
+    }
+
+    /**
+     * @return the user supplied {@link Executor} used to invoke connection event handlers or null if not set.
+     */
+    public Executor notificationExecutor() {
+        return notificationExecutor;
+    }
+
+    /**
+     * Configures an application provided {@link Executor} on which the {@link Connection} invokes
+     * its connection life-cycle event handlers.  The connection never submits more than one task
+     * at a time to the executor so that events are delivered in order, and the executor is never
+     * shut down by the client.
+     *
+     * @param executor
+     *      The executor to use for event notifications or null to use the configured dispatch policy.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions notificationExecutor(Executor executor) {
+        this.notificationExecutor = executor;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of connection events that can await delivery to the handlers.
+     */
+    public int notificationQueueCapacity() {
+        return notificationQueueCapacity;
+    }
+
+    /**
+     * Configures the maximum number of connection events that can be queued awaiting delivery to
+     * the event handlers.  The connection I/O thread never waits for the handlers and no event is
+     * ever lost, once the queue is full further events are held in an overflow list until the
+     * handlers make progress, which is logged and reported in the {@link NotificationStats} of the
+     * connection.
+     *
+     * @param capacity
+     *      The maximum number of queued event notifications (must be greater than zero).
+     *
+     * @return this {@link ConnectionOptions} instance.
+     *
+     * @throws IllegalArgumentException if the given capacity is less than one.
+     */
+    public ConnectionOptions notificationQueueCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The notification queue capacity must be greater than zero");
+        }
+
+        this.notificationQueueCapacity = capacity;
+        return this;
+    }
+
     /**
      * @return the connection restored handler that is currently registered
      */
@@ -31,11 +31,17 @@ import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutExcepti
  */
 public abstract class LinkOptions<T extends LinkOptions<T>> {
 
+    /**
+     * Default value for the option that controls recovery of unsettled deliveries on reconnect.
+     */
+    public static final boolean DEFAULT_RECOVER_UNSETTLED = false;
+
     private long requestTimeout = ConnectionOptions.DEFAULT_REQUEST_TIMEOUT;
     private long openTimeout = ConnectionOptions.DEFAULT_OPEN_TIMEOUT;
     private long closeTimeout = ConnectionOptions.DEFAULT_CLOSE_TIMEOUT;
 
     private boolean autoSettle = true;
+    private boolean recoverUnsettled = DEFAULT_RECOVER_UNSETTLED;
     private DeliveryMode deliveryMode = DeliveryMode.AT_LEAST_ONCE;
     private String linkName;
 
@@ -85,6 +91,32 @@ public abstract class LinkOptions<T extends LinkOptions<T>> {
         return autoSettle;
     }
 
+    /**
+     * Controls if a {@link Link} that is recreated after a connection is reconnected carries the
+     * state of its unsettled deliveries in the new Attach so that the remote can report which of
+     * them it already holds an outcome for (default is <code>false</code>).  When enabled a sender
+     * completes the trackers of deliveries for which the remote returns a terminal outcome instead
+     * of failing them as having an unknown result, and a receiver informs the remote of the
+     * deliveries it has yet to settle.  The remote must retain link state across the reconnect for
+     * any deliveries to be recovered.
+     *
+     * @param recoverUnsettled
+     *      Should unsettled delivery state be exchanged when a link is recreated on reconnect.
+     *
+     * @return this {@link LinkOptions} instance.
+     */
+    public T recoverUnsettled(boolean recoverUnsettled) {
+        this.recoverUnsettled = recoverUnsettled;
+        return self();
+    }
+
+    /**
+     * @return if unsettled delivery state is exchanged when a {@link Link} is recreated on reconnect.
+     */
+    public boolean recoverUnsettled() {
+        return recoverUnsettled;
+    }
+
     /**
      * Sets the {@link DeliveryMode} value to assign to newly created {@link Link} instances.
      *
@@ -320,6 +352,7 @@ public abstract class LinkOptions<T extends LinkOptions<T>> {
         other.requestTimeout(requestTimeout);
         other.deliveryMode(deliveryMode);
         other.autoSettle(autoSettle);
+        other.recoverUnsettled(recoverUnsettled);
 
         if (offeredCapabilities != null) {
             other.offeredCapabilities(Arrays.copyOf(offeredCapabilities, offeredCapabilities.length));
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Determines which thread a {@link Connection} uses to invoke the connection life-cycle
+ * event handlers that are configured in the {@link ConnectionOptions}.  When the options
+ * carry a user supplied {@link Executor} that executor is always used and this policy is
+ * not consulted.
+ * <p>
+ * Regardless of the policy chosen the events of a single connection are always delivered
+ * in the order in which they occurred, one at a time.
+ */
+public enum NotificationDispatchPolicy {
+
+    /**
+     * Each connection owns a single notification thread which is started on demand and
+     * which exits after a period of inactivity.
+     */
+    CONNECTION_THREAD,
+
+    /**
+     * Notifications for all connections created from the same {@link Client} are executed
+     * on a pool of threads owned by that client which avoids a thread per connection when
+     * an application creates many connections.
+     */
+    SHARED_THREAD_POOL,
+
+    /**
+     * Notifications are executed directly on the connection I/O thread.  This adds no
+     * latency or thread hand-off but the handlers must not block or call any blocking
+     * API on the connection or its resources as doing so will stall or deadlock the
+     * connection.
+     */
+    IO_THREAD
+
+}
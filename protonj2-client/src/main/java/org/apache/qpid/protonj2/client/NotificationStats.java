@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Read-only view of the state of the queue that holds the connection life-cycle event
+ * notifications of a {@link Connection} until they are delivered to the handlers that
+ * are configured in the {@link ConnectionOptions}.
+ * <p>
+ * The values are sampled independently of one another and of the connection I/O thread
+ * so they are suitable for monitoring but may not represent a single point in time.
+ *
+ * @see ConnectionOptions#notificationQueueCapacity(int)
+ */
+public interface NotificationStats {
+
+    /**
+     * @return the number of notifications currently waiting to be delivered, including any in overflow.
+     */
+    int queueDepth();
+
+    /**
+     * @return the number of waiting notifications that did not fit in the queue and are held in overflow.
+     */
+    int overflowDepth();
+
+    /**
+     * @return the largest number of notifications that have been waiting at the same time.
+     */
+    int highWaterMark();
+
+    /**
+     * @return the total number of notifications that have been delivered to the handlers.
+     */
+    long dispatchedCount();
+
+    /**
+     * @return the total number of notifications that were held in overflow because the queue was full.
+     */
+    long overflowCount();
+
+}
@@ -32,6 +32,8 @@ public class ReconnectOptions implements Cloneable {
     public static final int DEFAULT_MAX_RECONNECT_DELAY = 30_000;
     public static final boolean DEFAULT_USE_RECONNECT_BACKOFF = true;
     public static final double DEFAULT_RECONNECT_BACKOFF_MULTIPLIER = 2.0d;
+    public static final boolean DEFAULT_USE_RECONNECT_JITTER = false;
+    public static final boolean DEFAULT_PREFER_HEALTHY_LOCATIONS = false;
 
     private final List<ReconnectLocation> reconnectHosts = new ArrayList<>();
 
@@ -43,6 +45,8 @@ public class ReconnectOptions implements Cloneable {
     private int maxReconnectDelay = DEFAULT_RECONNECT_DELAY;
     private boolean useReconnectBackOff = DEFAULT_USE_RECONNECT_BACKOFF;
     private double reconnectBackOffMultiplier = DEFAULT_RECONNECT_BACKOFF_MULTIPLIER;
+    private boolean useReconnectJitter = DEFAULT_USE_RECONNECT_JITTER;
+    private boolean preferHealthyLocations = DEFAULT_PREFER_HEALTHY_LOCATIONS;
 
     /**
      * Create a new {@link ReconnectOptions} instance configured with default configuration settings.
@@ -85,6 +89,8 @@ public class ReconnectOptions implements Cloneable {
         other.maxReconnectDelay(maxReconnectDelay);
         other.useReconnectBackOff(useReconnectBackOff);
         other.reconnectBackOffMultiplier(reconnectBackOffMultiplier);
+        other.useReconnectJitter(useReconnectJitter);
+        other.preferHealthyLocations(preferHealthyLocations);
         other.reconnectHosts.addAll(reconnectHosts);
 
         return other;
@@ -285,4 +291,51 @@ public class ReconnectOptions implements Cloneable {
         this.reconnectBackOffMultiplier = reconnectBackOffMultiplier;
         return this;
     }
+
+    /**
+     * @return if the reconnection attempt delay is randomized using decorrelated jitter.
+     */
+    public boolean useReconnectJitter() {
+        return useReconnectJitter;
+    }
+
+    /**
+     * Controls whether the time between reconnection attempts is randomized using decorrelated jitter.
+     * When enabled each delay is chosen at random between the configured reconnect delay and three times
+     * the previous delay (bounded by the maximum reconnect delay) which prevents a large number of clients
+     * that lost their connections at the same time from retrying in lock step.  When enabled this option
+     * replaces the back off multiplier based delay calculation.  This option defaults to false.
+     *
+     * @param useReconnectJitter
+     *      should connection attempts use a randomized delay between attempts.
+     *
+     * @return this {@link ReconnectOptions} instance.
+     */
+    public ReconnectOptions useReconnectJitter(boolean useReconnectJitter) {
+        this.useReconnectJitter = useReconnectJitter;
+        return this;
+    }
+
+    /**
+     * @return if the reconnection location selection prefers locations with a better health score.
+     */
+    public boolean preferHealthyLocations() {
+        return preferHealthyLocations;
+    }
+
+    /**
+     * Controls how the next reconnect location is selected.  By default locations are attempted in a
+     * round robin order, when this option is enabled the client tracks the consecutive failures and the
+     * average connect time of each location and attempts the location that has most reliably and most
+     * quickly accepted connections first.  This option defaults to false.
+     *
+     * @param preferHealthyLocations
+     *      should the location with the best connection history be attempted first.
+     *
+     * @return this {@link ReconnectOptions} instance.
+     */
+    public ReconnectOptions preferHealthyLocations(boolean preferHealthyLocations) {
+        this.preferHealthyLocations = preferHealthyLocations;
+        return this;
+    }
 }
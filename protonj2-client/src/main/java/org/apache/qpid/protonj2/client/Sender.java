@@ -85,4 +85,71 @@ public interface Sender extends Link<Sender> {
      */
     Tracker trySend(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
 
+    /**
+     * Sends the encoded message payload of the given received {@link Delivery} unchanged immediately
+     * if there is credit available or blocks if the link has not yet been granted credit.  The payload
+     * is not decoded and re-encoded, it is sent exactly as it was received along with the message
+     * format of the received delivery.
+     *
+     * @param delivery
+     *      the received {@link Delivery} whose message should be forwarded.
+     *
+     * @return the {@link Tracker} for the forwarded message delivery
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    Tracker forward(Delivery delivery) throws ClientException;
+
+    /**
+     * Sends the encoded message payload of the given received {@link Delivery} immediately if there
+     * is credit available or blocks if the link has not yet been granted credit.  Any delivery annotations
+     * in the received payload are replaced by the provided delivery annotations, or removed if none are
+     * provided, while the remaining sections of the payload are sent as they were received without being
+     * decoded and re-encoded.
+     *
+     * @param delivery
+     *      the received {@link Delivery} whose message should be forwarded.
+     * @param deliveryAnnotations
+     *      the delivery annotations that should be sent in place of those in the received payload.
+     *
+     * @return the {@link Tracker} for the forwarded message delivery
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    Tracker forward(Delivery delivery, Map<String, Object> deliveryAnnotations) throws ClientException;
+
+    /**
+     * Sends the encoded message payload of the given received {@link Delivery} unchanged if credit
+     * is available or returns null if no credit has been granted to the link at the time of the send
+     * attempt.
+     *
+     * @param delivery
+     *      the received {@link Delivery} whose message should be forwarded if credit is available.
+     *
+     * @return the {@link Tracker} for the forwarded message delivery or null if no credit for sending.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     *
+     * @see #forward(Delivery)
+     */
+    Tracker tryForward(Delivery delivery) throws ClientException;
+
+    /**
+     * Sends the encoded message payload of the given received {@link Delivery} with its delivery
+     * annotations replaced if credit is available or returns null if no credit has been granted to
+     * the link at the time of the send attempt.
+     *
+     * @param delivery
+     *      the received {@link Delivery} whose message should be forwarded if credit is available.
+     * @param deliveryAnnotations
+     *      the delivery annotations that should be sent in place of those in the received payload.
+     *
+     * @return the {@link Tracker} for the forwarded message delivery or null if no credit for sending.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     *
+     * @see #forward(Delivery, Map)
+     */
+    Tracker tryForward(Delivery delivery, Map<String, Object> deliveryAnnotations) throws ClientException;
+
 }
@@ -39,6 +39,11 @@ public class SessionOptions implements Cloneable {
      */
     public static final int DEFAULT_SESSION_OUTGOING_CAPACITY = 100 * 1024 * 1024;
 
+    /**
+     * The default number of transactions a Session will declare ahead of their use (disabled).
+     */
+    public static final int DEFAULT_PREDECLARED_TRANSACTIONS = 0;
+
     private long sendTimeout = ConnectionOptions.DEFAULT_SEND_TIMEOUT;
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private long requestTimeout = ConnectionOptions.DEFAULT_REQUEST_TIMEOUT;
@@ -47,6 +52,7 @@ public class SessionOptions implements Cloneable {
 
     private int incomingCapacity = DEFAULT_SESSION_INCOMING_CAPACITY;
     private int outgoingCapacity = DEFAULT_SESSION_OUTGOING_CAPACITY;
+    private int predeclaredTransactions = DEFAULT_PREDECLARED_TRANSACTIONS;
 
     private String[] offeredCapabilities;
     private String[] desiredCapabilities;
@@ -93,6 +99,7 @@ public class SessionOptions implements Cloneable {
         other.requestTimeout(requestTimeout);
         other.incomingCapacity(incomingCapacity);
         other.outgoingCapacity(outgoingCapacity);
+        other.predeclaredTransactions(predeclaredTransactions);
         other.defaultNextReceiverPolicy(nextReceiverPolicy);
 
         if (offeredCapabilities != null) {
@@ -421,4 +428,35 @@ public class SessionOptions implements Cloneable {
         this.nextReceiverPolicy = policy;
         return this;
     }
+
+    /**
+     * @return the number of transactions a {@link Session} created with these options will declare in advance.
+     */
+    public int predeclaredTransactions() {
+        return predeclaredTransactions;
+    }
+
+    /**
+     * Sets the number of transactions that a {@link Session} created with these options will declare
+     * ahead of their use.  When enabled the session pipelines the declaration of the next transaction(s)
+     * with the work of the active transaction so that a call to {@link Session#beginTransaction()} that
+     * follows a commit or rollback can complete without waiting on a coordinator round trip.  Transactions
+     * that are declared but never used are rolled back by the remote when the coordinator link is closed.
+     * <p>
+     * This is an advanced option that requires a remote transaction coordinator that allows more than one
+     * transaction to be declared at a time, the default value of zero disables the feature.
+     *
+     * @param predeclaredTransactions
+     *      the number of transactions to keep declared ahead of their use.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions predeclaredTransactions(int predeclaredTransactions) {
+        if (predeclaredTransactions < 0) {
+            throw new IllegalArgumentException("The number of predeclared transactions cannot be negative");
+        }
+
+        this.predeclaredTransactions = predeclaredTransactions;
+        return this;
+    }
 }
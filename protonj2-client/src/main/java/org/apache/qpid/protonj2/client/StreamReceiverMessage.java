@@ -17,7 +17,12 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Footer;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
@@ -54,4 +59,41 @@ public interface StreamReceiverMessage extends AdvancedMessage<InputStream> {
      */
     boolean completed();
 
+    /**
+     * Writes the remaining bytes of the message body to the given channel, blocking until the
+     * full body has arrived and been written or an error occurs.
+     * <p>
+     * The message body must consist of AMQP {@link Data} sections, the bytes of each section are
+     * written to the channel in order from the buffered incoming transfer payloads without first
+     * being copied into an intermediate byte array.  Bytes of the body that were previously read
+     * from the {@link #body()} stream are not written again.  Once the body has been written any
+     * {@link Footer} that follows it is decoded and available from this message.  The target
+     * channel should be a blocking channel, the channel is not closed by this method.
+     *
+     * @param target
+     *      The {@link WritableByteChannel} that should receive the message body bytes.
+     *
+     * @return the number of body bytes that were written to the channel.
+     *
+     * @throws ClientException if an error occurs while reading the message body or writing to the channel.
+     */
+    long transferTo(WritableByteChannel target) throws ClientException;
+
+    /**
+     * Reads the next available bytes of the message body into the given buffer, blocking only
+     * until some bytes are available if none have already arrived.
+     * <p>
+     * The message body must consist of AMQP {@link Data} sections, bytes are copied into the
+     * buffer directly from the buffered incoming transfer payloads and the position of the
+     * buffer is advanced by the number of bytes read.
+     *
+     * @param target
+     *      The {@link ByteBuffer} whose remaining space should be filled with message body bytes.
+     *
+     * @return the number of bytes read or -1 if the end of the message body has been reached.
+     *
+     * @throws ClientException if an error occurs while reading the message body.
+     */
+    int readBody(ByteBuffer target) throws ClientException;
+
 }
@@ -31,10 +31,16 @@ public final class StreamReceiverOptions extends LinkOptions<StreamReceiverOptio
      */
     public static final int DEFAULT_READ_BUFFER_SIZE = SessionOptions.DEFAULT_SESSION_INCOMING_CAPACITY;
 
+    /**
+     * Defines the default read ahead mode used for the streams that read incoming message data.
+     */
+    public static final boolean DEFAULT_READ_AHEAD = false;
+
     private int readBufferSize = DEFAULT_READ_BUFFER_SIZE;
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private boolean autoAccept = true;
     private int creditWindow = 10;
+    private boolean readAhead = DEFAULT_READ_AHEAD;
 
     /**
      * Creates a {@link StreamReceiverOptions} instance with default values for all options
@@ -76,6 +82,7 @@ public final class StreamReceiverOptions extends LinkOptions<StreamReceiverOptio
         other.autoAccept(autoAccept);
         other.creditWindow(creditWindow);
         other.drainTimeout(drainTimeout);
+        other.readAhead(readAhead);
 
         return other;
     }
@@ -105,6 +112,32 @@ public final class StreamReceiverOptions extends LinkOptions<StreamReceiverOptio
         return this;
     }
 
+    /**
+     * @return true if the streams that read incoming message data read ahead of the application.
+     */
+    public boolean readAhead() {
+        return readAhead;
+    }
+
+    /**
+     * Controls if the streams that read the incoming data of a {@link StreamReceiverMessage} read ahead of
+     * the application (default is <code>false</code>).
+     * <p>
+     * Without read ahead each time a stream has consumed the bytes it holds it must request more from the
+     * connection's IO thread and wait for that request to complete.  With read ahead enabled the IO thread
+     * hands incoming bytes to the stream as they arrive, up to the configured {@link #readBufferSize()}, and
+     * the application thread only waits on the IO thread when the stream has no bytes left to read.
+     *
+     * @param readAhead
+     *      Should the incoming message data streams read ahead of the application.
+     *
+     * @return this {@link StreamReceiverOptions} instance.
+     */
+    public StreamReceiverOptions readAhead(boolean readAhead) {
+        this.readAhead = readAhead;
+        return this;
+    }
+
     /**
      * Controls if the created Receiver will automatically accept the deliveries that have
      * been received by the application (default is <code>true</code>).
@@ -17,10 +17,13 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Footer;
 import org.apache.qpid.protonj2.types.messaging.Section;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 
@@ -135,4 +138,44 @@ public interface StreamSenderMessage extends AdvancedMessage<OutputStream> {
      */
     OutputStream rawOutputStream() throws ClientException;
 
+    /**
+     * Writes the full contents of the given file as the payload of one or more AMQP {@link Data}
+     * sections, see {@link #transferFrom(FileChannel, long, long)} for details.
+     *
+     * @param file
+     *      The {@link Path} of the file whose contents should be written as the message body.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading the file or writing its contents.
+     *
+     * @see #transferFrom(FileChannel, long, long)
+     */
+    StreamSenderMessage transferFrom(Path file) throws ClientException;
+
+    /**
+     * Writes the given region of the {@link FileChannel} as the payload of one or more AMQP
+     * {@link Data} sections.
+     * <p>
+     * The file contents are memory mapped and handed to the sender in write buffer sized views of
+     * the mapped region instead of being read into intermediate byte arrays, which allows very large
+     * files to be streamed without passing every byte through an {@link OutputStream}.  A single
+     * {@link Data} section is written unless the region is too large to be encoded in one section.
+     * The message is not completed once the region has been written, additional body sections or a
+     * {@link Footer} may follow and the {@link #complete()} method must be called to finish the send.
+     * The channel is not closed by this method and its position is not modified.
+     *
+     * @param channel
+     *      The {@link FileChannel} whose contents should be written as the message body.
+     * @param position
+     *      The position in the channel where the transfer should begin.
+     * @param count
+     *      The number of bytes to transfer from the channel.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading the channel or writing its contents.
+     */
+    StreamSenderMessage transferFrom(FileChannel channel, long position, long count) throws ClientException;
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out connection attempts made by all the connections of a single {@link ClientInstance}
+ * so that no more than the configured number of attempts per second are started.  Each caller
+ * reserves the next free time slot and is told how long it must wait before using it which
+ * allows the attempt to be scheduled on the connection's own event loop without blocking.
+ */
+final class ClientConnectRateLimiter {
+
+    private final long intervalNanos;
+
+    private long nextFreeSlot = Long.MIN_VALUE;
+
+    ClientConnectRateLimiter(int attemptsPerSecond) {
+        this.intervalNanos = attemptsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / attemptsPerSecond : 0;
+    }
+
+    /**
+     * Reserves a slot for a connection attempt that will occur no sooner than the given delay.
+     *
+     * @param requestedDelay
+     *      The delay in milliseconds the caller would apply without any rate limiting.
+     *
+     * @return the delay in milliseconds the caller must wait before starting the attempt.
+     */
+    long reserve(long requestedDelay) {
+        if (intervalNanos == 0) {
+            return requestedDelay;
+        }
+
+        final long now = System.nanoTime();
+        final long requested = now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, requestedDelay));
+
+        synchronized (this) {
+            final long slot = nextFreeSlot == Long.MIN_VALUE || nextFreeSlot - requested < 0 ? requested : nextFreeSlot;
+            nextFreeSlot = slot + intervalNanos;
+
+            return TimeUnit.NANOSECONDS.toMillis(slot - now);
+        }
+    }
+}
@@ -22,10 +22,13 @@ import java.security.Principal;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -41,6 +44,7 @@ import org.apache.qpid.protonj2.client.DisconnectionEvent;
 import org.apache.qpid.protonj2.client.ErrorCondition;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.NextReceiverPolicy;
+import org.apache.qpid.protonj2.client.NotificationStats;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.ReconnectLocation;
@@ -72,6 +76,7 @@ import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslAuthenticator;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslCredentialsProvider;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslMechanismSelector;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -101,7 +106,7 @@ public final class ClientConnection implements Connection {
     private final NettyIOContext ioContext;
     private final String connectionId;
     private final ScheduledExecutorService executor;
-    private final ThreadPoolExecutor notifications;
+    private final ClientNotificationDispatcher notifications;
 
     private Engine engine;
     private org.apache.qpid.protonj2.engine.Connection protonConnection;
@@ -116,6 +121,9 @@ public final class ClientConnection implements Connection {
     private long totalConnections;
     private long reconnectAttempts;
     private long nextReconnectDelay = -1;
+    private ReconnectLocation currentLocation;
+    private long currentLocationAttemptStart;
+    private boolean currentLocationConnected;
 
     /**
      * Create a connection and define the initial configuration used to manage the
@@ -145,9 +153,8 @@ public final class ClientConnection implements Connection {
 
         // This executor can be used for dispatching asynchronous tasks that might block or result
         // in reentrant calls to this Connection that could block.
-        notifications = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<Runnable>(),
-            new TrackableThreadFactory("protonj2 Client Connection Executor: " + getId(), true));
-        notifications.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        notifications = new ClientNotificationDispatcher(
+            connectionId, createNotificationExecutor(), options.notificationQueueCapacity());
 
         reconnectPool.add(new ReconnectLocation(host, port));
         reconnectPool.addAll(options.reconnectOptions().reconnectLocations());
@@ -528,6 +535,11 @@ public final class ClientConnection implements Connection {
         return ClientConversionSupport.toStringArray(protonConnection.getRemoteDesiredCapabilities());
     }
 
+    @Override
+    public NotificationStats notificationStats() {
+        return notifications;
+    }
+
     @Override
     public String toString() {
         return "ClientConnection:[" + getId() + "]";
@@ -545,7 +557,7 @@ public final class ClientConnection implements Connection {
 
     ClientConnection connect() throws ClientException {
         try {
-            final ReconnectLocation remoteLocation = reconnectPool.getNext();
+            final ReconnectLocation remoteLocation = nextReconnectLocation();
 
             // Initial configuration validation happens here, if this step fails then the
             // user most likely configured something incorrect or that violates some constraint
@@ -573,6 +585,24 @@ public final class ClientConnection implements Connection {
         return executor;
     }
 
+    /*
+     * Schedules a timeout task using the timer shared by all connections of the client, the task
+     * is run on this connection's event loop when the timeout expires.
+     */
+    ScheduledFuture<?> scheduleTimeout(Runnable task, long delay, TimeUnit unit) {
+        final HashedWheelTimer timer = client.timer();
+
+        if (timer != null) {
+            try {
+                return timer.newTimeout(task, executor, delay, unit);
+            } catch (IllegalStateException timerStopped) {
+                LOG.trace("Shared client timer stopped, scheduling timeout on the connection event loop");
+            }
+        }
+
+        return executor.schedule(task, delay, unit);
+    }
+
     ClientFutureFactory getFutureFactory() {
         return futureFactory;
     }
@@ -620,10 +650,15 @@ public final class ClientConnection implements Connection {
     //----- Private implementation events handlers and utility methods
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Connection connection) {
-        connection.tickAuto(getScheduler());
+        final HashedWheelTimer timer = client.timer();
+        if (timer != null) {
+            connection.tickAuto(executor, timer);
+        } else {
+            connection.tickAuto(getScheduler());
+        }
 
         if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+            scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     // Ensure a close write is attempted and then force failure regardless
                     // as we don't expect the remote to respond given it hasn't done so yet.
@@ -654,7 +689,7 @@ public final class ClientConnection implements Connection {
             }
         } else if (!engine.isShutdown() || !engine.isFailed()) {
             // Ensure engine gets shut down and future completed if remote doesn't respond.
-            executor.schedule(() -> {
+            scheduleTimeout(() -> {
                 try {
                     connection.getEngine().shutdown();
                 } catch (Throwable ignore) {
@@ -727,6 +762,10 @@ public final class ClientConnection implements Connection {
 
         LOG.trace("Engine reports failure with error: {}", failureCause.getMessage());
 
+        if (currentLocation != null && !currentLocationConnected) {
+            reconnectPool.connectionFailed(currentLocation);
+        }
+
         if (isReconnectAllowed(failureCause)) {
             // Disconnect the failed engine for this connection's event handling
             // to prevent cleanup processing of that engine instance from triggering
@@ -740,7 +779,7 @@ public final class ClientConnection implements Connection {
             // user most likely configured something incorrect or that violates some constraint
             // like an invalid SASL mechanism etc.
             try {
-                final ReconnectLocation remoteLocation = reconnectPool.getNext();
+                final ReconnectLocation remoteLocation = nextReconnectLocation();
 
                 initializeProtonResources(remoteLocation);
                 scheduleReconnect(remoteLocation);
@@ -798,7 +837,7 @@ public final class ClientConnection implements Connection {
     private void submitConnectionEvent(BiConsumer<Connection, ConnectionEvent> handler, String host, int port, ClientIOException cause) {
         if (handler != null) {
             try {
-                notifications.submit(() -> {
+                notifications.execute(() -> {
                     try {
                         handler.accept(this, new ConnectionEvent(host, port));
                     } catch (Exception ex) {
@@ -814,7 +853,7 @@ public final class ClientConnection implements Connection {
     private void submitDisconnectionEvent(BiConsumer<Connection, DisconnectionEvent> handler, String host, int port, ClientIOException cause) {
         if (handler != null) {
             try {
-                notifications.submit(() -> {
+                notifications.execute(() -> {
                     try {
                         handler.accept(this, new DisconnectionEvent(host, port, cause));
                     } catch (Exception ex) {
@@ -827,6 +866,25 @@ public final class ClientConnection implements Connection {
         }
     }
 
+    private Executor createNotificationExecutor() {
+        if (options.notificationExecutor() != null) {
+            return options.notificationExecutor();
+        }
+
+        switch (options.notificationDispatchPolicy()) {
+            case IO_THREAD:
+                return null;
+            case SHARED_THREAD_POOL:
+                return client.sharedNotificationExecutor();
+            case CONNECTION_THREAD:
+            default:
+                final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<Runnable>(),
+                    new TrackableThreadFactory("protonj2 Client Connection Executor: " + connectionId, true));
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
+        }
+    }
+
     private Engine configureEngineSaslSupport() {
         if (options.saslOptions().saslEnabled()) {
             SaslMechanismSelector mechSelector =
@@ -963,6 +1021,9 @@ public final class ClientConnection implements Connection {
     private void attemptConnection(ReconnectLocation location) {
         try {
             reconnectAttempts++;
+            currentLocation = location;
+            currentLocationConnected = false;
+            currentLocationAttemptStart = System.nanoTime();
             transport = ioContext.newTransport();
             LOG.trace("Connection {} Attempting connection to remote {}:{}", getId(), location.getHost(), location.getPort());
             transport.connect(location.getHost(), location.getPort(), new ClientTransportListener(this, engine));
@@ -981,22 +1042,40 @@ public final class ClientConnection implements Connection {
         // If no connection recovery required then we have never fully connected to a remote
         // so we proceed down the connect with one immediate connection attempt and then follow
         // on delayed attempts based on configuration.
+        long delay = 0;
+
         if (totalConnections == 0) {
             if (reconnectAttempts == 0) {
                 LOG.trace("Initial connect attempt will be performed immediately");
-                executor.execute(() -> attemptConnection(location));
             } else {
-                long delay = nextReconnectDelay();
+                delay = nextReconnectDelay();
                 LOG.trace("Next connect attempt will be in {} milliseconds", delay);
-                executor.schedule(() -> attemptConnection(location), delay, TimeUnit.MILLISECONDS);
             }
         } else if (reconnectAttempts == 0) {
             LOG.trace("Initial reconnect attempt will be performed immediately");
-            executor.execute(() -> attemptConnection(location));
         } else {
-            long delay = nextReconnectDelay();
+            delay = nextReconnectDelay();
             LOG.trace("Next reconnect attempt will be in {} milliseconds", delay);
-            executor.schedule(() -> attemptConnection(location), delay, TimeUnit.MILLISECONDS);
+        }
+
+        // Attempts across all connections of the client are spread out if a limit is configured
+        final long limitedDelay = client.connectRateLimiter().reserve(delay);
+        if (limitedDelay > delay) {
+            LOG.trace("Connect rate limit delays next attempt by an additional {} milliseconds", limitedDelay - delay);
+        }
+
+        if (limitedDelay > 0) {
+            executor.schedule(() -> attemptConnection(location), limitedDelay, TimeUnit.MILLISECONDS);
+        } else {
+            executor.execute(() -> attemptConnection(location));
+        }
+    }
+
+    private ReconnectLocation nextReconnectLocation() {
+        if (options.reconnectOptions().preferHealthyLocations()) {
+            return reconnectPool.getNextPreferred();
+        } else {
+            return reconnectPool.getNext();
         }
     }
 
@@ -1004,6 +1083,12 @@ public final class ClientConnection implements Connection {
         totalConnections++;
         nextReconnectDelay = -1;
         reconnectAttempts = 0;
+
+        if (currentLocation != null) {
+            currentLocationConnected = true;
+            reconnectPool.connectionSucceeded(
+                currentLocation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - currentLocationAttemptStart));
+        }
     }
 
     private boolean isLimitExceeded() {
@@ -1053,6 +1138,22 @@ public final class ClientConnection implements Connection {
     }
 
     private long nextReconnectDelay() {
+        if (options.reconnectOptions().useReconnectJitter()) {
+            // Decorrelated jitter, a random delay between the base delay and three times the
+            // previous delay which keeps clients that failed together from retrying together.
+            final long baseDelay = options.reconnectOptions().reconnectDelay();
+            final long previousDelay = nextReconnectDelay == UNDEFINED ? baseDelay : nextReconnectDelay;
+            final long ceiling = Math.min(options.reconnectOptions().maxReconnectDelay(), previousDelay * 3);
+
+            if (ceiling > baseDelay) {
+                nextReconnectDelay = baseDelay + ThreadLocalRandom.current().nextLong(ceiling - baseDelay + 1);
+            } else {
+                nextReconnectDelay = baseDelay;
+            }
+
+            return nextReconnectDelay;
+        }
+
         if (nextReconnectDelay == UNDEFINED) {
             nextReconnectDelay = options.reconnectOptions().reconnectDelay();
         }
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Receiver;
@@ -36,6 +37,7 @@ import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 public final class ClientDelivery extends ClientDeliverable<ClientDelivery, ClientReceiver> implements Delivery {
 
     private final ProtonBuffer payload;
+    private final int payloadStart;
 
     private DeliveryAnnotations deliveryAnnotations;
     private Message<?> cachedMessage;
@@ -54,6 +56,7 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
         super(receiver, delivery);
 
         this.payload = delivery.readAll();
+        this.payloadStart = payload != null ? payload.getReadIndex() : 0;
     }
 
     @Override
@@ -110,4 +113,15 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
     void deliveryAnnotations(DeliveryAnnotations deliveryAnnotations) {
         this.deliveryAnnotations = deliveryAnnotations;
     }
+
+    /**
+     * @return a view of the complete encoded message payload that is unaffected by any reads of this delivery.
+     */
+    ProtonBuffer encodedPayload() {
+        if (payload == null) {
+            return ProtonByteBufferAllocator.DEFAULT.allocate(0, 0);
+        }
+
+        return payload.duplicate().setReadIndex(payloadStart);
+    }
 }
@@ -22,7 +22,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
@@ -35,6 +39,8 @@ import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
 import org.apache.qpid.protonj2.client.util.IdGenerator;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +53,7 @@ public final class ClientInstance implements Client {
     private static final Logger LOG = LoggerFactory.getLogger(ClientInstance.class);
 
     private static final IdGenerator CONTAINER_ID_GENERATOR = new IdGenerator();
+    private static final int SHARED_NOTIFICATION_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
     private static final ClientFutureFactory FUTURES = ClientFutureFactory.create(ClientFutureFactory.CONSERVATIVE);
     private static final AtomicIntegerFieldUpdater<ClientInstance> CLOSED_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(ClientInstance.class, "closed");
@@ -57,7 +64,10 @@ public final class ClientInstance implements Client {
     private final Map<String, ClientConnection> connections = new HashMap<>();
     private final String clientUniqueId = CONTAINER_ID_GENERATOR.generateId();
     private final ClientFuture<Client> closedFuture = FUTURES.createFuture();
+    private final ClientConnectRateLimiter connectRateLimiter;
 
+    private ThreadPoolExecutor sharedNotifications;
+    private volatile HashedWheelTimer timer;
     private volatile int closed;
 
     /**
@@ -85,6 +95,7 @@ public final class ClientInstance implements Client {
      */
     ClientInstance(ClientOptions options) {
         this.options = options;
+        this.connectRateLimiter = new ClientConnectRateLimiter(options.connectRateLimit());
     }
 
     @SuppressWarnings("resource")
@@ -128,6 +139,48 @@ public final class ClientInstance implements Client {
         return options;
     }
 
+    ClientConnectRateLimiter connectRateLimiter() {
+        return connectRateLimiter;
+    }
+
+    /*
+     * Executor shared by connections using the shared thread pool notification policy, each
+     * connection only ever runs one task on it at a time.  The pool has a fixed number of threads
+     * which exit when idle, connections beyond that wait their turn in the pool's queue.  Returns
+     * null once the client has closed and the last of its connections has gone.
+     */
+    synchronized Executor sharedNotificationExecutor() {
+        if (sharedNotifications == null && !(isClosed() && connections.isEmpty())) {
+            sharedNotifications = new ThreadPoolExecutor(SHARED_NOTIFICATION_THREADS, SHARED_NOTIFICATION_THREADS, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<Runnable>(),
+                new TrackableThreadFactory("protonj2 Client Notification Executor: " + getClientUniqueId(), true));
+            sharedNotifications.allowCoreThreadTimeOut(true);
+        }
+
+        return sharedNotifications;
+    }
+
+    /*
+     * Timer shared by all connections of this client for their protocol timeouts which keeps the
+     * many timeouts of a large number of connections out of the scheduled queues of the event loops.
+     * Returns null once the client has closed and the last of its connections has gone.  Once created
+     * the timer is read without taking the client lock as every timeout scheduled asks for it.
+     */
+    HashedWheelTimer timer() {
+        HashedWheelTimer result = timer;
+
+        if (result == null) {
+            synchronized (this) {
+                result = timer;
+                if (result == null && !(isClosed() && connections.isEmpty())) {
+                    timer = result = new HashedWheelTimer("protonj2 Client Timer: " + getClientUniqueId());
+                }
+            }
+        }
+
+        return result;
+    }
+
     @Override
     public void close() {
         try {
@@ -141,6 +194,8 @@ public final class ClientInstance implements Client {
     public synchronized Future<Client> closeAsync() {
         if (CLOSED_UPDATER.compareAndSet(this, 0, 1)) {
             if (connections.isEmpty()) {
+                stopTimer();
+                stopSharedNotifications();
                 closedFuture.complete(this);
             } else {
                 // Make a copy as the connection close will modify the connections
@@ -183,7 +238,24 @@ public final class ClientInstance implements Client {
     synchronized void unregisterConnection(ClientConnection connection) {
         connections.remove(connection.getId());
         if (isClosed() && connections.isEmpty()) {
+            stopTimer();
+            stopSharedNotifications();
             closedFuture.complete(this);
         }
     }
+
+    private void stopTimer() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    private void stopSharedNotifications() {
+        if (sharedNotifications != null) {
+            // Notifications already queued by the closed connections are still delivered
+            sharedNotifications.shutdown();
+            sharedNotifications = null;
+        }
+    }
 }
@@ -303,8 +303,9 @@ public abstract class ClientLinkType<LinkType extends Link<LinkType>,
     protected final void handleLocalOpen(ProtonType link) {
         linkSpecificLocalOpenHandler();
 
-        if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+        // A link recreated on reconnect has already completed its open future so no timeout is needed
+        if (options.openTimeout() > 0 && !openFuture.isDone()) {
+            session.scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateLinkShutdown(new ClientOperationTimedOutException("Link open timed out waiting for remote to respond"));
                 }
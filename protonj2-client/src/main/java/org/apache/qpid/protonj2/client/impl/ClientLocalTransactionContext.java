@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -73,8 +74,13 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     private TransactionalState cachedSenderOutcome;
     private TransactionalState cachedReceiverOutcome;
 
+    private final int predeclareLimit;
+    private final ArrayDeque<Transaction<TransactionController>> predeclared;
+
     ClientLocalTransactionContext(ClientSession session) {
         this.session = session;
+        this.predeclareLimit = session.options().predeclaredTransactions();
+        this.predeclared = new ArrayDeque<>(Math.max(1, predeclareLimit));
     }
 
     @Override
@@ -217,15 +223,41 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     //------ Internals of Transaction State management
 
     private void beginNewTransaction(ClientFuture<Session> beginFuture) {
-        TransactionController txnController = getOrCreateNewTxnController();
-
-        currentTxn = txnController.newTransaction();
-        currentTxn.setLinkedResource(this);
-        currentTxn.getAttachments().set(DECLARE_FUTURE_NAME, beginFuture);
+        final TransactionController txnController = getOrCreateNewTxnController();
+        final Transaction<TransactionController> predeclaredTxn = pollPredeclaredTransaction();
 
         cachedReceiverOutcome = null;
         cachedSenderOutcome = null;
 
+        if (predeclaredTxn != null) {
+            currentTxn = predeclaredTxn;
+            currentTxn.getAttachments().set(DECLARE_FUTURE_NAME, beginFuture);
+
+            replenishPredeclaredTransactions(txnController);
+
+            if (currentTxn.getState() == TransactionState.DECLARED) {
+                LOG.trace("Begin of transaction using previously declared transaction:{}", currentTxn);
+                beginFuture.complete(session);
+                return;
+            }
+        } else {
+            final Transaction<TransactionController> transaction = txnController.newTransaction();
+
+            currentTxn = transaction;
+            currentTxn.setLinkedResource(this);
+            currentTxn.getAttachments().set(DECLARE_FUTURE_NAME, beginFuture);
+
+            txnController.addCapacityAvailableHandler(controller -> {
+                try {
+                    txnController.declare(transaction);
+                } catch (EngineFailedException efe) {
+                    beginFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
+                }
+            });
+
+            replenishPredeclaredTransactions(txnController);
+        }
+
         if (session.options().requestTimeout() > 0) {
             session.scheduleRequestTimeout(beginFuture, session.options().requestTimeout(), () -> {
                 try {
@@ -236,14 +268,43 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
                 return new ClientTransactionDeclarationException("Timed out waiting for Transaction declaration to complete");
             });
         }
+    }
 
-        txnController.addCapacityAvailableHandler(controller -> {
-            try {
-                txnController.declare(currentTxn);
-            } catch (EngineFailedException efe) {
-                beginFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
+    private Transaction<TransactionController> pollPredeclaredTransaction() {
+        Transaction<TransactionController> transaction;
+
+        while ((transaction = predeclared.poll()) != null) {
+            switch (transaction.getState()) {
+                case IDLE:
+                case DECLARING:
+                case DECLARED:
+                    return transaction;
+                default:
+                    // Failed or otherwise unusable declarations are dropped
+                    break;
             }
-        });
+        }
+
+        return null;
+    }
+
+    private void replenishPredeclaredTransactions(TransactionController txnController) {
+        // Declares are queued behind any pending declare or discharge on the coordinator so
+        // that they travel together and the next begin can complete without a round trip.
+        while (predeclared.size() < predeclareLimit) {
+            final Transaction<TransactionController> transaction = txnController.newTransaction();
+
+            transaction.setLinkedResource(this);
+            predeclared.add(transaction);
+
+            txnController.addCapacityAvailableHandler(controller -> {
+                try {
+                    txnController.declare(transaction);
+                } catch (EngineFailedException efe) {
+                    predeclared.remove(transaction);
+                }
+            });
+        }
     }
 
     private TransactionController getOrCreateNewTxnController() {
@@ -345,7 +406,10 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         ClientFuture<Session> future = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
         LOG.trace("Declare of transaction:{} completed", transaction);
 
-        if (future.isComplete() || future.isCancelled()) {
+        if (future == null) {
+            // Predeclared transaction that has not yet been claimed by a call to begin.
+            return;
+        } else if (future.isComplete() || future.isCancelled()) {
             // The original declare operation cancelled the future likely due to timeout
             // which means this transaction will never be completed at a higher level so we
             // must discharge it now to ensure the remote can clean up associated resources.
@@ -360,6 +424,12 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     private void handleTransactionDeclareFailed(Transaction<TransactionController> transaction) {
         ClientFuture<Session> future = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
         LOG.trace("Declare of transaction:{} failed", transaction);
+
+        if (future == null) {
+            predeclared.remove(transaction);
+            return;
+        }
+
         ClientException cause = ClientExceptionSupport.convertToNonFatalException(transaction.getCondition());
         future.failed(new ClientTransactionDeclarationException(cause.getMessage(), cause));
     }
@@ -427,6 +497,9 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
                   .parentEndpointClosedHandler(null)
                   .engineShutdownHandler(null);
 
+        // Closing the coordinator implicitly rolls back any transactions declared in advance.
+        predeclared.clear();
+
         if (currentTxn != null) {
             ClientFuture<Session> future = null;
 
@@ -24,6 +24,7 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
@@ -33,6 +34,7 @@ import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.SectionEncoder;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.engine.util.StringUtils;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -143,6 +145,80 @@ public abstract class ClientMessageSupport {
         return buffer;
     }
 
+    //----- Message Forwarding
+
+    public static ProtonBuffer replaceDeliveryAnnotations(ProtonBuffer encoded, Map<String, Object> deliveryAnnotations) throws ClientException {
+        return replaceDeliveryAnnotations(DEFAULT_DECODER, THREAD_LOCAL_DECODER_STATE.get(), encoded, deliveryAnnotations);
+    }
+
+    /**
+     * Creates a view of the given encoded message in which any delivery annotations are replaced
+     * by the given annotations.  Only the leading header and delivery annotations sections are
+     * inspected, the header and all sections that follow the delivery annotations are shared with
+     * the original encoding rather than being decoded and re-encoded.
+     *
+     * @param decoder
+     *      The {@link Decoder} used to locate the boundaries of the leading message sections.
+     * @param decoderState
+     *      The {@link DecoderState} used with the given decoder.
+     * @param encoded
+     *      The encoded message whose readable bytes should be forwarded.
+     * @param deliveryAnnotations
+     *      The delivery annotations to encode in place of any existing annotations, or null to remove them.
+     *
+     * @return a buffer containing the encoded message with its delivery annotations replaced.
+     *
+     * @throws ClientException if the leading sections of the encoded message cannot be read.
+     */
+    public static ProtonBuffer replaceDeliveryAnnotations(Decoder decoder, DecoderState decoderState,
+                                                          ProtonBuffer encoded, Map<String, Object> deliveryAnnotations) throws ClientException {
+
+        final ProtonBuffer remaining = encoded.duplicate();
+        final int headerStart = remaining.getReadIndex();
+
+        int headerEnd = headerStart;
+
+        try {
+            if (skipSection(decoder, decoderState, remaining, Header.class)) {
+                headerEnd = remaining.getReadIndex();
+            }
+
+            skipSection(decoder, decoderState, remaining, DeliveryAnnotations.class);
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+
+        final ProtonCompositeBuffer result = new ProtonCompositeBuffer();
+
+        if (headerEnd > headerStart) {
+            result.append(encoded.slice(headerStart, headerEnd - headerStart));
+        }
+        if (deliveryAnnotations != null) {
+            final ProtonBuffer annotations = ProtonByteBufferAllocator.DEFAULT.allocate(DEFAULT_BUFFER_ALLOCATION);
+            SECTION_ENCODER.write(annotations, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
+            result.append(annotations);
+        }
+
+        return result.append(remaining.slice());
+    }
+
+    private static boolean skipSection(Decoder decoder, DecoderState decoderState, ProtonBuffer buffer, Class<?> sectionType) {
+        if (!buffer.isReadable()) {
+            return false;
+        }
+
+        final int sectionStart = buffer.getReadIndex();
+        final TypeDecoder<?> typeDecoder = decoder.readNextTypeDecoder(buffer, decoderState);
+
+        if (typeDecoder.getTypeClass() == sectionType) {
+            typeDecoder.skipValue(buffer, decoderState);
+            return true;
+        } else {
+            buffer.setReadIndex(sectionStart);
+            return false;
+        }
+    }
+
     //----- Message Decoding
 
     public static Message<?> decodeMessage(ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
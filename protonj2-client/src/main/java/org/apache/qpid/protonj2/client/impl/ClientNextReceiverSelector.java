@@ -81,7 +81,7 @@ final class ClientNextReceiverSelector {
         if (result == null) {
             pending.add(request); // Wait for the next incoming delivery
             if (timeout > 0) {
-                session.getScheduler().schedule(() -> {
+                session.scheduleTimeout(() -> {
                     if (!request.isDone()) {
                         pending.remove(request);
                         request.complete(null);
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.qpid.protonj2.client.NotificationStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers connection event notifications in order and one at a time using a target
+ * {@link Executor}, or directly on the calling thread when no executor is given.
+ * <p>
+ * Pending notifications are held in a queue of fixed capacity.  Notifications are submitted
+ * from the connection I/O thread which must never wait on the handlers as a handler may itself
+ * be waiting on the I/O thread, so when the queue is full further notifications spill into an
+ * unbounded overflow list which is moved into the queue, in order, as the handlers catch up.
+ * No notification is ever discarded, the overflow is logged and reported in the statistics.
+ */
+final class ClientNotificationDispatcher implements Executor, NotificationStats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationDispatcher.class);
+
+    private final String connectionId;
+    private final Executor target;
+    private final int capacity;
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+    private final ArrayDeque<Runnable> overflow = new ArrayDeque<>();
+
+    private boolean draining;
+    private int highWaterMark;
+    private long dispatched;
+    private long overflowed;
+
+    ClientNotificationDispatcher(String connectionId, Executor target, int capacity) {
+        this.connectionId = connectionId;
+        this.target = target;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void execute(Runnable notification) {
+        if (target == null) {
+            runNotification(notification);
+            return;
+        }
+
+        synchronized (this) {
+            if (pending.size() >= capacity) {
+                if (overflow.isEmpty()) {
+                    LOG.warn("Connection {} notification queue is full ({} pending), holding further event notifications in overflow", connectionId, pending.size());
+                }
+
+                overflowed++;
+                overflow.addLast(notification);
+            } else {
+                pending.addLast(notification);
+            }
+
+            highWaterMark = Math.max(highWaterMark, pending.size() + overflow.size());
+
+            if (draining) {
+                return;
+            }
+
+            draining = true;
+        }
+
+        try {
+            target.execute(this::drain);
+        } catch (RejectedExecutionException rex) {
+            LOG.trace("Notification executor rejected task, delivering notifications on the calling thread");
+            drain();
+        }
+    }
+
+    @Override
+    public synchronized int queueDepth() {
+        return pending.size() + overflow.size();
+    }
+
+    @Override
+    public synchronized int overflowDepth() {
+        return overflow.size();
+    }
+
+    @Override
+    public synchronized int highWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public synchronized long dispatchedCount() {
+        return dispatched;
+    }
+
+    @Override
+    public synchronized long overflowCount() {
+        return overflowed;
+    }
+
+    private void drain() {
+        while (true) {
+            final Runnable notification;
+
+            synchronized (this) {
+                notification = pending.pollFirst();
+                if (notification == null) {
+                    draining = false;
+                    return;
+                }
+
+                if (!overflow.isEmpty()) {
+                    pending.addLast(overflow.pollFirst());
+                }
+            }
+
+            runNotification(notification);
+        }
+    }
+
+    private void runNotification(Runnable notification) {
+        try {
+            notification.run();
+        } catch (Throwable error) {
+            LOG.trace("Connection {} event notification threw: ", connectionId, error);
+        } finally {
+            synchronized (this) {
+                dispatched++;
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -29,8 +31,10 @@ import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutExcepti
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.messaging.Released;
+import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -233,11 +237,27 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
             }
         }
 
+        // Offer the remote the outcomes already applied to deliveries that were not yet settled
+        // so that it can settle them on the new link instead of redelivering them.
+        Map<Binary, DeliveryState> unsettled = null;
+        if (options.recoverUnsettled() && protonReceiver.hasUnsettled()) {
+            unsettled = new LinkedHashMap<>();
+            for (IncomingDelivery delivery : protonReceiver.unsettled()) {
+                if (delivery.getState() != null) {
+                    unsettled.put(new Binary(delivery.getTag().tagBytes()), delivery.getState());
+                }
+            }
+        }
+
         protonReceiver.localCloseHandler(null);
         protonReceiver.localDetachHandler(null);
         protonReceiver.close();
         protonReceiver = ClientReceiverBuilder.recreateReceiver(session, protonReceiver, options);
         protonReceiver.setLinkedResource(this);
         protonReceiver.addCredit(previousCredit);
+
+        if (unsettled != null && !unsettled.isEmpty()) {
+            protonReceiver.setUnsettled(unsettled);
+        }
     }
 }
@@ -16,14 +16,20 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.SenderOptions;
@@ -34,6 +40,8 @@ import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedEx
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.messaging.Outcome;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
 import org.slf4j.Logger;
@@ -49,6 +57,8 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
     private final Deque<ClientOutgoingEnvelope> blocked = new ArrayDeque<>();
     private final SenderOptions options;
 
+    private Map<Binary, ClientTracker> recovering;
+
     ClientSender(ClientSession session, SenderOptions options, String senderId, org.apache.qpid.protonj2.engine.Sender protonSender) {
         super(session, senderId, options, protonSender);
 
@@ -79,6 +89,32 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         return sendMessage(ClientMessageSupport.convertMessage(message), deliveryAnnotations, false);
     }
 
+    @Override
+    public Tracker forward(Delivery delivery) throws ClientException {
+        checkClosedOrFailed();
+        return sendPayload(delivery.messageFormat(), encodedPayload(delivery), true);
+    }
+
+    @Override
+    public Tracker forward(Delivery delivery, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosedOrFailed();
+        return sendPayload(delivery.messageFormat(),
+            ClientMessageSupport.replaceDeliveryAnnotations(encodedPayload(delivery), deliveryAnnotations), true);
+    }
+
+    @Override
+    public Tracker tryForward(Delivery delivery) throws ClientException {
+        checkClosedOrFailed();
+        return sendPayload(delivery.messageFormat(), encodedPayload(delivery), false);
+    }
+
+    @Override
+    public Tracker tryForward(Delivery delivery, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosedOrFailed();
+        return sendPayload(delivery.messageFormat(),
+            ClientMessageSupport.replaceDeliveryAnnotations(encodedPayload(delivery), deliveryAnnotations), false);
+    }
+
     //----- Internal API
 
     SenderOptions options() {
@@ -96,6 +132,10 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
     //----- Handlers for proton receiver events
 
     private void handleCreditStateUpdated(org.apache.qpid.protonj2.engine.Sender sender) {
+        if (recovering != null && sender.isRemotelyOpen()) {
+            resumeRecoveredDeliveries();
+        }
+
         if (!blocked.isEmpty()) {
             while (sender.isSendable() && !blocked.isEmpty()) {
                 ClientOutgoingEnvelope held = blocked.peek();
@@ -117,7 +157,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
             }
         }
 
-        if (sender.isDraining() && sender.current() == null && blocked.isEmpty()) {
+        if (sender.isDraining() && sender.current() == null && blocked.isEmpty() && recovering == null) {
             sender.drained();
         }
     }
@@ -131,7 +171,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     private void addToTailOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
             }, options.sendTimeout(), TimeUnit.MILLISECONDS));
         }
@@ -141,7 +181,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     private void addToHeadOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
             }, options.sendTimeout(), TimeUnit.MILLISECONDS));
         }
@@ -150,13 +190,16 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
     }
 
     private Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
+        return sendPayload(message.messageFormat(), message.encode(deliveryAnnotations), waitForCredit);
+    }
+
+    private Tracker sendPayload(int messageFormat, ProtonBuffer buffer, boolean waitForCredit) throws ClientException {
         final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
-        final ProtonBuffer buffer = message.encode(deliveryAnnotations);
 
         executor.execute(() -> {
             if (notClosedOrFailed(operation)) {
                 try {
-                    final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, message.messageFormat(), buffer, operation);
+                    final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, messageFormat, buffer, operation);
 
                     if (protonSender.isSendable() && protonSender.current() == null) {
                         session.getTransactionContext().send(envelope, null, protonSender.getSenderSettleMode() == SenderSettleMode.SETTLED);
@@ -174,6 +217,19 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         return session.request(this, operation);
     }
 
+    private static ProtonBuffer encodedPayload(Delivery delivery) throws ClientException {
+        if (delivery instanceof ClientDelivery) {
+            return ((ClientDelivery) delivery).encodedPayload();
+        }
+
+        // Deliveries from outside this client can only provide the encoded payload as a stream
+        try (InputStream payload = delivery.rawInputStream()) {
+            return ProtonByteBufferAllocator.DEFAULT.wrap(payload.readAllBytes());
+        } catch (IOException e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+    }
+
     private Tracker createTracker(OutgoingDelivery delivery) {
         return new ClientTracker(this, delivery);
     }
@@ -193,11 +249,78 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         protonSender.localDetachHandler(null);
         protonSender.close();
         if (protonSender.hasUnsettled()) {
-            failPendingUnsettledAndBlockedSends(
-                new ClientConnectionRemotelyClosedException("Connection failed and send result is unknown"));
+            if (options.recoverUnsettled()) {
+                captureUnsettledForRecovery();
+            } else {
+                failPendingUnsettledAndBlockedSends(
+                    new ClientConnectionRemotelyClosedException("Connection failed and send result is unknown"));
+            }
         }
         protonSender = ClientSenderBuilder.recreateSender(session, protonSender, options);
         protonSender.setLinkedResource(this);
+
+        if (recovering != null) {
+            final Map<Binary, DeliveryState> unsettled = new LinkedHashMap<>(recovering.size());
+            recovering.forEach((tag, tracker) -> unsettled.put(tag, tracker.delivery().getState()));
+            protonSender.setUnsettled(unsettled);
+        }
+    }
+
+    private void captureUnsettledForRecovery() {
+        if (recovering == null) {
+            recovering = new LinkedHashMap<>();
+        }
+
+        protonSender.unsettled().forEach((delivery) -> {
+            recovering.put(new Binary(delivery.getTag().tagBytes()), delivery.getLinkedResource());
+        });
+    }
+
+    private void completeRecoveredDeliveries(Map<Binary, DeliveryState> remoteUnsettled) {
+        // Deliveries whose tag the remote does not know at all were never received and so their
+        // send result is unknown, the rest are resumed once the new link has credit to do so.
+        recovering.entrySet().removeIf((entry) -> {
+            if (remoteUnsettled == null || !remoteUnsettled.containsKey(entry.getKey())) {
+                entry.getValue().settlementFuture().failed(
+                    new ClientConnectionRemotelyClosedException("Connection failed and send result is unknown"));
+                return true;
+            } else {
+                return false;
+            }
+        });
+
+        resumeRecoveredDeliveries();
+    }
+
+    private void resumeRecoveredDeliveries() {
+        final Map<Binary, DeliveryState> remoteUnsettled = protonSender.getRemoteUnsettled();
+        final Iterator<Map.Entry<Binary, ClientTracker>> entries = recovering.entrySet().iterator();
+
+        while (protonSender.isSendable() && protonSender.current() == null && entries.hasNext()) {
+            final Map.Entry<Binary, ClientTracker> entry = entries.next();
+            final DeliveryState remoteState = remoteUnsettled.get(entry.getKey());
+            final ClientTracker tracker = entry.getValue();
+
+            entries.remove();
+
+            // A terminal outcome retained by the remote is adopted and settled as a normal remote update
+            // would be, anything else cannot be resent as the payload is gone so it is settled as is.
+            final boolean outcome = remoteState instanceof Outcome;
+            final OutgoingDelivery resumed = protonSender.next();
+
+            resumed.setTag(entry.getKey().arrayCopy());
+            resumed.setResume(true);
+            resumed.setLinkedResource(tracker);
+            resumed.disposition(outcome ? remoteState : null, !outcome || options.autoSettle());
+
+            tracker.processRecoveredRemoteState(resumed, ClientDeliveryState.fromProtonType(remoteState));
+
+            resumed.writeBytes(null);
+        }
+
+        if (recovering.isEmpty()) {
+            recovering = null;
+        }
     }
 
     @Override
@@ -219,6 +342,11 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
             }
         });
 
+        if (recovering != null) {
+            recovering.values().forEach((tracker) -> tracker.settlementFuture().failed(cause));
+            recovering = null;
+        }
+
         // Cancel all blocked sends passing an appropriate error to the future
         blocked.removeIf((held) -> {
             held.failed(cause);
@@ -233,7 +361,9 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     @Override
     protected void linkSpecificRemoteOpenHandler() {
-        // Nothing needed for sender handling
+        if (recovering != null) {
+            completeRecoveredDeliveries(protonSender.getRemoteUnsettled());
+        }
     }
 
     @Override
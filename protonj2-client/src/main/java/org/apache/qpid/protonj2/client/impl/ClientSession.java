@@ -459,12 +459,16 @@ public class ClientSession implements Session {
 
     ScheduledFuture<?> scheduleRequestTimeout(final AsyncResult<?> request, long timeout, Supplier<ClientException> errorSupplier) {
         if (timeout != INFINITE) {
-            return serializer.schedule(() -> request.failed(errorSupplier.get()), timeout, TimeUnit.MILLISECONDS);
+            return scheduleTimeout(() -> request.failed(errorSupplier.get()), timeout, TimeUnit.MILLISECONDS);
         } else {
             return null;
         }
     }
 
+    ScheduledFuture<?> scheduleTimeout(Runnable task, long delay, TimeUnit unit) {
+        return connection.scheduleTimeout(task, delay, unit);
+    }
+
     <T> T request(Object requestor, ClientFuture<T> request) throws ClientException {
         return connection.request(requestor, request);
     }
@@ -534,8 +538,9 @@ public class ClientSession implements Session {
     //----- Handle Events from the Proton Session
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Session session) {
-        if (options.openTimeout() > 0) {
-            serializer.schedule(() -> {
+        // A session recreated on reconnect has already completed its open future so no timeout is needed
+        if (options.openTimeout() > 0 && !openFuture.isDone()) {
+            scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateSessionShutdown(new ClientOperationTimedOutException("Session open timed out waiting for remote to respond"));
                 }
@@ -18,12 +18,16 @@ package org.apache.qpid.protonj2.client.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.client.StreamDelivery;
 import org.apache.qpid.protonj2.client.exceptions.ClientDeliveryAbortedException;
@@ -166,19 +170,30 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
 
     //----- Raw InputStream Implementation
 
-    private class RawDeliveryInputStream extends InputStream {
+    final class RawDeliveryInputStream extends InputStream {
 
         private final int INVALID_MARK = -1;
 
         private final ProtonCompositeBuffer buffer = new ProtonCompositeBuffer();
         private final ScheduledExecutorService executor = receiver.session().getScheduler();
 
+        private final ClientStreamReadAheadBuffer readAhead;
+
         private ClientFuture<Integer> readRequest;
 
         private AtomicBoolean closed = new AtomicBoolean();
         private int markIndex = INVALID_MARK;
         private int markLimit;
 
+        RawDeliveryInputStream() {
+            if (receiver.receiverOptions().readAhead()) {
+                readAhead = new ClientStreamReadAheadBuffer(receiver.receiverOptions().readBufferSize());
+                executor.execute(this::fillReadAhead);
+            } else {
+                readAhead = null;
+            }
+        }
+
         @Override
         public void close() throws IOException {
             markLimit = 0;
@@ -208,6 +223,11 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
                             readRequest = null;
                         }
 
+                        if (readAhead != null) {
+                            readAhead.end();
+                            readAhead.clear();
+                        }
+
                         closed.complete(null);
                     });
 
@@ -247,6 +267,15 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
 
             // Check for any bytes in the delivery that haven't been moved to the read buffer yet
             if (buffer.isReadable()) {
+                return buffer.getReadableBytes();
+            } else if (readAhead != null) {
+                ProtonBuffer chunk;
+                while ((chunk = readAhead.poll()) != null) {
+                    buffer.append(chunk);
+                }
+
+                resumeReadAheadIfStalled();
+
                 return buffer.getReadableBytes();
             } else {
                 final ClientFuture<Integer> request = receiver.session().getFutureFactory().createFuture();
@@ -358,6 +387,66 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
             return super.transferTo(target);
         }
 
+        /*
+         * Writes up to the given number of bytes to the channel directly from the views of the buffered
+         * delivery payload, more bytes are only requested from the delivery once all that was buffered
+         * has been written.  Returns fewer bytes than requested only if the delivery has no more bytes.
+         */
+        long transferTo(WritableByteChannel target, long limit) throws IOException {
+            checkStreamStateIsValid();
+
+            long transferred = 0;
+
+            while (transferred < limit) {
+                if (buffer.isReadable()) {
+                    final int chunk = (int) Math.min(buffer.getReadableBytes(), limit - transferred);
+
+                    for (ByteBuffer view : buffer.nioBuffers(buffer.getReadIndex(), chunk)) {
+                        while (view.hasRemaining()) {
+                            target.write(view);
+                        }
+                    }
+
+                    buffer.skipBytes(chunk);
+                    transferred += chunk;
+
+                    tryReleaseReadBuffers();
+                } else if (requestMoreData() < 0) {
+                    break;
+                }
+            }
+
+            return transferred;
+        }
+
+        /*
+         * Reads up to the given number of bytes into the remaining space of the target buffer, waiting for
+         * bytes to arrive only if none are currently buffered.  Returns -1 if the delivery has no more bytes.
+         */
+        int read(ByteBuffer target, int length) throws IOException {
+            checkStreamStateIsValid();
+
+            while (!buffer.isReadable()) {
+                if (requestMoreData() < 0) {
+                    return -1;
+                }
+            }
+
+            final int count = Math.min(length, Math.min(target.remaining(), buffer.getReadableBytes()));
+            final int limit = target.limit();
+
+            target.limit(target.position() + count);
+            try {
+                buffer.readBytes(target);
+            } finally {
+                target.limit(limit);
+            }
+
+            tryReleaseReadBuffers();
+
+            return count;
+        }
+
         private void tryReleaseReadBuffers() {
             if (buffer.getReadIndex() - markIndex > markLimit) {
                 markIndex = INVALID_MARK;
@@ -370,6 +459,8 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
             if (closed.get()) {
                 // Clear any pending data to expand session window if not yet complete
                 delivery.readAll();
+            } else if (readAhead != null) {
+                fillReadAhead();
             } else {
                 // An input stream is awaiting some more incoming bytes, check to see if
                 // the delivery had a non-empty transfer frame and provide them.
@@ -387,18 +478,30 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
         }
 
         private void handleDeliveryAborted(IncomingDelivery delivery) {
+            if (readAhead != null) {
+                readAhead.fail(new ClientDeliveryAbortedException("The remote sender has aborted this delivery"));
+            }
+
             if (readRequest != null) {
                 readRequest.failed(new ClientDeliveryAbortedException("The remote sender has aborted this delivery"));
             }
         }
 
         private void handleReceiverClosed(ClientStreamReceiver receiver) {
+            if (readAhead != null) {
+                readAhead.fail(new ClientResourceRemotelyClosedException("The receiver link has been remotely closed."));
+            }
+
             if (readRequest != null) {
                 readRequest.failed(new ClientResourceRemotelyClosedException("The receiver link has been remotely closed."));
             }
         }
 
         private int requestMoreData() throws IOException {
+            if (readAhead != null) {
+                return takeReadAhead();
+            }
+
             final ClientFuture<Integer> request = receiver.session().getFutureFactory().createFuture();
 
             try {
@@ -423,6 +526,65 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
             }
         }
 
+        /*
+         * Moves the next chunk handed off by the IO thread into the read buffer waiting only if none
+         * has been handed off yet, no request is made of the IO thread unless it has stopped filling
+         * the read ahead buffer because it was full.
+         */
+        private int takeReadAhead() throws IOException {
+            try {
+                ProtonBuffer chunk = readAhead.poll();
+                if (chunk == null) {
+                    resumeReadAheadIfStalled();
+                    chunk = readAhead.take();
+                }
+
+                resumeReadAheadIfStalled();
+
+                if (chunk == null) {
+                    return -1;
+                }
+
+                buffer.append(chunk);
+
+                return buffer.getReadableBytes();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for delivery data");
+            } catch (Exception e) {
+                throw new IOException("Error reading requested data", e);
+            }
+        }
+
+        private void resumeReadAheadIfStalled() {
+            if (readAhead.shouldResume()) {
+                executor.execute(this::fillReadAhead);
+            }
+        }
+
+        /*
+         * Called on the IO thread to hand off the bytes available in the delivery to the reader.
+         */
+        private void fillReadAhead() {
+            if (closed.get()) {
+                return;
+            }
+
+            if (protonDelivery.getLink().isLocallyClosedOrDetached()) {
+                readAhead.fail(new ClientException("Cannot read from delivery due to link having been closed"));
+            } else {
+                if (protonDelivery.available() > 0 && readAhead.hasCapacity()) {
+                    readAhead.offer(protonDelivery.readAll());
+                }
+
+                if (protonDelivery.isAborted()) {
+                    readAhead.fail(new ClientDeliveryAbortedException("The remote sender has aborted this delivery"));
+                } else if (!protonDelivery.isPartial() && protonDelivery.available() == 0) {
+                    readAhead.end();
+                }
+            }
+        }
+
         private void checkStreamStateIsValid() throws IOException {
             if (closed.get()) {
                 throw new IOException("The InputStream has been explicitly closed");
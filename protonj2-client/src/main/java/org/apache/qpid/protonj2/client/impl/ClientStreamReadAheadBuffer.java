@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+
+/**
+ * Bounded single producer single consumer hand off of incoming delivery payload from the
+ * connection IO thread to the application thread reading a streamed delivery.
+ * <p>
+ * The IO thread queues payload chunks while the buffered byte count is below the capacity
+ * and the reader takes them without any cross thread request, the reader only waits when
+ * the queue is empty and the IO thread only signals the reader when it is waiting.  Once the
+ * IO thread has stopped queuing because the buffer was full the reader reports when enough
+ * has been consumed that the IO thread should be asked to resume.
+ */
+final class ClientStreamReadAheadBuffer {
+
+    private final int capacity;
+    private final ConcurrentLinkedQueue<ProtonBuffer> chunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+    private final AtomicBoolean stalled = new AtomicBoolean();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private volatile boolean readerWaiting;
+    private volatile boolean ended;
+    private volatile ClientException failure;
+
+    ClientStreamReadAheadBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    //----- Producer API used from the connection IO thread
+
+    /**
+     * Checks if the buffer can accept more payload, when it cannot the buffer is marked as stalled
+     * so that the reader can report when the producer should resume.
+     *
+     * @return true if the producer can queue more payload into this buffer.
+     */
+    boolean hasCapacity() {
+        if (queuedBytes.get() < capacity) {
+            return true;
+        }
+
+        stalled.set(true);
+
+        // The reader may have consumed from the buffer before it could observe the stall.
+        return queuedBytes.get() < capacity && stalled.compareAndSet(true, false);
+    }
+
+    /**
+     * Queues the given payload for the reader.
+     *
+     * @param chunk
+     *      The payload chunk to hand off to the reader.
+     */
+    void offer(ProtonBuffer chunk) {
+        if (chunk.isReadable()) {
+            queuedBytes.addAndGet(chunk.getReadableBytes());
+            chunks.offer(chunk);
+            signalReader();
+        }
+    }
+
+    /**
+     * Marks the end of the payload, the reader is given any queued payload and then the end of stream.
+     */
+    void end() {
+        ended = true;
+        signalReader();
+    }
+
+    /**
+     * Marks the end of the payload due to an error, the reader is given any queued payload and then
+     * the given error.
+     *
+     * @param cause
+     *      The error to report to the reader once the queued payload is consumed.
+     */
+    void fail(ClientException cause) {
+        failure = cause;
+        ended = true;
+        signalReader();
+    }
+
+    //----- Consumer API used from the application thread
+
+    /**
+     * @return the next queued payload chunk or null if none is currently queued.
+     */
+    ProtonBuffer poll() {
+        final ProtonBuffer chunk = chunks.poll();
+
+        if (chunk != null) {
+            queuedBytes.addAndGet(-chunk.getReadableBytes());
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Takes the next queued payload chunk waiting for one to be queued if necessary.
+     *
+     * @return the next queued payload chunk or null if the end of the payload has been reached.
+     *
+     * @throws ClientException if the payload ended due to an error.
+     * @throws InterruptedException if interrupted while waiting for payload.
+     */
+    ProtonBuffer take() throws ClientException, InterruptedException {
+        ProtonBuffer chunk = poll();
+
+        if (chunk == null) {
+            lock.lock();
+            try {
+                readerWaiting = true;
+                while ((chunk = poll()) == null && !ended) {
+                    notEmpty.await();
+                }
+            } finally {
+                readerWaiting = false;
+                lock.unlock();
+            }
+        }
+
+        if (chunk == null && failure != null) {
+            throw failure;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Checks if the producer stopped queuing because the buffer was full and enough payload has
+     * since been consumed that it should resume, only one caller is told to resume for each stall.
+     *
+     * @return true if the producer should be asked to resume queuing payload.
+     */
+    boolean shouldResume() {
+        return queuedBytes.get() <= capacity / 2 && stalled.compareAndSet(true, false);
+    }
+
+    /**
+     * @return the number of payload bytes currently queued for the reader.
+     */
+    int available() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * Discards any queued payload.
+     */
+    void clear() {
+        ProtonBuffer chunk;
+        while ((chunk = poll()) != null) {
+            chunk.release();
+        }
+    }
+
+    private void signalReader() {
+        if (readerWaiting) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -90,7 +90,7 @@ public final class ClientStreamReceiver extends ClientReceiverLinkType<StreamRec
                         final ScheduledFuture<?> timeoutFuture;
 
                         if (timeout > 0) {
-                            timeoutFuture = session.getScheduler().schedule(() -> {
+                            timeoutFuture = session.scheduleTimeout(() -> {
                                 receiveRequests.remove(receive);
                                 receive.complete(null); // Timed receive returns null on failed wait.
                             }, timeout, unit);
@@ -19,9 +19,12 @@ package org.apache.qpid.protonj2.client.impl;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -79,7 +82,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     private final ClientStreamReceiver receiver;
     private final ClientStreamDelivery delivery;
-    private final InputStream deliveryStream;
+    private final ClientStreamDelivery.RawDeliveryInputStream deliveryStream;
     private final IncomingDelivery protonDelivery;
     private final StreamDecoder protonDecoder = ProtonStreamDecoderFactory.create();
     private final StreamDecoderState decoderState = protonDecoder.newDecoderState();
@@ -94,7 +97,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
     private StreamState currentState = StreamState.IDLE;
     private MessageBodyInputStream bodyStream;
 
-    ClientStreamReceiverMessage(ClientStreamReceiver receiver, ClientStreamDelivery delivery, InputStream deliveryStream) {
+    ClientStreamReceiverMessage(ClientStreamReceiver receiver, ClientStreamDelivery delivery, ClientStreamDelivery.RawDeliveryInputStream deliveryStream) {
         this.receiver = receiver;
         this.delivery = delivery;
         this.deliveryStream = deliveryStream;
@@ -642,6 +645,45 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
         return bodyStream;
     }
 
+    @Override
+    public long transferTo(WritableByteChannel target) throws ClientException {
+        Objects.requireNonNull(target, "The target channel cannot be null");
+
+        final MessageBodyInputStream stream = bodyStreamForTransfer();
+
+        if (stream == null) {
+            return 0;
+        }
+
+        try {
+            final long transferred = stream.transferTo(target);
+
+            // Body is consumed so advance past any footer to complete the message read.
+            ensureStreamDecodedTo(StreamState.FOOTER_READ);
+
+            return transferred;
+        } catch (IOException e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    @Override
+    public int readBody(ByteBuffer target) throws ClientException {
+        Objects.requireNonNull(target, "The target buffer cannot be null");
+
+        final MessageBodyInputStream stream = bodyStreamForTransfer();
+
+        if (stream == null) {
+            return -1;
+        }
+
+        try {
+            return stream.read(target);
+        } catch (IOException e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
     @Override
     public StreamReceiverMessage body(InputStream value) throws ClientUnsupportedOperationException {
         throw new ClientUnsupportedOperationException("Cannot encode from an StreamReceiverMessage instance.");
@@ -656,6 +698,15 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     //----- Internal Streamed Delivery API and support methods
 
+    private MessageBodyInputStream bodyStreamForTransfer() throws ClientException {
+        // Once the body has been fully transferred further calls report the end of the body
+        if (currentState == StreamState.FOOTER_READ && bodyStream != null) {
+            return bodyStream;
+        }
+
+        return (MessageBodyInputStream) body();
+    }
+
     private void checkClosedOrAborted() throws ClientIllegalStateException {
         if (receiver.isClosed()) {
             throw new ClientIllegalStateException("The parent Receiver instance has already been closed.");
@@ -832,6 +883,48 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
             return bytesSkipped;
         }
 
+        public long transferTo(WritableByteChannel target) throws IOException {
+            checkClosed();
+
+            long transferred = 0;
+
+            while (remainingSectionBytes > 0 || tryMoveToNextBodySection()) {
+                final long sectionBytes = remainingSectionBytes;
+                final long written = deliveryStream.transferTo(target, sectionBytes);
+
+                transferred += written;
+                remainingSectionBytes -= written;
+
+                if (written < sectionBytes) {
+                    break; // The delivery ended before the section was fully read.
+                }
+            }
+
+            return transferred;
+        }
+
+        public int read(ByteBuffer target) throws IOException {
+            checkClosed();
+
+            if (!target.hasRemaining()) {
+                return 0;
+            }
+
+            while (remainingSectionBytes == 0) {
+                if (!tryMoveToNextBodySection()) {
+                    return -1;  // We are at the end of the body sections
+                }
+            }
+
+            final int bytesRead = deliveryStream.read(target, (int) Math.min(remainingSectionBytes, Integer.MAX_VALUE));
+
+            if (bytesRead > 0) {
+                remainingSectionBytes -= bytesRead;
+            }
+
+            return bytesRead;
+        }
+
         public abstract Class<?> getBodyTypeClass();
 
         protected abstract void validateAndScanNextSection() throws ClientException;
@@ -132,7 +132,7 @@ public final class ClientStreamSender extends ClientSenderLinkType<StreamSender>
 
     private void addToTailOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
             }, options.sendTimeout(), TimeUnit.MILLISECONDS));
         }
@@ -142,7 +142,7 @@ public final class ClientStreamSender extends ClientSenderLinkType<StreamSender>
 
     private void addToHeadOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
             }, options.sendTimeout(), TimeUnit.MILLISECONDS));
         }
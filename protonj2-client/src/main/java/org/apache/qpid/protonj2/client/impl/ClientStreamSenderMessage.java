@@ -18,6 +18,12 @@ package org.apache.qpid.protonj2.client.impl;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,6 +37,7 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonNioByteBuffer;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.OutputStreamOptions;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
@@ -60,6 +67,10 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     private static final int DATA_SECTION_HEADER_ENCODING_SIZE = 8;
 
+    // Largest Data section written for a file transfer and the size of the regions mapped from the file
+    private static final int MAX_FILE_DATA_SECTION_SIZE = Integer.MAX_VALUE;
+    private static final int FILE_MAPPING_REGION_SIZE = 64 * 1024 * 1024;
+
     // Standard encoding data for a Data Section (Requires four byte size written before writing the actual data)
     private static final byte[] DATA_SECTION_PREAMBLE = { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
                                                           EncodingCodes.SMALLULONG,
@@ -299,6 +310,76 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         return new SendContextRawBytesOutputStream(ProtonByteBufferAllocator.DEFAULT.allocate(writeBufferSize, writeBufferSize));
     }
 
+    @Override
+    public StreamSenderMessage transferFrom(Path file) throws ClientException {
+        Objects.requireNonNull(file, "The file to transfer cannot be null");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return transferFrom(channel, 0, channel.size());
+        } catch (IOException e) {
+            throw new ClientException("Failed to open the file to transfer: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StreamSenderMessage transferFrom(FileChannel channel, long position, long count) throws ClientException {
+        Objects.requireNonNull(channel, "The channel to transfer from cannot be null");
+
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("The transfer position and count cannot be negative");
+        }
+
+        if (completed()) {
+            throw new ClientIllegalStateException("Cannot transfer a file to a completed send context");
+        }
+
+        if (aborted()) {
+            throw new ClientIllegalStateException("Cannot transfer a file to an aborted send context");
+        }
+
+        if (currentState == StreamState.BODY_WRITTING) {
+            throw new ClientIllegalStateException("Cannot add more body sections while an OutputStream is active");
+        }
+
+        transitionToWritableState();
+
+        try {
+            // As with FileChannel.transferTo the count is limited to the bytes that remain in the file
+            long remaining = Math.min(count, Math.max(0, channel.size() - position));
+            long offset = position;
+
+            while (remaining > 0) {
+                final int sectionSize = (int) Math.min(remaining, MAX_FILE_DATA_SECTION_SIZE);
+
+                appendDataToBuffer(createDataSectionPreamble(sectionSize));
+
+                for (long sectionRemaining = sectionSize; sectionRemaining > 0; ) {
+                    final long regionSize = Math.min(sectionRemaining, FILE_MAPPING_REGION_SIZE);
+                    final MappedByteBuffer region = channel.map(MapMode.READ_ONLY, offset, regionSize);
+
+                    while (region.hasRemaining()) {
+                        final int viewSize = Math.min(region.remaining(), writeBufferSize);
+                        final ByteBuffer view = region.slice();
+
+                        view.limit(viewSize);
+                        region.position(region.position() + viewSize);
+
+                        appendDataToBuffer(new ProtonNioByteBuffer(view));
+                    }
+
+                    offset += regionSize;
+                    sectionRemaining -= regionSize;
+                }
+
+                remaining -= sectionSize;
+            }
+        } catch (IOException e) {
+            throw new ClientException("Failed to read the file to transfer: " + e.getMessage(), e);
+        }
+
+        return this;
+    }
+
     //----- OutputStream implementation for the Send Context
 
     private abstract class StreamMessageOutputStream extends OutputStream {
@@ -443,12 +524,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         public SingularDataSectionOutputStream(OutputStreamOptions options, ProtonBuffer buffer) throws ClientException {
             super(options, buffer);
 
-            ProtonBuffer preamble = ProtonByteBufferAllocator.DEFAULT.allocate(DATA_SECTION_HEADER_ENCODING_SIZE, DATA_SECTION_HEADER_ENCODING_SIZE);
-
-            preamble.writeBytes(DATA_SECTION_PREAMBLE);
-            preamble.writeInt(options.bodyLength());
-
-            appendDataToBuffer(preamble);
+            appendDataToBuffer(createDataSectionPreamble(options.bodyLength()));
         }
     }
 
@@ -461,14 +537,8 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         @Override
         protected void doFlushPending(boolean complete) throws IOException {
             if (streamBuffer.isReadable()) {
-
-                ProtonBuffer preamble = ProtonByteBufferAllocator.DEFAULT.allocate(DATA_SECTION_HEADER_ENCODING_SIZE, DATA_SECTION_HEADER_ENCODING_SIZE);
-
-                preamble.writeBytes(DATA_SECTION_PREAMBLE);
-                preamble.writeInt(streamBuffer.getReadableBytes());
-
                 try {
-                    appendDataToBuffer(preamble);
+                    appendDataToBuffer(createDataSectionPreamble(streamBuffer.getReadableBytes()));
                 } catch (ClientException e) {
                     throw new IOException(e);
                 }
@@ -945,6 +1015,15 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         }
     }
 
+    private static ProtonBuffer createDataSectionPreamble(int sectionSize) {
+        final ProtonBuffer preamble = ProtonByteBufferAllocator.DEFAULT.allocate(DATA_SECTION_HEADER_ENCODING_SIZE, DATA_SECTION_HEADER_ENCODING_SIZE);
+
+        preamble.writeBytes(DATA_SECTION_PREAMBLE);
+        preamble.writeInt(sectionSize);
+
+        return preamble;
+    }
+
     private void transitionToWritableState() throws ClientException {
         if (currentState == StreamState.PREAMBLE) {
 
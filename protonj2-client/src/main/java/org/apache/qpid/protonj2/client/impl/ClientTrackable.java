@@ -39,7 +39,7 @@ import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 public abstract class ClientTrackable<SenderType extends ClientSenderLinkType<?>, TrackerType> {
 
     protected final SenderType sender;
-    protected final OutgoingDelivery delivery;
+    protected volatile OutgoingDelivery delivery;
 
     @SuppressWarnings("rawtypes")
     protected static final AtomicIntegerFieldUpdater<ClientTrackable> REMOTELY_SETTLED_UPDATER =
@@ -210,6 +210,23 @@ public abstract class ClientTrackable<SenderType extends ClientSenderLinkType<?>
 
     //----- Internal Event hooks for delivery updates
 
+    /*
+     * Rebinds the tracker to the delivery that resumed it on the link recreated after a reconnect
+     * using the state the remote reported for it in the unsettled map of its Attach.
+     */
+    void processRecoveredRemoteState(OutgoingDelivery resumed, DeliveryState remoteState) {
+        synchronized (this) {
+            delivery = resumed;
+            delivery.deliveryStateUpdatedHandler(this::processDeliveryUpdated);
+
+            REMOTEL_DELIVERY_STATE_UPDATER.lazySet(this, remoteState);
+
+            if (remoteSettlementFuture != null && delivery.isSettled()) {
+                remoteSettlementFuture.complete(self());
+            }
+        }
+    }
+
     private void processDeliveryUpdated(OutgoingDelivery delivery) {
         if (delivery.isRemotelySettled()) {
             if (sender.options.autoSettle()) {
@@ -18,8 +18,10 @@ package org.apache.qpid.protonj2.client.util;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.qpid.protonj2.client.ReconnectLocation;
 
@@ -29,7 +31,13 @@ import org.apache.qpid.protonj2.client.ReconnectLocation;
  */
 public class ReconnectLocationPool {
 
+    /*
+     * Weight given to the most recent connect time sample when updating the average.
+     */
+    private static final double CONNECT_TIME_SAMPLE_WEIGHT = 0.3d;
+
     private final LinkedList<ReconnectLocation> entries;
+    private final Map<ReconnectLocation, LocationHealth> health = new IdentityHashMap<>();
 
     /**
      * Creates an empty {@link ReconnectLocationPool}.
@@ -91,6 +99,73 @@ public class ReconnectLocationPool {
         return next;
     }
 
+    /**
+     * Returns the entry in the pool with the best health score, the entry with the fewest
+     * consecutive failed connection attempts is preferred and amongst those the one with the
+     * lowest average connect time is chosen.  Entries that have never been attempted are
+     * preferred over entries with a connect time history so that every location is probed
+     * at least once.  The chosen entry is shifted to the end of the list so that ties are
+     * resolved in the same round robin order that {@link #getNext()} uses.
+     *
+     * @return the healthiest entry that should be used for a connection attempt.
+     */
+    public ReconnectLocation getNextPreferred() {
+        synchronized (entries) {
+            ReconnectLocation best = null;
+            LocationHealth bestHealth = null;
+
+            for (ReconnectLocation candidate : entries) {
+                final LocationHealth candidateHealth = health.get(candidate);
+
+                if (best == null || LocationHealth.compare(candidateHealth, bestHealth) < 0) {
+                    best = candidate;
+                    bestHealth = candidateHealth;
+                }
+            }
+
+            if (best != null) {
+                entries.remove(best);
+                entries.addLast(best);
+            }
+
+            return best;
+        }
+    }
+
+    /**
+     * Records a successful connection to the given location which updates the health score of
+     * that location for use by {@link #getNextPreferred()}.
+     *
+     * @param location
+     *      The {@link ReconnectLocation} that was successfully connected to.
+     * @param connectTimeMillis
+     *      The time in milliseconds that it took for the connection to be established.
+     */
+    public void connectionSucceeded(ReconnectLocation location, long connectTimeMillis) {
+        synchronized (entries) {
+            final LocationHealth locationHealth = healthOf(location);
+            if (locationHealth != null) {
+                locationHealth.succeeded(connectTimeMillis);
+            }
+        }
+    }
+
+    /**
+     * Records a failed connection attempt to the given location which updates the health score
+     * of that location for use by {@link #getNextPreferred()}.
+     *
+     * @param location
+     *      The {@link ReconnectLocation} that could not be connected to.
+     */
+    public void connectionFailed(ReconnectLocation location) {
+        synchronized (entries) {
+            final LocationHealth locationHealth = healthOf(location);
+            if (locationHealth != null) {
+                locationHealth.failed();
+            }
+        }
+    }
+
     /**
      * Randomizes the order of the list of entries contained within the pool.
      */
@@ -164,6 +239,7 @@ public class ReconnectLocationPool {
 	        synchronized (entries) {
 	            for (ReconnectLocation candidate : entries) {
 	                if (compareEntries(entry, candidate)) {
+	                    health.remove(candidate);
 	                    return entries.remove(candidate);
 	                }
 	            }
@@ -180,6 +256,7 @@ public class ReconnectLocationPool {
     public void removeAll() {
         synchronized (entries) {
             entries.clear();
+            health.clear();
         }
     }
 
@@ -192,8 +269,19 @@ public class ReconnectLocationPool {
      */
     public void replaceAll(List<ReconnectLocation> replacements) {
         synchronized (entries) {
+            final Map<ReconnectLocation, LocationHealth> previous = new IdentityHashMap<>(health);
+
             entries.clear();
+            health.clear();
             addAll(replacements);
+
+            // Retain the health history of any location that survived the replacement
+            previous.forEach((location, locationHealth) -> {
+                final ReconnectLocation retained = find(location);
+                if (retained != null) {
+                    health.put(retained, locationHealth);
+                }
+            });
         }
     }
 
@@ -217,6 +305,26 @@ public class ReconnectLocationPool {
 
     //----- Internal methods that require the locks be held ------------------//
 
+    private ReconnectLocation find(ReconnectLocation location) {
+        for (ReconnectLocation candidate : entries) {
+            if (compareEntries(location, candidate)) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private LocationHealth healthOf(ReconnectLocation location) {
+        final ReconnectLocation pooled = find(location);
+
+        if (pooled != null) {
+            return health.computeIfAbsent(pooled, (key) -> new LocationHealth());
+        } else {
+            return null;
+        }
+    }
+
     private boolean contains(ReconnectLocation newEntry) {
         boolean result = false;
         for (ReconnectLocation entry : entries) {
@@ -245,4 +353,38 @@ public class ReconnectLocationPool {
 
         return result;
     }
+
+    private static final class LocationHealth {
+
+        private int consecutiveFailures;
+        private double averageConnectTime = -1;
+
+        void succeeded(long connectTimeMillis) {
+            consecutiveFailures = 0;
+
+            if (averageConnectTime < 0) {
+                averageConnectTime = connectTimeMillis;
+            } else {
+                averageConnectTime += CONNECT_TIME_SAMPLE_WEIGHT * (connectTimeMillis - averageConnectTime);
+            }
+        }
+
+        void failed() {
+            consecutiveFailures++;
+        }
+
+        static int compare(LocationHealth first, LocationHealth second) {
+            final int firstFailures = first == null ? 0 : first.consecutiveFailures;
+            final int secondFailures = second == null ? 0 : second.consecutiveFailures;
+
+            if (firstFailures != secondFailures) {
+                return Integer.compare(firstFailures, secondFailures);
+            }
+
+            final double firstTime = first == null ? -1 : first.averageConnectTime;
+            final double secondTime = second == null ? -1 : second.averageConnectTime;
+
+            return Double.compare(firstTime, secondTime);
+        }
+    }
 }
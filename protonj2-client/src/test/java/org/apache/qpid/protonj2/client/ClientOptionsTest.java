@@ -30,6 +30,7 @@ public class ClientOptionsTest {
 
         assertNull(options.id());
         assertNull(options.futureType());
+        assertEquals(ClientOptions.DEFAULT_CONNECT_RATE_LIMIT, options.connectRateLimit());
     }
 
     @Test
@@ -38,11 +39,13 @@ public class ClientOptionsTest {
 
         options.id("test");
         options.futureType("past-present");
+        options.connectRateLimit(100);
 
         ClientOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertEquals(options.id(), copy.id());
         assertEquals(options.futureType(), copy.futureType());
+        assertEquals(options.connectRateLimit(), copy.connectRateLimit());
     }
 }
@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +31,9 @@ public class ConnectionOptionsTest {
 
         assertNull(options.password());
         assertNull(options.user());
+        assertNull(options.notificationExecutor());
+        assertEquals(ConnectionOptions.DEFAULT_NOTIFICATION_DISPATCH_POLICY, options.notificationDispatchPolicy());
+        assertEquals(ConnectionOptions.DEFAULT_NOTIFICATION_QUEUE_CAPACITY, options.notificationQueueCapacity());
     }
 
     @Test
@@ -38,11 +42,20 @@ public class ConnectionOptionsTest {
 
         options.user("test");
         options.password("test-pass");
+        options.notificationDispatchPolicy(NotificationDispatchPolicy.IO_THREAD);
+        options.notificationQueueCapacity(16);
 
         ConnectionOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertEquals(options.user(), copy.user());
         assertEquals(options.password(), copy.password());
+        assertEquals(options.notificationDispatchPolicy(), copy.notificationDispatchPolicy());
+        assertEquals(options.notificationQueueCapacity(), copy.notificationQueueCapacity());
+    }
+
+    @Test
+    void testNotificationQueueCapacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionOptions().notificationQueueCapacity(0));
     }
 }
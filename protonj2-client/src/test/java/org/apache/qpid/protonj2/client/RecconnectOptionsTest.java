@@ -45,4 +45,20 @@ public class RecconnectOptionsTest {
         assertEquals(options.user(), copy.user());
         assertEquals(options.password(), copy.password());
     }
+
+    @Test
+    void testCopyReconnectOptions() {
+        ReconnectOptions options = new ReconnectOptions();
+
+        options.useReconnectJitter(true);
+        options.preferHealthyLocations(true);
+        options.maxReconnectDelay(5000);
+
+        ReconnectOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(options.useReconnectJitter(), copy.useReconnectJitter());
+        assertEquals(options.preferHealthyLocations(), copy.preferHealthyLocations());
+        assertEquals(options.maxReconnectDelay(), copy.maxReconnectDelay());
+    }
 }
@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.client;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +32,7 @@ public class SenderOptionsTest {
 
         assertNull(options.offeredCapabilities());
         assertNull(options.desiredCapabilities());
+        assertFalse(options.recoverUnsettled());
     }
 
     @Test
@@ -38,11 +41,13 @@ public class SenderOptionsTest {
 
         options.offeredCapabilities("test1");
         options.desiredCapabilities("test2");
+        options.recoverUnsettled(true);
 
         SenderOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertArrayEquals(options.offeredCapabilities(), copy.offeredCapabilities());
         assertArrayEquals(options.desiredCapabilities(), copy.desiredCapabilities());
+        assertTrue(copy.recoverUnsettled());
     }
 }
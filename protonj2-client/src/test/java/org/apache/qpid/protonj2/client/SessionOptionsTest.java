@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -38,11 +39,13 @@ public class SessionOptionsTest {
 
         options.offeredCapabilities("test1");
         options.desiredCapabilities("test2");
+        options.predeclaredTransactions(2);
 
         SessionOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertArrayEquals(options.offeredCapabilities(), copy.offeredCapabilities());
         assertArrayEquals(options.desiredCapabilities(), copy.desiredCapabilities());
+        assertEquals(options.predeclaredTransactions(), copy.predeclaredTransactions());
     }
 }
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -30,6 +31,7 @@ public class StreamReceiverOptionsTest {
 
         assertNull(options.offeredCapabilities());
         assertNull(options.desiredCapabilities());
+        assertEquals(StreamReceiverOptions.DEFAULT_READ_AHEAD, options.readAhead());
     }
 
     @Test
@@ -38,11 +40,13 @@ public class StreamReceiverOptionsTest {
 
         options.offeredCapabilities("test1");
         options.desiredCapabilities("test2");
+        options.readAhead(true);
 
         StreamReceiverOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertArrayEquals(options.offeredCapabilities(), copy.offeredCapabilities());
         assertArrayEquals(options.desiredCapabilities(), copy.desiredCapabilities());
+        assertEquals(options.readAhead(), copy.readAhead());
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.test.Wait;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(20)
+class ClientNotificationDispatcherTest {
+
+    @Test
+    void testDirectDispatchRunsOnCallingThread() {
+        ClientNotificationDispatcher dispatcher = new ClientNotificationDispatcher("test", null, 1);
+
+        final List<Thread> threads = new ArrayList<>();
+
+        dispatcher.execute(() -> threads.add(Thread.currentThread()));
+        dispatcher.execute(() -> { throw new RuntimeException(); });
+
+        assertEquals(Arrays.asList(Thread.currentThread()), threads);
+        assertEquals(2, dispatcher.dispatchedCount());
+        assertEquals(0, dispatcher.queueDepth());
+    }
+
+    @Test
+    void testNotificationsDeliveredInOrderOnTargetExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ClientNotificationDispatcher dispatcher = new ClientNotificationDispatcher("test", executor, 1024);
+
+            final List<Integer> order = new ArrayList<>();
+            final CountDownLatch done = new CountDownLatch(100);
+
+            for (int i = 0; i < 100; ++i) {
+                final int value = i;
+                dispatcher.execute(() -> {
+                    synchronized (order) {
+                        order.add(value);
+                    }
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            for (int i = 0; i < 100; ++i) {
+                assertEquals(i, order.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFullQueueOverflowsWithoutBlockingSubmitterOrLosingEvents() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            ClientNotificationDispatcher dispatcher = new ClientNotificationDispatcher("test", executor, 2);
+
+            final CountDownLatch handlerStarted = new CountDownLatch(1);
+            final CountDownLatch releaseHandler = new CountDownLatch(1);
+            final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+            dispatcher.execute(() -> {
+                handlerStarted.countDown();
+                try {
+                    releaseHandler.await();
+                } catch (InterruptedException e) {
+                }
+                order.add(0);
+            });
+
+            assertTrue(handlerStarted.await(10, TimeUnit.SECONDS));
+
+            for (int i = 1; i <= 10; ++i) {
+                final int value = i;
+                dispatcher.execute(() -> order.add(value));
+            }
+
+            assertEquals(10, dispatcher.queueDepth());
+            assertEquals(8, dispatcher.overflowDepth());
+            assertEquals(8, dispatcher.overflowCount());
+
+            releaseHandler.countDown();
+
+            Wait.assertTrue(() -> dispatcher.dispatchedCount() == 11);
+
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10), order);
+            assertEquals(10, dispatcher.highWaterMark());
+            assertEquals(0, dispatcher.queueDepth());
+            assertEquals(0, dispatcher.overflowDepth());
+            assertEquals(8, dispatcher.overflowCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testHandlerBlockingOnIOThreadWhileQueueFullDoesNotDeadlock() throws Exception {
+        // Stands in for the connection I/O thread which submits the notifications and on
+        // which a blocking connection call made from a handler has to be processed.
+        ExecutorService ioThread = Executors.newSingleThreadExecutor();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            ClientNotificationDispatcher dispatcher = new ClientNotificationDispatcher("test", executor, 1);
+
+            final CountDownLatch handlerStarted = new CountDownLatch(1);
+            final CountDownLatch handlerCompleted = new CountDownLatch(1);
+
+            final Future<?> submissions = ioThread.submit(() -> {
+                dispatcher.execute(() -> {
+                    handlerStarted.countDown();
+                    try {
+                        // Blocks on the I/O thread as a handler calling close or awaiting an
+                        // open future would, this only runs once the I/O thread is free.
+                        ioThread.submit(() -> { }).get(10, TimeUnit.SECONDS);
+                        handlerCompleted.countDown();
+                    } catch (Exception e) {
+                    }
+                });
+
+                handlerStarted.await();
+
+                for (int i = 0; i < 3; ++i) {
+                    dispatcher.execute(() -> { });
+                }
+
+                return null;
+            });
+
+            submissions.get(10, TimeUnit.SECONDS);
+
+            assertTrue(handlerCompleted.await(10, TimeUnit.SECONDS));
+            Wait.assertTrue(() -> dispatcher.dispatchedCount() == 4);
+            assertEquals(2, dispatcher.overflowCount());
+            assertEquals(0, dispatcher.queueDepth());
+        } finally {
+            ioThread.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRejectedExecutionFallsBackToCallingThread() {
+        ClientNotificationDispatcher dispatcher = new ClientNotificationDispatcher("test", (task) -> {
+            throw new RejectedExecutionException();
+        }, 8);
+
+        final List<Thread> threads = new ArrayList<>();
+
+        dispatcher.execute(() -> threads.add(Thread.currentThread()));
+
+        assertEquals(Arrays.asList(Thread.currentThread()), threads);
+        assertEquals(1, dispatcher.dispatchedCount());
+    }
+}
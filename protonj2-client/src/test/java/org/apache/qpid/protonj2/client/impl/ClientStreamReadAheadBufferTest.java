@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ClientStreamReadAheadBufferTest {
+
+    @Test
+    void testOfferAndPoll() {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(16);
+
+        assertNull(buffer.poll());
+
+        ProtonBuffer chunk = createChunk(4);
+        buffer.offer(chunk);
+        buffer.offer(createChunk(0));
+
+        assertEquals(4, buffer.available());
+        assertSame(chunk, buffer.poll());
+        assertEquals(0, buffer.available());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void testTakeReturnsQueuedChunksBeforeEnd() throws Exception {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(16);
+
+        ProtonBuffer chunk = createChunk(4);
+        buffer.offer(chunk);
+        buffer.end();
+
+        assertSame(chunk, buffer.take());
+        assertNull(buffer.take());
+        assertNull(buffer.take());
+    }
+
+    @Test
+    void testTakeThrowsFailureAfterQueuedChunks() throws Exception {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(16);
+
+        ProtonBuffer chunk = createChunk(4);
+        ClientException failure = new ClientException("failed");
+
+        buffer.offer(chunk);
+        buffer.fail(failure);
+
+        assertSame(chunk, buffer.take());
+        assertSame(failure, assertThrows(ClientException.class, () -> buffer.take()));
+    }
+
+    @Test
+    void testStallAndResume() {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(8);
+
+        assertTrue(buffer.hasCapacity());
+        buffer.offer(createChunk(4));
+        assertTrue(buffer.hasCapacity());
+        buffer.offer(createChunk(4));
+        assertFalse(buffer.hasCapacity());
+
+        buffer.poll();
+
+        // Drained to the resume threshold
+        assertEquals(4, buffer.available());
+        assertTrue(buffer.shouldResume());
+        assertFalse(buffer.shouldResume());
+        assertTrue(buffer.hasCapacity());
+    }
+
+    @Test
+    void testNoResumeWithoutStall() {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(8);
+
+        buffer.offer(createChunk(4));
+        buffer.poll();
+
+        assertFalse(buffer.shouldResume());
+    }
+
+    @Test
+    void testClearDiscardsQueuedChunks() {
+        ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(8);
+
+        buffer.offer(createChunk(4));
+        buffer.offer(createChunk(4));
+        buffer.clear();
+
+        assertEquals(0, buffer.available());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    @Timeout(20)
+    void testReaderConsumesAllBytesFromProducerThread() throws Exception {
+        final int chunkCount = 100_000;
+        final ClientStreamReadAheadBuffer buffer = new ClientStreamReadAheadBuffer(1024);
+        final AtomicLong produced = new AtomicLong();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < chunkCount; ++i) {
+                while (!buffer.hasCapacity()) {
+                    Thread.yield();
+                }
+
+                buffer.offer(createChunk(1 + (i % 64)));
+                produced.addAndGet(1 + (i % 64));
+            }
+
+            buffer.end();
+        });
+
+        producer.start();
+
+        long consumed = 0;
+        ProtonBuffer chunk;
+        while ((chunk = buffer.take()) != null) {
+            consumed += chunk.getReadableBytes();
+            buffer.shouldResume();
+        }
+
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(produced.get(), consumed);
+        assertEquals(0, buffer.available());
+    }
+
+    private static ProtonBuffer createChunk(int size) {
+        ProtonBuffer chunk = ProtonByteBufferAllocator.DEFAULT.allocate(size, size);
+        chunk.setWriteIndex(size);
+        return chunk;
+    }
+}
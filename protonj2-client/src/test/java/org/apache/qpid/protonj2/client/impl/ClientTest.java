@@ -19,11 +19,13 @@ package org.apache.qpid.protonj2.client.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.net.URI;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -75,6 +77,21 @@ public class ClientTest extends ImperativeClientTestCase {
         assertEquals(id, client.containerId());
     }
 
+    @Test
+    public void testSharedNotificationExecutorIsBoundedAndStoppedOnClose() throws Exception {
+        ClientInstance client = ClientInstance.create();
+
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) client.sharedNotificationExecutor();
+
+        assertSame(executor, client.sharedNotificationExecutor());
+        assertTrue(executor.getMaximumPoolSize() < Integer.MAX_VALUE);
+
+        client.closeAsync().get(10, TimeUnit.SECONDS);
+
+        assertTrue(executor.isShutdown());
+        assertNull(client.sharedNotificationExecutor());
+    }
+
     @Test
     public void testCloseClientAndConnectShouldFail() throws ClientException {
         Client client = Client.create();
@@ -31,7 +31,9 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.ClientOptions;
@@ -40,6 +42,7 @@ import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.ErrorCondition;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.NextReceiverPolicy;
+import org.apache.qpid.protonj2.client.NotificationDispatchPolicy;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
@@ -320,6 +323,70 @@ public class ConnectionTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testConnectionEstablishedHandlerCalledOnConfiguredNotificationExecutor() throws Exception {
+        final AtomicInteger executed = new AtomicInteger();
+
+        ConnectionOptions options = connectionOptions();
+        options.notificationExecutor((task) -> {
+            executed.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        });
+
+        doTestConnectionEstablishedHandlerDispatch(options, (thread) -> assertEquals(1, executed.get()));
+    }
+
+    @Test
+    public void testConnectionEstablishedHandlerCalledOnSharedNotificationThreadPool() throws Exception {
+        ConnectionOptions options = connectionOptions();
+        options.notificationDispatchPolicy(NotificationDispatchPolicy.SHARED_THREAD_POOL);
+
+        doTestConnectionEstablishedHandlerDispatch(options, (thread) ->
+            assertTrue(thread.getName().startsWith("protonj2 Client Notification Executor")));
+    }
+
+    @Test
+    public void testConnectionEstablishedHandlerCalledOnIOThread() throws Exception {
+        ConnectionOptions options = connectionOptions();
+        options.notificationDispatchPolicy(NotificationDispatchPolicy.IO_THREAD);
+
+        doTestConnectionEstablishedHandlerDispatch(options, (thread) ->
+            assertTrue(thread.getName().contains("I/O Thread")));
+    }
+
+    private void doTestConnectionEstablishedHandlerDispatch(ConnectionOptions options, Consumer<Thread> threadCheck) throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer(testServerOptions())) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Connect test started, peer listening on: {}", remoteURI);
+
+            final CountDownLatch established = new CountDownLatch(1);
+            final AtomicReference<Thread> handlerThread = new AtomicReference<>();
+
+            options.connectedHandler((connection, location) -> {
+                handlerThread.set(Thread.currentThread());
+                established.countDown();
+            });
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+
+            assertTrue(established.await(10, TimeUnit.SECONDS));
+            threadCheck.accept(handlerThread.get());
+            Wait.assertTrue(() -> connection.notificationStats().dispatchedCount() == 1);
+
+            connection.openFuture().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCreateConnectionFailedHandlerGetsCalled() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer(testServerOptions())) {
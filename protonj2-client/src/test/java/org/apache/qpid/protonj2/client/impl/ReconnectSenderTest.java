@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -26,7 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -37,12 +41,16 @@ import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.DeliveryState;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
 import org.apache.qpid.protonj2.client.Session;
 import org.apache.qpid.protonj2.client.Tracker;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
+import org.apache.qpid.protonj2.client.test.Wait;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.test.driver.codec.messaging.Accepted;
+import org.apache.qpid.protonj2.test.driver.codec.primitives.Binary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
@@ -161,6 +169,143 @@ class ReconnectSenderTest extends ImperativeClientTestCase {
        }
     }
 
+    @Test
+    public void testInFlightSendRecoveredFromRemoteUnsettledStateAfterReconnect() throws Exception {
+        try (ProtonTestServer firstPeer = new ProtonTestServer();
+             ProtonTestServer finalPeer = new ProtonTestServer()) {
+
+           final Map<Binary, org.apache.qpid.protonj2.test.driver.codec.transport.DeliveryState> remoteUnsettled = new LinkedHashMap<>();
+           remoteUnsettled.put(new Binary(new byte[] { 0 }), Accepted.getInstance());
+
+           firstPeer.expectSASLAnonymousConnect();
+           firstPeer.expectOpen().respond();
+           firstPeer.expectBegin().respond();
+           firstPeer.expectAttach().ofSender().withTarget().withAddress("test").and().respond();
+           firstPeer.remoteFlow().withLinkCredit(1).queue();
+           firstPeer.expectTransfer().withNonNullPayload();
+           firstPeer.dropAfterLastHandler(15);
+           firstPeer.start();
+
+           finalPeer.expectSASLAnonymousConnect();
+           finalPeer.expectOpen().respond();
+           finalPeer.expectBegin().respond();
+           finalPeer.expectAttach().ofSender().withUnsettled(notNullValue())
+                                   .withTarget().withAddress("test").and()
+                                   .respond().withUnsettled(remoteUnsettled);
+           finalPeer.remoteFlow().withLinkCredit(1).queue();
+           finalPeer.expectTransfer().withDeliveryTag(new byte[] { 0 })
+                                     .withResume(true)
+                                     .withSettled(true)
+                                     .withState().accepted();
+           finalPeer.start();
+
+           final URI primaryURI = firstPeer.getServerURI();
+           final URI backupURI = finalPeer.getServerURI();
+
+           ConnectionOptions options = new ConnectionOptions();
+           options.reconnectOptions().reconnectEnabled(true);
+           options.reconnectOptions().addReconnectLocation(backupURI.getHost(), backupURI.getPort());
+
+           Client container = Client.create();
+           Connection connection = container.connect(primaryURI.getHost(), primaryURI.getPort(), options);
+           Session session = connection.openSession();
+           Sender sender = session.openSender("test", new SenderOptions().recoverUnsettled(true));
+
+           final Tracker tracker = sender.send(Message.create("Hello"));
+
+           firstPeer.waitForScriptToComplete();
+           finalPeer.waitForScriptToComplete();
+           finalPeer.expectDetach().withClosed(true).respond();
+           finalPeer.expectEnd().respond();
+           finalPeer.expectClose().respond();
+
+           assertNotNull(tracker.awaitAccepted(10, TimeUnit.SECONDS));
+           assertTrue(tracker.settled());
+           assertTrue(tracker.remoteState().isAccepted());
+
+           sender.close();
+           session.close();
+           connection.close();
+
+           finalPeer.waitForScriptToComplete();
+       }
+    }
+
+    @Test
+    public void testRecoveredSendsResumedUnsettledWhenNotAutoSettlingAndUnknownTagsFailed() throws Exception {
+        try (ProtonTestServer firstPeer = new ProtonTestServer();
+             ProtonTestServer finalPeer = new ProtonTestServer()) {
+
+           final Map<Binary, org.apache.qpid.protonj2.test.driver.codec.transport.DeliveryState> remoteUnsettled = new LinkedHashMap<>();
+           remoteUnsettled.put(new Binary(new byte[] { 0 }), Accepted.getInstance());
+
+           firstPeer.expectSASLAnonymousConnect();
+           firstPeer.expectOpen().respond();
+           firstPeer.expectBegin().respond();
+           firstPeer.expectAttach().ofSender().withTarget().withAddress("test").and().respond();
+           firstPeer.remoteFlow().withLinkCredit(2).queue();
+           firstPeer.expectTransfer().withNonNullPayload();
+           firstPeer.expectTransfer().withNonNullPayload();
+           firstPeer.dropAfterLastHandler(15);
+           firstPeer.start();
+
+           finalPeer.expectSASLAnonymousConnect();
+           finalPeer.expectOpen().respond();
+           finalPeer.expectBegin().respond();
+           finalPeer.expectAttach().ofSender().withUnsettled(notNullValue())
+                                   .withTarget().withAddress("test").and()
+                                   .respond().withUnsettled(remoteUnsettled);
+           finalPeer.remoteFlow().withLinkCredit(1).queue();
+           finalPeer.expectTransfer().withDeliveryTag(new byte[] { 0 })
+                                     .withResume(true)
+                                     .withSettled(false)
+                                     .withState().accepted();
+           finalPeer.start();
+
+           final URI primaryURI = firstPeer.getServerURI();
+           final URI backupURI = finalPeer.getServerURI();
+
+           ConnectionOptions options = new ConnectionOptions();
+           options.reconnectOptions().reconnectEnabled(true);
+           options.reconnectOptions().addReconnectLocation(backupURI.getHost(), backupURI.getPort());
+
+           Client container = Client.create();
+           Connection connection = container.connect(primaryURI.getHost(), primaryURI.getPort(), options);
+           Session session = connection.openSession();
+           Sender sender = session.openSender("test", new SenderOptions().recoverUnsettled(true).autoSettle(false));
+
+           final Tracker recovered = sender.send(Message.create("Hello"));
+           final Tracker unknown = sender.send(Message.create("World"));
+
+           firstPeer.waitForScriptToComplete();
+           finalPeer.waitForScriptToComplete();
+           finalPeer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+           finalPeer.expectDetach().withClosed(true).respond();
+           finalPeer.expectEnd().respond();
+           finalPeer.expectClose().respond();
+
+           try {
+               unknown.settlementFuture().get(10, TimeUnit.SECONDS);
+               fail("Should not be able to recover a send whose tag the remote does not know");
+           } catch (ExecutionException exe) {
+               assertTrue(exe.getCause() instanceof ClientConnectionRemotelyClosedException);
+           }
+
+           Wait.assertTrue(() -> recovered.remoteState() != null);
+
+           assertFalse(recovered.settled());
+           assertTrue(recovered.remoteState().isAccepted());
+
+           recovered.disposition(DeliveryState.accepted(), true);
+
+           sender.close();
+           session.close();
+           connection.close();
+
+           finalPeer.waitForScriptToComplete();
+       }
+    }
+
     @Test
     public void testSendBlockedOnCreditGetsSentAfterReconnectAndCreditGranted() throws Exception {
         try (ProtonTestServer firstPeer = new ProtonTestServer();
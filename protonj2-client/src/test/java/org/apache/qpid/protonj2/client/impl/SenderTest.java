@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.DeliveryMode;
 import org.apache.qpid.protonj2.client.DeliveryState;
 import org.apache.qpid.protonj2.client.DistributionMode;
@@ -73,9 +75,14 @@ import org.apache.qpid.protonj2.test.driver.codec.messaging.Released;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusDurability;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusExpiryPolicy;
 import org.apache.qpid.protonj2.test.driver.matchers.messaging.DeliveryAnnotationsMatcher;
+import org.apache.qpid.protonj2.test.driver.matchers.messaging.HeaderMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.transport.TransferPayloadCompositeMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedAmqpValueMatcher;
 import org.apache.qpid.protonj2.types.DeliveryTag;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
 import org.apache.qpid.protonj2.types.transport.LinkError;
 import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
@@ -704,6 +711,114 @@ public class SenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testForwardReceivedDelivery() throws Exception {
+        doTestForwardReceivedDelivery(false, false);
+    }
+
+    @Test
+    public void testTryForwardReceivedDelivery() throws Exception {
+        doTestForwardReceivedDelivery(true, false);
+    }
+
+    @Test
+    public void testForwardReceivedDeliveryWithReplacedDeliveryAnnotations() throws Exception {
+        doTestForwardReceivedDelivery(false, true);
+    }
+
+    @Test
+    public void testTryForwardReceivedDeliveryWithReplacedDeliveryAnnotations() throws Exception {
+        doTestForwardReceivedDelivery(true, true);
+    }
+
+    private void doTestForwardReceivedDelivery(boolean tryForward, boolean replaceDeliveryAnnotations) throws Exception {
+        final Header header = new Header();
+        header.setDurable(true);
+        final DeliveryAnnotations annotations = new DeliveryAnnotations(Collections.singletonMap(Symbol.valueOf("da1"), 1));
+        final byte[] payload = createEncodedMessage(header, annotations, new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(17)
+                                 .withPayload(payload).queue();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(10)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("source-queue", new ReceiverOptions().autoAccept(false));
+            Delivery delivery = receiver.receive(10, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            Sender sender = session.openSender("target-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            Map<String, Object> deliveryAnnotations = new HashMap<>();
+            deliveryAnnotations.put("da2", 2);
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            DeliveryAnnotationsMatcher daMatcher = new DeliveryAnnotationsMatcher(true);
+            if (replaceDeliveryAnnotations) {
+                daMatcher.withEntry("da2", Matchers.equalTo(2));
+            } else {
+                daMatcher.withEntry("da1", Matchers.equalTo(1));
+            }
+            EncodedAmqpValueMatcher bodyMatcher = new EncodedAmqpValueMatcher("Hello World");
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setDeliveryAnnotationsMatcher(daMatcher);
+            payloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withMessageFormat(17).withPayload(payloadMatcher);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            final Tracker tracker;
+            if (tryForward) {
+                if (replaceDeliveryAnnotations) {
+                    tracker = sender.tryForward(delivery, deliveryAnnotations);
+                } else {
+                    tracker = sender.tryForward(delivery);
+                }
+            } else {
+                if (replaceDeliveryAnnotations) {
+                    tracker = sender.forward(delivery, deliveryAnnotations);
+                } else {
+                    tracker = sender.forward(delivery);
+                }
+            }
+
+            assertNotNull(tracker);
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testTrySendWhenNoCreditAvailable() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
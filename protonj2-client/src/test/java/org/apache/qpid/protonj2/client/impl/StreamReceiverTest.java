@@ -28,9 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1667,6 +1670,127 @@ class StreamReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testTransferBodyToWritableChannel() throws Exception {
+        final byte[] body1 = new byte[] { 0, 1, 2, 3, 4 };
+        final byte[] body2 = new byte[] { 5, 6, 7, 8, 9 };
+        final Map<Symbol, Object> footerValues = new HashMap<>();
+        footerValues.put(Symbol.valueOf("footer"), "value");
+        final byte[] payload = createEncodedMessage(new Data(body1), new Data(body2), new Footer(footerValues));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, 0, 9)).queue();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withMore(false)
+                                 .withPayload(Arrays.copyOfRange(payload, 9, payload.length)).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            StreamReceiverMessage message = delivery.message();
+            assertNotNull(message);
+
+            final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+            assertEquals(body1.length + body2.length, message.transferTo(Channels.newChannel(received)));
+            assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, received.toByteArray());
+            assertEquals(0, message.transferTo(Channels.newChannel(received)));
+            assertNotNull(message.footer());
+            assertEquals("value", message.footer("footer"));
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReadBodyIntoByteBuffer() throws Exception {
+        final byte[] body1 = new byte[] { 0, 1, 2, 3, 4 };
+        final byte[] body2 = new byte[] { 5, 6, 7, 8, 9 };
+        final byte[] payload = createEncodedMessage(new Data(body1), new Data(body2));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            StreamReceiverMessage message = delivery.message();
+            assertNotNull(message);
+
+            final ByteBuffer target = ByteBuffer.allocate(16);
+
+            // Reads stop at the end of each Data section
+            assertEquals(body1.length, message.readBody(target));
+            assertEquals(body2.length, message.readBody(target));
+            assertEquals(-1, message.readBody(target));
+            assertEquals(-1, message.readBody(target));
+
+            target.flip();
+
+            final byte[] receivedBody = new byte[target.remaining()];
+            target.get(receivedBody);
+
+            assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, receivedBody);
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testReadBytesFromInputStreamUsingReadByteWithSingleByteSplitTransfers() throws Exception {
         testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(1);
@@ -1682,7 +1806,26 @@ class StreamReceiverTest extends ImperativeClientTestCase {
         testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(3);
     }
 
+    @Test
+    public void testReadBytesFromInputStreamUsingReadByteWithSingleByteSplitTransfersAndReadAhead() throws Exception {
+        testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(1, true);
+    }
+
+    @Test
+    public void testReadBytesFromInputStreamUsingSingleReadBytesWithSingleByteSplitTransfersAndReadAhead() throws Exception {
+        testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(2, true);
+    }
+
+    @Test
+    public void testSkipBytesFromInputStreamWithSingleByteSplitTransfersAndReadAhead() throws Exception {
+        testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(3, true);
+    }
+
     private void testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(int option) throws Exception {
+        testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(option, false);
+    }
+
+    private void testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(int option, boolean readAhead) throws Exception {
         final byte[] body = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
         final byte[] payload = createEncodedMessage(new Data(body));
 
@@ -1714,7 +1857,7 @@ class StreamReceiverTest extends ImperativeClientTestCase {
 
             final Client container = Client.create();
             final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
-            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue", new StreamReceiverOptions().readAhead(readAhead));
             final StreamDelivery delivery = receiver.receive();
             final StreamReceiverMessage message = delivery.message();
             final InputStream bodyStream = message.body();
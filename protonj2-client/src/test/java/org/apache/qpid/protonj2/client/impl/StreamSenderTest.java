@@ -30,7 +30,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -2791,6 +2796,122 @@ public class StreamSenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testTransferFromFileWritesDataSection() throws Exception {
+        final byte[] payload = new byte[4096];
+        new Random().nextBytes(payload);
+
+        final Path file = Files.createTempFile("stream-sender", ".dat");
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            Files.write(file, payload);
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue", new StreamSenderOptions().writeBufferSize(Integer.MAX_VALUE));
+            StreamSenderMessage message = sender.beginMessage();
+
+            Header header = new Header();
+            header.setDurable(true);
+
+            message.header(header);
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            EncodedDataMatcher dataMatcher = new EncodedDataMatcher(payload);
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setMessageContentMatcher(dataMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withMore(false).withPayload(payloadMatcher).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.transferFrom(file);
+            message.complete();
+
+            assertTrue(message.completed());
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTransferFromChannelRegionFlushesWhenWriteBufferFilled() throws Exception {
+        final byte[] contents = new byte[1024];
+        new Random().nextBytes(contents);
+        final byte[] payload = Arrays.copyOfRange(contents, 256, 768);
+
+        final Path file = Files.createTempFile("stream-sender", ".dat");
+
+        try (ProtonTestServer peer = new ProtonTestServer(); FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(contents));
+            channel.position(0);
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue", new StreamSenderOptions().writeBufferSize(512));
+            StreamSenderMessage message = sender.beginMessage();
+
+            EncodedDataMatcher dataMatcher = new EncodedDataMatcher(payload);
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setMessageContentMatcher(dataMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(payloadMatcher).withMore(true);
+
+            message.transferFrom(channel, 256, 512);
+
+            assertEquals(0, channel.position());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNullPayload().withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.complete();
+
+            assertThrows(ClientIllegalStateException.class, () -> message.transferFrom(channel, 0, 1));
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     private static DeliveryTagGenerator customTagGenerator() {
         return new DeliveryTagGenerator() {
 
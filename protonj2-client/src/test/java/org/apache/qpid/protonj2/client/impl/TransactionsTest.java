@@ -39,6 +39,7 @@ import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.SessionOptions;
 import org.apache.qpid.protonj2.client.StreamSender;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
 import org.apache.qpid.protonj2.client.Tracker;
@@ -838,6 +839,62 @@ public class TransactionsTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testBeginAndCommitTransactionsWithPredeclaredTransactions() throws Exception {
+        final byte[] txnId1 = new byte[] { 0, 1, 2, 3 };
+        final byte[] txnId2 = new byte[] { 1, 1, 2, 3 };
+        final byte[] txnId3 = new byte[] { 2, 1, 2, 3 };
+        final byte[] txnId4 = new byte[] { 3, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectDeclare().accept(txnId1);
+            peer.expectDeclare().accept(txnId2);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession(new SessionOptions().predeclaredTransactions(1)).openFuture().get();
+
+            session.beginTransaction();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDischarge().withFail(false).withTxnId(txnId1).accept();
+
+            session.commitTransaction();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDeclare().accept(txnId3);
+            peer.expectDischarge().withFail(false).withTxnId(txnId2).accept();
+
+            // Uses the predeclared transaction and declares a replacement
+            session.beginTransaction();
+            session.commitTransaction();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDeclare().accept(txnId4);
+            peer.expectDischarge().withFail(true).withTxnId(txnId3).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            session.beginTransaction();
+            session.rollbackTransaction();
+
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCannotBeginSecondTransactionWhileFirstIsActive() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
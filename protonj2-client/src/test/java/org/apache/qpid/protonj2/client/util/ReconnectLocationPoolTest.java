@@ -352,4 +352,83 @@ public class ReconnectLocationPoolTest {
 
         pool.removeAll();
     }
+
+    @Test
+    public void testGetNextPreferredFromEmptyPool() {
+        ReconnectLocationPool pool = new ReconnectLocationPool();
+        assertNull(pool.getNextPreferred());
+    }
+
+    @Test
+    public void testGetNextPreferredRoundRobinsWithoutHistory() {
+        ReconnectLocationPool pool = new ReconnectLocationPool(entries);
+
+        for (ReconnectLocation entry : entries) {
+            assertEquals(entry, pool.getNextPreferred());
+        }
+
+        assertEquals(entries.get(0), pool.getNextPreferred());
+    }
+
+    @Test
+    public void testGetNextPreferredAvoidsFailingLocations() {
+        ReconnectLocationPool pool = new ReconnectLocationPool(entries);
+
+        pool.connectionFailed(entries.get(0));
+        pool.connectionFailed(entries.get(1));
+        pool.connectionFailed(entries.get(1));
+        pool.connectionSucceeded(entries.get(2), 100);
+        pool.connectionSucceeded(entries.get(3), 10);
+
+        assertEquals(entries.get(3), pool.getNextPreferred());
+        assertEquals(entries.get(3), pool.getNextPreferred());
+
+        pool.connectionFailed(entries.get(3));
+
+        assertEquals(entries.get(2), pool.getNextPreferred());
+
+        pool.connectionFailed(entries.get(2));
+        pool.connectionFailed(entries.get(3));
+
+        assertEquals(entries.get(0), pool.getNextPreferred());
+    }
+
+    @Test
+    public void testGetNextPreferredProbesUnattemptedLocations() {
+        ReconnectLocationPool pool = new ReconnectLocationPool(entries);
+
+        pool.connectionSucceeded(entries.get(0), 1);
+        pool.connectionSucceeded(entries.get(1), 1);
+        pool.connectionSucceeded(entries.get(2), 1);
+
+        assertEquals(entries.get(3), pool.getNextPreferred());
+    }
+
+    @Test
+    public void testHealthHistoryRemovedWithLocation() {
+        ReconnectLocationPool pool = new ReconnectLocationPool(entries);
+
+        pool.connectionFailed(entries.get(0));
+        pool.remove(entries.get(0));
+        pool.addFirst(entries.get(0));
+
+        assertEquals(entries.get(0), pool.getNextPreferred());
+    }
+
+    @Test
+    public void testHealthHistoryRetainedByReplaceAll() {
+        ReconnectLocationPool pool = new ReconnectLocationPool(entries);
+
+        pool.connectionFailed(entries.get(0));
+
+        List<ReconnectLocation> newEntries = new ArrayList<>();
+
+        newEntries.add(new ReconnectLocation("192.168.2.1", 5672));
+        newEntries.add(new ReconnectLocation("192.168.2.2", 5672));
+
+        pool.replaceAll(newEntries);
+
+        assertEquals(newEntries.get(1), pool.getNextPreferred());
+        assertEquals(newEntries.get(1), pool.getNextPreferred());
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the sequential and indexed primitive accessors of the {@link ProtonBuffer} implementations
+ * by filling a buffer with values of one width and reading them back.  The array benchmarks compare
+ * the {@link ProtonByteUtils} long accessors against the byte at a time form they replaced so that a
+ * single run provides both sides of the comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProtonBufferPrimitivesBenchmark {
+
+    public static final int BUFFER_SIZE = 8192;
+
+    @Param({ "HEAP", "POOLED", "DIRECT" })
+    public String bufferType;
+
+    private ProtonBuffer buffer;
+    private final byte[] array = new byte[BUFFER_SIZE];
+
+    @Setup
+    public void init() {
+        switch (bufferType) {
+            case "POOLED":
+                buffer = new ProtonPooledBufferAllocator().allocate(BUFFER_SIZE, BUFFER_SIZE);
+                break;
+            case "DIRECT":
+                buffer = new ProtonDirectBufferAllocator().allocate(BUFFER_SIZE, BUFFER_SIZE);
+                break;
+            default:
+                buffer = ProtonByteBufferAllocator.DEFAULT.allocate(BUFFER_SIZE, BUFFER_SIZE);
+        }
+    }
+
+    @Benchmark
+    public void writeReadShort(Blackhole blackhole) {
+        buffer.clear();
+        for (int i = 0; i < BUFFER_SIZE / Short.BYTES; ++i) {
+            buffer.writeShort((short) i);
+        }
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readShort());
+        }
+    }
+
+    @Benchmark
+    public void writeReadInt(Blackhole blackhole) {
+        buffer.clear();
+        for (int i = 0; i < BUFFER_SIZE / Integer.BYTES; ++i) {
+            buffer.writeInt(i);
+        }
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readInt());
+        }
+    }
+
+    @Benchmark
+    public void writeReadLong(Blackhole blackhole) {
+        buffer.clear();
+        for (int i = 0; i < BUFFER_SIZE / Long.BYTES; ++i) {
+            buffer.writeLong(i);
+        }
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readLong());
+        }
+    }
+
+    @Benchmark
+    public void setGetLong(Blackhole blackhole) {
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            buffer.setLong(i, i);
+        }
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            blackhole.consume(buffer.getLong(i));
+        }
+    }
+
+    @Benchmark
+    public void writeReadByte(Blackhole blackhole) {
+        buffer.clear();
+        for (int i = 0; i < BUFFER_SIZE; ++i) {
+            buffer.writeByte(i);
+        }
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readByte());
+        }
+    }
+
+    @Benchmark
+    public void arrayWriteReadLong(Blackhole blackhole) {
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            ProtonByteUtils.writeLong(i, array, i);
+        }
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            blackhole.consume(ProtonByteUtils.readLong(array, i));
+        }
+    }
+
+    @Benchmark
+    public void arrayWriteReadLongBytewise(Blackhole blackhole) {
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            writeLongBytewise(i, array, i);
+        }
+        for (int i = 0; i < BUFFER_SIZE; i += Long.BYTES) {
+            blackhole.consume(readLongBytewise(array, i));
+        }
+    }
+
+    private static void writeLongBytewise(long value, byte[] destination, int offset) {
+        destination[offset++] = (byte) (value >>> 56);
+        destination[offset++] = (byte) (value >>> 48);
+        destination[offset++] = (byte) (value >>> 40);
+        destination[offset++] = (byte) (value >>> 32);
+        destination[offset++] = (byte) (value >>> 24);
+        destination[offset++] = (byte) (value >>> 16);
+        destination[offset++] = (byte) (value >>> 8);
+        destination[offset++] = (byte) (value >>> 0);
+    }
+
+    private static long readLongBytewise(byte[] array, int offset) {
+        return (long) (array[offset++] & 0xFF) << 56 |
+               (long) (array[offset++] & 0xFF) << 48 |
+               (long) (array[offset++] & 0xFF) << 40 |
+               (long) (array[offset++] & 0xFF) << 32 |
+               (long) (array[offset++] & 0xFF) << 24 |
+               (long) (array[offset++] & 0xFF) << 16 |
+               (long) (array[offset++] & 0xFF) << 8 |
+               (long) (array[offset++] & 0xFF) << 0;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(ProtonBufferPrimitivesBenchmark.class);
+    }
+
+    public static void runBenchmark(Class<?> benchmarkClass) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(benchmarkClass.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .shouldDoGC(true)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
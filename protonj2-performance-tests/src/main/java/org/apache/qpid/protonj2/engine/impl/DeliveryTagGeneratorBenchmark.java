@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the built in {@link DeliveryTagGenerator} types when tags are taken, encoded
+ * into a buffer and released on settlement while a window of deliveries remains unsettled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+public class DeliveryTagGeneratorBenchmark {
+
+    public static final int DELIVERIES_PER_OPERATION = 4096;
+
+    @Param({ "SEQUENTIAL", "UUID", "POOLED", "RECYCLING" })
+    public String generatorType;
+
+    @Param({ "16", "1024" })
+    public int unsettledWindow;
+
+    private DeliveryTagGenerator generator;
+    private DeliveryTag[] unsettled;
+    private ProtonBuffer buffer;
+
+    @Setup
+    public void init() {
+        generator = ProtonDeliveryTagGenerator.BUILTIN.valueOf(generatorType).createGenerator();
+        unsettled = new DeliveryTag[unsettledWindow];
+        buffer = ProtonByteBufferAllocator.DEFAULT.allocate(64, 64);
+    }
+
+    @Benchmark
+    public void nextTagWriteAndRelease(Blackhole blackHole) {
+        for (int i = 0; i < DELIVERIES_PER_OPERATION; ++i) {
+            final int slot = i % unsettledWindow;
+
+            // Settle the oldest delivery in the window before sending the next one
+            if (unsettled[slot] != null) {
+                unsettled[slot].release();
+            }
+
+            final DeliveryTag tag = generator.nextTag();
+
+            buffer.setIndex(0, 0);
+            tag.writeTo(buffer);
+            blackHole.consume(buffer.getReadableBytes());
+
+            unsettled[slot] = tag;
+        }
+    }
+
+    @Benchmark
+    public void nextTagBytesAndRelease(Blackhole blackHole) {
+        for (int i = 0; i < DELIVERIES_PER_OPERATION; ++i) {
+            final int slot = i % unsettledWindow;
+
+            if (unsettled[slot] != null) {
+                unsettled[slot].release();
+            }
+
+            final DeliveryTag tag = generator.nextTag();
+
+            // Callers that key unsettled state by tag read the tag bytes of each delivery
+            blackHole.consume(tag.tagBytes());
+
+            unsettled[slot] = tag;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(DeliveryTagGeneratorBenchmark.class);
+    }
+
+    public static void runBenchmark(Class<?> benchmarkClass) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(benchmarkClass.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .shouldDoGC(true)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -686,7 +686,7 @@ public abstract class ProtonAbstractBuffer implements ProtonBuffer {
         }
     }
 
-    private void internalCheckReadableBytes(int minimumReadableBytes) {
+    protected final void internalCheckReadableBytes(int minimumReadableBytes) {
         // Called when we know that we don't need to validate if the minimum readable
         // value is negative.
         if (readIndex > writeIndex - minimumReadableBytes) {
@@ -696,7 +696,7 @@ public abstract class ProtonAbstractBuffer implements ProtonBuffer {
         }
     }
 
-    private void internalEnsureWritable(int minWritableBytes) {
+    protected final void internalEnsureWritable(int minWritableBytes) {
         // Called when we know that we don't need to validate if the minimum writable
         // value is negative.
         if (minWritableBytes <= getWritableBytes()) {
@@ -37,6 +37,14 @@ public interface ProtonBuffer extends Comparable<ProtonBuffer> {
      */
     default Object unwrap() { return null; }
 
+    /**
+     * Releases the resources backing this buffer when it was allocated from a pool so that they
+     * can be reused by later allocations.  Once released the buffer and any slice or duplicate
+     * of it must no longer be used.  Releasing a buffer more than once has no effect and buffers
+     * that are not pooled ignore this call.
+     */
+    default void release() {}
+
     /**
      * @return true if this buffer has a backing byte array that can be accessed.
      */
@@ -203,6 +211,38 @@ public interface ProtonBuffer extends Comparable<ProtonBuffer> {
      */
     ByteBuffer toByteBuffer(int index, int length);
 
+    /**
+     * Returns the readable bytes of this buffer as one or more ByteBuffer views suitable for use
+     * with a {@link java.nio.channels.GatheringByteChannel}.
+     * <p>
+     * Buffers that are backed by more than one region of memory, such as composite buffers, return
+     * one view per region instead of copying the bytes into a single ByteBuffer, buffers backed by
+     * a single region return a single view.  The returned views share content with this buffer but
+     * have their own position and limit.
+     *
+     * @return an array of ByteBuffer views that together represent the readable bytes of this buffer.
+     */
+    default ByteBuffer[] nioBuffers() {
+        return nioBuffers(getReadIndex(), getReadableBytes());
+    }
+
+    /**
+     * Returns the given span of bytes from this buffer as one or more ByteBuffer views suitable for
+     * use with a {@link java.nio.channels.GatheringByteChannel}.
+     *
+     * @param index
+     *      The starting index in this where the ByteBuffer views should begin.
+     * @param length
+     *      The number of bytes to include in the ByteBuffer views.
+     *
+     * @return an array of ByteBuffer views that together represent the given span of this buffer.
+     *
+     * @see #nioBuffers()
+     */
+    default ByteBuffer[] nioBuffers(int index, int length) {
+        return new ByteBuffer[] { toByteBuffer(index, length) };
+    }
+
     /**
      * Returns a String created from the buffer's underlying bytes using the specified
      * {@link java.nio.charset.Charset} for the newly created String.
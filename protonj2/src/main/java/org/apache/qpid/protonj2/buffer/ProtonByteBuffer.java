@@ -118,6 +118,13 @@ public class ProtonByteBuffer extends ProtonAbstractBuffer {
         return array.length;
     }
 
+    /*
+     * Replaces the backing array, used by pooled buffers which manage their own storage.
+     */
+    void setArray(byte[] array) {
+        this.array = array;
+    }
+
     @Override
     public ProtonBuffer capacity(int newCapacity) {
         checkNewCapacity(newCapacity);
@@ -173,6 +180,72 @@ public class ProtonByteBuffer extends ProtonAbstractBuffer {
         return 0;
     }
 
+    //----- Sequential read and write methods ---------------------------------//
+
+    // The array is accessed directly here as the read or write index checks already keep
+    // the access inside the buffer which avoids a second check in the indexed accessors.
+
+    @Override
+    public byte readByte() {
+        internalCheckReadableBytes(Byte.BYTES);
+        return array[readIndex++];
+    }
+
+    @Override
+    public short readShort() {
+        internalCheckReadableBytes(Short.BYTES);
+        final short result = ProtonByteUtils.readShort(array, readIndex);
+        readIndex += Short.BYTES;
+        return result;
+    }
+
+    @Override
+    public int readInt() {
+        internalCheckReadableBytes(Integer.BYTES);
+        final int result = ProtonByteUtils.readInt(array, readIndex);
+        readIndex += Integer.BYTES;
+        return result;
+    }
+
+    @Override
+    public long readLong() {
+        internalCheckReadableBytes(Long.BYTES);
+        final long result = ProtonByteUtils.readLong(array, readIndex);
+        readIndex += Long.BYTES;
+        return result;
+    }
+
+    @Override
+    public ProtonBuffer writeByte(int value) {
+        internalEnsureWritable(Byte.BYTES);
+        array[writeIndex++] = (byte) value;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeShort(short value) {
+        internalEnsureWritable(Short.BYTES);
+        ProtonByteUtils.writeShort(value, array, writeIndex);
+        writeIndex += Short.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeInt(int value) {
+        internalEnsureWritable(Integer.BYTES);
+        ProtonByteUtils.writeInt(value, array, writeIndex);
+        writeIndex += Integer.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeLong(long value) {
+        internalEnsureWritable(Long.BYTES);
+        ProtonByteUtils.writeLong(value, array, writeIndex);
+        writeIndex += Long.BYTES;
+        return this;
+    }
+
     //----- Direct indexed get methods ---------------------------------------//
 
     @Override
@@ -16,12 +16,23 @@
  */
 package org.apache.qpid.protonj2.buffer;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
 /**
  * Set of Utility methods useful when dealing with byte arrays and other
  * primitive types.
+ * <p>
+ * Multi-byte values are read and written in big endian order through byte array view
+ * {@link VarHandle} instances which the JIT compiles to a single wide load or store.
  */
 public abstract class ProtonByteUtils {
 
+    private static final VarHandle SHORT_VIEW = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     /**
      * Given a byte value returns an array containing the given byte as the only entry.
      *
@@ -104,8 +115,7 @@ public abstract class ProtonByteUtils {
      * @return the provided destination array.
      */
     public static byte[] writeShort(short value, byte[] destination, int offset) {
-        destination[offset++] = (byte) (value >>> 8);
-        destination[offset++] = (byte) (value >>> 0);
+        SHORT_VIEW.set(destination, offset, value);
 
         return destination;
     }
@@ -125,10 +135,7 @@ public abstract class ProtonByteUtils {
      * @return the provided destination array.
      */
     public static byte[] writeInt(int value, byte[] destination, int offset) {
-        destination[offset++] = (byte) (value >>> 24);
-        destination[offset++] = (byte) (value >>> 16);
-        destination[offset++] = (byte) (value >>> 8);
-        destination[offset++] = (byte) (value >>> 0);
+        INT_VIEW.set(destination, offset, value);
 
         return destination;
     }
@@ -148,14 +155,7 @@ public abstract class ProtonByteUtils {
      * @return the provided destination array.
      */
     public static byte[] writeLong(long value, byte[] destination, int offset) {
-        destination[offset++] = (byte) (value >>> 56);
-        destination[offset++] = (byte) (value >>> 48);
-        destination[offset++] = (byte) (value >>> 40);
-        destination[offset++] = (byte) (value >>> 32);
-        destination[offset++] = (byte) (value >>> 24);
-        destination[offset++] = (byte) (value >>> 16);
-        destination[offset++] = (byte) (value >>> 8);
-        destination[offset++] = (byte) (value >>> 0);
+        LONG_VIEW.set(destination, offset, value);
 
         return destination;
     }
@@ -185,8 +185,7 @@ public abstract class ProtonByteUtils {
      * @return the resulting value read from the array at the provided array offset.
      */
     public static short readShort(byte[] array, int offset) {
-        return (short) ((array[offset++] & 0xFF) << 8 |
-                        (array[offset++] & 0xFF) << 0);
+        return (short) SHORT_VIEW.get(array, offset);
     }
 
     /**
@@ -200,10 +199,7 @@ public abstract class ProtonByteUtils {
      * @return the resulting value read from the array at the provided array offset.
      */
     public static int readInt(byte[] array, int offset) {
-        return (array[offset++] & 0xFF) << 24 |
-               (array[offset++] & 0xFF) << 16 |
-               (array[offset++] & 0xFF) << 8 |
-               (array[offset++] & 0xFF) << 0;
+        return (int) INT_VIEW.get(array, offset);
     }
 
     /**
@@ -217,13 +213,6 @@ public abstract class ProtonByteUtils {
      * @return the resulting value read from the array at the provided array offset.
      */
     public static long readLong(byte[] array, int offset) {
-        return (long) (array[offset++] & 0xFF) << 56 |
-               (long) (array[offset++] & 0xFF) << 48 |
-               (long) (array[offset++] & 0xFF) << 40 |
-               (long) (array[offset++] & 0xFF) << 32 |
-               (long) (array[offset++] & 0xFF) << 24 |
-               (long) (array[offset++] & 0xFF) << 16 |
-               (long) (array[offset++] & 0xFF) << 8 |
-               (long) (array[offset++] & 0xFF) << 0;
+        return (long) LONG_VIEW.get(array, offset);
     }
 }
@@ -17,6 +17,11 @@
 package org.apache.qpid.protonj2.buffer;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -33,6 +38,8 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
     private static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(EMPTY_BYTE_ARRAY);
 
+    private static final int INITIAL_CHUNK_INDEX_SIZE = 8;
+
     /**
      * Aggregated count of all readable bytes in all buffers in the composite.
      */
@@ -58,6 +65,15 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
      */
     private final Chunk tail;
 
+    /**
+     * The chunks in order along with the index at which each starts which allows the chunk
+     * holding a given index to be found with a binary search instead of walking the chain.
+     * The index is rebuilt on next use after chunks are removed or replaced.
+     */
+    private Chunk[] chunkIndex = new Chunk[INITIAL_CHUNK_INDEX_SIZE];
+    private int[] chunkStarts = new int[INITIAL_CHUNK_INDEX_SIZE];
+    private boolean chunkIndexValid = true;
+
     /**
      * Creates a Composite Buffer instance with max capacity of {@link Integer#MAX_VALUE}.
      */
@@ -197,6 +213,20 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
         return this;
     }
 
+    /**
+     * Provides the readable bytes of this composite as a series of {@link ByteBuffer} views, one
+     * for each buffer in the composite that holds some of the readable bytes, which allows the
+     * contents to be processed or written to a channel without first being copied into a single
+     * buffer.  The views share content with this buffer but have their own position and limit,
+     * changes to the read or write index of this buffer while iterating are not reflected in the
+     * views that remain.
+     *
+     * @return an {@link Iterator} over {@link ByteBuffer} views of the readable bytes in this buffer.
+     */
+    public Iterator<ByteBuffer> readableComponents() {
+        return new ReadableComponentsIterator(readIndex, writeIndex);
+    }
+
     /**
      * For any buffer that precedes the buffer pointed to by the current read index
      * remove that buffer from to composite and discard.
@@ -216,6 +246,7 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
             lastAccessedChunk = head;
             head.next = tail;
             tail.prev = head;
+            clearChunkIndex();
             setIndex(0, 0);
             adjustIndexMarks(readIndex);
         } else {
@@ -237,6 +268,8 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
                 return this;
             }
 
+            chunkIndexValid = false;
+
             if (lastAccessedChunk != null && lastAccessedChunk.endIndex < readIndex) {
                 lastAccessedChunk = head;
             }
@@ -257,6 +290,27 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
         return this;
     }
 
+    /**
+     * Releases each of the buffers that were appended to this composite, which takes ownership of
+     * any buffer appended to it, and leaves this composite empty.
+     */
+    @Override
+    public void release() {
+        Chunk current = head.next;
+        while (current != tail) {
+            current.buffer.release();
+            current = current.next;
+        }
+
+        capacity = 0;
+        totalChunks = 0;
+        lastAccessedChunk = head;
+        head.next = tail;
+        tail.prev = head;
+        clearChunkIndex();
+        setIndex(0, 0);
+    }
+
     //----- ProtonAbstractBuffer API implementation
 
     @Override
@@ -330,6 +384,9 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
                 current = current.prev;
             }
 
+            chunkIndexValid = false;
+            lastAccessedChunk = head;
+
             capacity = newCapacity;
             if (writeIndex > capacity) {
                 writeIndex = capacity;
@@ -567,6 +624,28 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
         }
     }
 
+    @Override
+    public ByteBuffer[] nioBuffers(int index, int length) {
+        checkIndex(index, length);
+
+        if (length == 0) {
+            return new ByteBuffer[] { EMPTY_BYTE_BUFFER };
+        }
+
+        final ArrayList<ByteBuffer> views = new ArrayList<>(totalChunks);
+
+        Chunk current = findChunkWithIndex(index);
+        while (length > 0) {
+            final int viewLength = Math.min(current.endIndex + 1 - index, length);
+            Collections.addAll(views, current.nioBuffers(index, viewLength));
+            index += viewLength;
+            length -= viewLength;
+            current = current.next;
+        }
+
+        return views.toArray(new ByteBuffer[views.size()]);
+    }
+
     //----- Internal Support Framework API
 
     private ByteBuffer internalToByteBuffer(int index, int length) {
@@ -592,23 +671,48 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
     }
 
     private Chunk findChunkWithIndex(int index) {
-        if (index < lastAccessedChunk.startIndex) {
-            while (lastAccessedChunk.prev != head) {
-                lastAccessedChunk = lastAccessedChunk.prev;
-                if (lastAccessedChunk.isInRange(index)) {
-                    break;
-                }
-            }
-        } else if (index > lastAccessedChunk.endIndex) {
-            while (lastAccessedChunk.next != tail) {
-                lastAccessedChunk = lastAccessedChunk.next;
-                if (lastAccessedChunk.isInRange(index)) {
-                    break;
-                }
-            }
+        if (lastAccessedChunk.isInRange(index) || totalChunks == 0) {
+            return lastAccessedChunk;
         }
 
-        return lastAccessedChunk;
+        // Sequential reads and writes most often move on to the chunk that follows
+        if (lastAccessedChunk != tail && lastAccessedChunk.next != tail && lastAccessedChunk.next.isInRange(index)) {
+            return lastAccessedChunk = lastAccessedChunk.next;
+        }
+
+        if (!chunkIndexValid) {
+            rebuildChunkIndex();
+        }
+
+        int position = Arrays.binarySearch(chunkStarts, 0, totalChunks, index);
+        if (position < 0) {
+            // Not a chunk start so use the chunk that starts before the index, or the first
+            position = Math.max(0, -position - 2);
+        }
+
+        return lastAccessedChunk = chunkIndex[position];
+    }
+
+    private void rebuildChunkIndex() {
+        if (chunkIndex.length < totalChunks) {
+            chunkIndex = new Chunk[totalChunks];
+            chunkStarts = new int[totalChunks];
+        }
+
+        int position = 0;
+        for (Chunk current = head.next; current != tail; current = current.next) {
+            chunkIndex[position] = current;
+            chunkStarts[position++] = current.startIndex;
+        }
+
+        Arrays.fill(chunkIndex, position, chunkIndex.length, null);
+
+        chunkIndexValid = true;
+    }
+
+    private void clearChunkIndex() {
+        Arrays.fill(chunkIndex, null);
+        chunkIndexValid = true;
     }
 
     /*
@@ -634,6 +738,17 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
             lastAccessedChunk = newChunk;
         }
 
+        if (chunkIndexValid) {
+            if (chunkIndex.length < totalChunks) {
+                final int newLength = chunkIndex.length << 1;
+                chunkIndex = Arrays.copyOf(chunkIndex, newLength);
+                chunkStarts = Arrays.copyOf(chunkStarts, newLength);
+            }
+
+            chunkIndex[totalChunks - 1] = newChunk;
+            chunkStarts[totalChunks - 1] = newChunk.startIndex;
+        }
+
         return this;
     }
 
@@ -647,6 +762,43 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
         }
     }
 
+    /*
+     * Walks the chunks that hold the readable bytes producing a view of the readable portion of each.
+     */
+    private final class ReadableComponentsIterator implements Iterator<ByteBuffer> {
+
+        private final int endIndex;
+
+        private int index;
+        private Chunk next;
+
+        ReadableComponentsIterator(int readIndex, int writeIndex) {
+            this.index = readIndex;
+            this.endIndex = writeIndex;
+            this.next = readIndex < writeIndex ? findChunkWithIndex(readIndex) : tail;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != tail && index < endIndex;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final int length = Math.min(next.endIndex + 1, endIndex) - index;
+            final ByteBuffer view = next.toByteBuffer(index, length);
+
+            index += length;
+            next = next.next;
+
+            return view;
+        }
+    }
+
     /*
      * A chunk of the composite buffer which holds the back buffer for that chunk and any
      * additional data needed to represent this chunk in the chain.  Chucks are chained in
@@ -762,6 +914,10 @@ public final class ProtonCompositeBuffer extends ProtonAbstractBuffer {
             return buffer.toByteBuffer(offset(index), length);
         }
 
+        public ByteBuffer[] nioBuffers(int index, int length) {
+            return buffer.nioBuffers(offset(index), length);
+        }
+
         @Override
         public String toString() {
             return String.format("Chunk: { len=%d, sidx=%d, eidx=%d }", length, startIndex, endIndex);
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allocator that creates {@link ProtonDirectByteBuffer} instances whose memory is allocated off heap.
+ * <p>
+ * Setting this allocator on the {@link org.apache.qpid.protonj2.engine.EngineConfiguration} results
+ * in the engine writing its output into direct memory which can be written to a NIO channel without
+ * the copy the channel makes when given a heap buffer.  Allocating direct memory is costly and it is
+ * only freed once the garbage collector reclaims the owning buffer, so the memory of a buffer that is
+ * {@link ProtonBuffer#release() released} is kept in a bounded pool for its power of two size class
+ * and handed to the next buffer that needs it.  Buffers larger than the maximum pooled capacity are
+ * allocated exactly and left to the garbage collector.  The contents of a newly allocated buffer
+ * beyond what has been written to it are undefined as pooled memory is not cleared.
+ */
+public final class ProtonDirectBufferAllocator implements ProtonBufferAllocator {
+
+    /**
+     * The default largest capacity that is served from the pool.
+     */
+    public static final int DEFAULT_MAX_POOLED_CAPACITY = 256 * 1024;
+
+    /**
+     * The default number of bytes held in the pool per size class.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 1024 * 1024;
+
+    private static final int MIN_POOLED_CAPACITY = ProtonByteBuffer.DEFAULT_CAPACITY;
+    private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+
+    private final int maxPooledCapacity;
+    private final ArrayBlockingQueue<ByteBuffer>[] pools;
+
+    private final LongAdder allocationCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a new {@link ProtonDirectBufferAllocator} using the default pool configuration.
+     */
+    public ProtonDirectBufferAllocator() {
+        this(DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectBufferAllocator} using the given pool configuration.
+     *
+     * @param maxPooledCapacity
+     *      The largest buffer capacity served from the pool, rounded up to a power of two.
+     * @param poolCapacity
+     *      The number of bytes the pool holds per size class, zero disables pooling.
+     *
+     * @throws IllegalArgumentException if any of the given values is out of range.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public ProtonDirectBufferAllocator(int maxPooledCapacity, int poolCapacity) {
+        if (maxPooledCapacity < MIN_POOLED_CAPACITY || maxPooledCapacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Max pooled capacity must be in the range [" + MIN_POOLED_CAPACITY + ", 2^30]: " + maxPooledCapacity);
+        }
+
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative: " + poolCapacity);
+        }
+
+        this.maxPooledCapacity = roundToSizeClass(maxPooledCapacity);
+        this.pools = new ArrayBlockingQueue[sizeClassIndex(this.maxPooledCapacity) + 1];
+
+        if (poolCapacity > 0) {
+            for (int i = 0; i < pools.length; ++i) {
+                pools[i] = new ArrayBlockingQueue<>(Math.max(1, poolCapacity / (MIN_POOLED_CAPACITY << i)));
+            }
+        }
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity, int maximumCapacity) {
+        return allocate(initialCapacity, maximumCapacity);
+    }
+
+    @Override
+    public ProtonDirectByteBuffer allocate() {
+        return allocate(ProtonByteBuffer.DEFAULT_CAPACITY, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public ProtonDirectByteBuffer allocate(int initialCapacity) {
+        return allocate(initialCapacity, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public ProtonDirectByteBuffer allocate(int initialCapacity, int maximumCapacity) {
+        return new ProtonDirectByteBuffer(this, initialCapacity, maximumCapacity);
+    }
+
+    @Override
+    public ProtonBuffer wrap(byte[] array) {
+        return ProtonByteBufferAllocator.DEFAULT.wrap(array);
+    }
+
+    @Override
+    public ProtonBuffer wrap(byte[] array, int offset, int length) {
+        return ProtonByteBufferAllocator.DEFAULT.wrap(array, offset, length);
+    }
+
+    @Override
+    public ProtonBuffer wrap(ByteBuffer buffer) {
+        if (buffer.isDirect() && !buffer.isReadOnly()) {
+            return new ProtonNioByteBuffer(buffer);
+        } else {
+            return ProtonByteBufferAllocator.DEFAULT.wrap(buffer);
+        }
+    }
+
+    /**
+     * @return the largest buffer capacity that is served from the pool.
+     */
+    public int getMaxPooledCapacity() {
+        return maxPooledCapacity;
+    }
+
+    /**
+     * @return the number of times memory of a pooled size was requested by a buffer.
+     */
+    public long getAllocationCount() {
+        return allocationCount.sum();
+    }
+
+    /**
+     * @return the number of requests for memory of a pooled size that found none free and had to allocate it.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of bytes of direct memory currently held in the pool.
+     */
+    public long getPooledMemory() {
+        long pooled = 0;
+        for (int i = 0; i < pools.length; ++i) {
+            if (pools[i] != null) {
+                pooled += (long) pools[i].size() * (MIN_POOLED_CAPACITY << i);
+            }
+        }
+
+        return pooled;
+    }
+
+    //----- Internal pool management
+
+    private static int roundToSizeClass(int capacity) {
+        return capacity <= MIN_POOLED_CAPACITY ? MIN_POOLED_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static int sizeClassIndex(int sizeClass) {
+        return Integer.numberOfTrailingZeros(sizeClass) - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    ByteBuffer takeMemory(int capacity) {
+        if (capacity > maxPooledCapacity) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+
+        allocationCount.increment();
+
+        final int sizeClass = roundToSizeClass(capacity);
+        final ArrayBlockingQueue<ByteBuffer> pool = pools[sizeClassIndex(sizeClass)];
+
+        ByteBuffer memory = pool != null ? pool.poll() : null;
+
+        if (memory == null) {
+            missCount.increment();
+            memory = ByteBuffer.allocateDirect(sizeClass);
+        }
+
+        return memory;
+    }
+
+    void returnMemory(ByteBuffer memory) {
+        final int length = memory.capacity();
+
+        // Memory that was allocated outside the pool is left for the garbage collector
+        if (length < MIN_POOLED_CAPACITY || length > maxPooledCapacity || Integer.bitCount(length) != 1) {
+            return;
+        }
+
+        final ArrayBlockingQueue<ByteBuffer> pool = pools[sizeClassIndex(length)];
+
+        if (pool != null) {
+            memory.clear();
+            pool.offer(memory);
+        }
+    }
+}
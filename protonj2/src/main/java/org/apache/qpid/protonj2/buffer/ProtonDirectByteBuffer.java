@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of the ProtonBuffer interface that stores its bytes in direct (off heap) memory
+ * that is dynamically resized as bytes are written.
+ * <p>
+ * The readable portion of the buffer can be handed to a {@link java.nio.channels.WritableByteChannel}
+ * through {@link #toByteBuffer()} without first copying it to direct memory as the channel would do
+ * for heap buffers.  Primitive values are read and written through the absolute accessors of the
+ * backing {@link ByteBuffer} in big endian byte order.  Once no longer needed the buffer should be
+ * {@link #release() released} so that its memory can be reused by the allocator that created it,
+ * otherwise the memory is returned when the garbage collector reclaims the buffer.
+ */
+public class ProtonDirectByteBuffer extends ProtonAbstractBuffer {
+
+    private static final ByteBuffer RELEASED_MEMORY = ByteBuffer.allocateDirect(0);
+
+    private final ProtonDirectBufferAllocator allocator;
+
+    private ByteBuffer memory;
+    private int capacity;
+    private boolean released;
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} instance that uses default configuration values for
+     * initial capacity and the maximum allowed capacity to which the underlying memory will grow before
+     * errors will be thrown from operations that would expand the storage.
+     */
+    public ProtonDirectByteBuffer() {
+        this(ProtonByteBuffer.DEFAULT_CAPACITY, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and uses the default
+     * value for the maximum capacity restriction.
+     *
+     * @param initialCapacity
+     *      The initial size of the backing memory.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity) {
+        this(initialCapacity, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and the given maximum
+     * capacity restriction.
+     *
+     * @param initialCapacity
+     *      The initial size of the backing memory.
+     * @param maximumCapacity
+     *      The maximum size the backing memory is allowed to grow.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero or greater than the maximum.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity, int maximumCapacity) {
+        this(null, initialCapacity, maximumCapacity);
+    }
+
+    ProtonDirectByteBuffer(ProtonDirectBufferAllocator allocator, int initialCapacity, int maximumCapacity) {
+        super(maximumCapacity);
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        if (initialCapacity > maximumCapacity) {
+            throw new IllegalArgumentException("Initial capacity cannot exceed maximum capacity.");
+        }
+
+        this.allocator = allocator;
+        this.memory = allocateMemory(initialCapacity);
+        this.capacity = initialCapacity;
+    }
+
+    @Override
+    public ByteBuffer unwrap() {
+        return memory;
+    }
+
+    @Override
+    public boolean hasArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] getArray() {
+        throw new UnsupportedOperationException("Direct buffer has no backing array");
+    }
+
+    @Override
+    public int getArrayOffset() {
+        throw new UnsupportedOperationException("Direct buffer has no backing array");
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public ProtonBuffer capacity(int newCapacity) {
+        if (released) {
+            throw new IllegalStateException("Cannot change the capacity of a buffer that has been released");
+        }
+
+        checkNewCapacity(newCapacity);
+
+        if (newCapacity > memory.capacity()) {
+            final ByteBuffer current = memory;
+            final ByteBuffer grown = allocateMemory(newCapacity);
+
+            current.limit(capacity);
+            grown.put(current);
+            grown.clear();
+            current.clear();
+
+            memory = grown;
+            freeMemory(current);
+        } else if (newCapacity < capacity) {
+            if (readIndex < newCapacity) {
+                if (writeIndex > newCapacity) {
+                    writeIndex = newCapacity;
+                }
+            } else {
+                setIndex(newCapacity, newCapacity);
+            }
+        }
+
+        capacity = newCapacity;
+
+        return this;
+    }
+
+    /**
+     * Returns the memory backing this buffer to the allocator that created it, buffers created
+     * without an allocator leave their memory to be reclaimed by the garbage collector.
+     */
+    @Override
+    public void release() {
+        if (!released) {
+            released = true;
+
+            final ByteBuffer current = memory;
+
+            setIndex(0, 0);
+            capacity = 0;
+            memory = RELEASED_MEMORY;
+
+            freeMemory(current);
+        }
+    }
+
+    @Override
+    public ProtonBuffer copy(int index, int length) {
+        checkIndex(index, length);
+        ProtonByteBuffer copy = new ProtonByteBuffer(length);
+        getBytes(index, copy.getArray(), 0, length);
+        copy.setWriteIndex(length);
+        return copy;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer(int index, int length) {
+        checkIndex(index, length);
+
+        final ByteBuffer view = memory.duplicate();
+
+        view.limit(index + length).position(index);
+
+        return view.slice();
+    }
+
+    //----- Direct indexed get methods ---------------------------------------//
+
+    @Override
+    public byte getByte(int index) {
+        checkIndex(index, Byte.BYTES);
+        return memory.get(index);
+    }
+
+    @Override
+    public short getShort(int index) {
+        checkIndex(index, Short.BYTES);
+        return memory.getShort(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkIndex(index, Integer.BYTES);
+        return memory.getInt(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkIndex(index, Long.BYTES);
+        return memory.getLong(index);
+    }
+
+    @Override
+    public ProtonBuffer getBytes(int index, ProtonBuffer destination, int destinationIndex, int length) {
+        checkDestinationIndex(index, length, destinationIndex, destination.capacity());
+
+        if (destination.hasArray()) {
+            getBytes(index, destination.getArray(), destination.getArrayOffset() + destinationIndex, length);
+        } else {
+            destination.setBytes(destinationIndex, toByteBuffer(index, length));
+        }
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer getBytes(int index, byte[] destination, int destinationIndex, int length) {
+        checkDestinationIndex(index, length, destinationIndex, destination.length);
+
+        final int position = memory.position();
+
+        memory.position(index);
+        memory.get(destination, destinationIndex, length);
+        memory.position(position);
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer getBytes(int index, ByteBuffer destination) {
+        checkIndex(index, destination.remaining());
+        destination.put(toByteBuffer(index, destination.remaining()));
+        return this;
+    }
+
+    //----- Direct indexed set methods ---------------------------------------//
+
+    @Override
+    public ProtonBuffer setByte(int index, int value) {
+        checkIndex(index, Byte.BYTES);
+        memory.put(index, (byte) value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setShort(int index, int value) {
+        checkIndex(index, Short.BYTES);
+        memory.putShort(index, (short) value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setInt(int index, int value) {
+        checkIndex(index, Integer.BYTES);
+        memory.putInt(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setLong(int index, long value) {
+        checkIndex(index, Long.BYTES);
+        memory.putLong(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setBytes(int index, ProtonBuffer source, int sourceIndex, int length) {
+        checkSourceIndex(index, length, sourceIndex, source.capacity());
+
+        if (source.hasArray()) {
+            setBytes(index, source.getArray(), source.getArrayOffset() + sourceIndex, length);
+        } else {
+            source.getBytes(sourceIndex, toByteBuffer(index, length));
+        }
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setBytes(int index, byte[] source, int sourceIndex, int length) {
+        checkSourceIndex(index, length, sourceIndex, source.length);
+
+        final int position = memory.position();
+
+        memory.position(index);
+        memory.put(source, sourceIndex, length);
+        memory.position(position);
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setBytes(int index, ByteBuffer source) {
+        checkIndex(index, source.remaining());
+
+        final int position = memory.position();
+
+        memory.position(index);
+        memory.put(source);
+        memory.position(position);
+
+        return this;
+    }
+
+    //----- Internal memory management
+
+    private ByteBuffer allocateMemory(int size) {
+        return allocator != null ? allocator.takeMemory(size) : ByteBuffer.allocateDirect(size);
+    }
+
+    private void freeMemory(ByteBuffer memory) {
+        if (allocator != null) {
+            allocator.returnMemory(memory);
+        }
+    }
+}
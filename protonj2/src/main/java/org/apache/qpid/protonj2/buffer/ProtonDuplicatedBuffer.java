@@ -182,4 +182,9 @@ public class ProtonDuplicatedBuffer extends ProtonAbstractBuffer {
     public ByteBuffer toByteBuffer(int index, int length) {
         return buffer.toByteBuffer(index, length);
     }
+
+    @Override
+    public ByteBuffer[] nioBuffers(int index, int length) {
+        return buffer.nioBuffers(index, length);
+    }
 }
@@ -536,6 +536,16 @@ public final class ProtonNettyByteBuffer implements ProtonBuffer {
         return wrapped.nioBuffer(index, length);
     }
 
+    @Override
+    public ByteBuffer[] nioBuffers() {
+        return wrapped.nioBuffers();
+    }
+
+    @Override
+    public ByteBuffer[] nioBuffers(int index, int length) {
+        return wrapped.nioBuffers(index, length);
+    }
+
     @Override
     public String toString() {
         return wrapped.toString();
@@ -0,0 +1,522 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+
+/**
+ * Allocator that pools the byte arrays backing the {@link ProtonByteBuffer} instances it creates.
+ * <p>
+ * Requested capacities are rounded up to a power of two size class, starting at the default buffer
+ * capacity and ending at a configurable maximum beyond which buffers are not pooled.  Arrays are
+ * returned to the pool when the buffer is {@link ProtonBuffer#release() released}, first to a small
+ * cache held by the releasing thread when that thread also took the array from the pool and otherwise
+ * to a bounded arena per size class that is shared by all threads, an allocation checks the thread
+ * cache and then the arena before creating a new array.  Arrays of buffers released on a thread
+ * other than the allocating one therefore remain available to the allocating thread.  A
+ * buffer grows within its size class without copying and takes a larger pooled array once it has
+ * outgrown it.
+ * <p>
+ * Buffers that are never released are reclaimed by the garbage collector as usual and their arrays
+ * are simply lost to the pool.  The allocator can sample a portion of the buffers it hands out and
+ * report those that are garbage collected without having been released along with the stack trace
+ * of the allocation, this adds a cost to each sampled buffer and is intended for debugging.  Callers
+ * using this allocator with an engine are expected to release the output buffers handed to them
+ * once written, buffers the engine hands to the application such as delivery payloads belong to
+ * the application from that point.  The contents of a newly allocated buffer beyond what has been
+ * written to it are undefined as pooled arrays are not cleared.
+ */
+public final class ProtonPooledBufferAllocator implements ProtonBufferAllocator {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonPooledBufferAllocator.class);
+
+    /**
+     * The default largest capacity that is served from the pool.
+     */
+    public static final int DEFAULT_MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    /**
+     * The default number of bytes each thread caches per size class.
+     */
+    public static final int DEFAULT_THREAD_CACHE_CAPACITY = 256 * 1024;
+
+    /**
+     * The default number of bytes held in the shared arena per size class.
+     */
+    public static final int DEFAULT_ARENA_CAPACITY = 4 * 1024 * 1024;
+
+    private static final int MIN_POOLED_CAPACITY = ProtonByteBuffer.DEFAULT_CAPACITY;
+    private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+    private static final byte[] RELEASED_ARRAY = new byte[0];
+
+    private final int maxPooledCapacity;
+    private final SizeClass[] sizeClasses;
+    private final ThreadLocal<ArrayDeque<byte[]>[]> threadCaches;
+
+    private final LongAdder allocationCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong leakSampleCounter = new AtomicLong();
+    private final ReferenceQueue<PooledByteBuffer> leakQueue = new ReferenceQueue<>();
+    private final Set<LeakTracker> leakTrackers = ConcurrentHashMap.newKeySet();
+
+    private volatile int leakDetectionInterval;
+
+    /**
+     * Creates a new {@link ProtonPooledBufferAllocator} using the default pool configuration.
+     */
+    public ProtonPooledBufferAllocator() {
+        this(DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_THREAD_CACHE_CAPACITY, DEFAULT_ARENA_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonPooledBufferAllocator} using the given pool configuration.
+     *
+     * @param maxPooledCapacity
+     *      The largest buffer capacity served from the pool, rounded up to a power of two.
+     * @param threadCacheCapacity
+     *      The number of bytes each thread caches per size class, zero disables the thread caches.
+     * @param arenaCapacity
+     *      The number of bytes the shared arena holds per size class, zero disables the arenas.
+     *
+     * @throws IllegalArgumentException if any of the given values is out of range.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public ProtonPooledBufferAllocator(int maxPooledCapacity, int threadCacheCapacity, int arenaCapacity) {
+        if (maxPooledCapacity < MIN_POOLED_CAPACITY || maxPooledCapacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Max pooled capacity must be in the range [" + MIN_POOLED_CAPACITY + ", 2^30]: " + maxPooledCapacity);
+        }
+
+        if (threadCacheCapacity < 0) {
+            throw new IllegalArgumentException("Thread cache capacity cannot be negative: " + threadCacheCapacity);
+        }
+
+        if (arenaCapacity < 0) {
+            throw new IllegalArgumentException("Arena capacity cannot be negative: " + arenaCapacity);
+        }
+
+        this.maxPooledCapacity = roundToSizeClass(maxPooledCapacity);
+        this.sizeClasses = new SizeClass[sizeClassIndex(this.maxPooledCapacity) + 1];
+
+        for (int i = 0; i < sizeClasses.length; ++i) {
+            sizeClasses[i] = new SizeClass(MIN_POOLED_CAPACITY << i, threadCacheCapacity, arenaCapacity);
+        }
+
+        this.threadCaches = ThreadLocal.withInitial(() -> new ArrayDeque[sizeClasses.length]);
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity, int maximumCapacity) {
+        return allocate(initialCapacity, maximumCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        return allocate(ProtonByteBuffer.DEFAULT_CAPACITY, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        return allocate(initialCapacity, ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity, int maximumCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        if (initialCapacity > maximumCapacity) {
+            throw new IllegalArgumentException("Initial capacity cannot exceed maximum capacity.");
+        }
+
+        if (initialCapacity > maxPooledCapacity) {
+            return new ProtonByteBuffer(initialCapacity, maximumCapacity);
+        }
+
+        final PooledByteBuffer buffer = new PooledByteBuffer(this, takeArray(initialCapacity), initialCapacity, maximumCapacity);
+        buffer.owner = Thread.currentThread();
+
+        final int interval = leakDetectionInterval;
+        if (interval > 0 && leakSampleCounter.incrementAndGet() % interval == 0) {
+            reportLeaks();
+
+            final LeakTracker tracker = new LeakTracker(buffer, leakQueue);
+            leakTrackers.add(tracker);
+            buffer.leakTracker = tracker;
+        }
+
+        return buffer;
+    }
+
+    @Override
+    public ProtonBuffer wrap(byte[] array) {
+        return ProtonByteBufferAllocator.DEFAULT.wrap(array);
+    }
+
+    @Override
+    public ProtonBuffer wrap(byte[] array, int offset, int length) {
+        return ProtonByteBufferAllocator.DEFAULT.wrap(array, offset, length);
+    }
+
+    @Override
+    public ProtonBuffer wrap(ByteBuffer buffer) {
+        return ProtonByteBufferAllocator.DEFAULT.wrap(buffer);
+    }
+
+    /**
+     * @return the largest buffer capacity that is served from the pool.
+     */
+    public int getMaxPooledCapacity() {
+        return maxPooledCapacity;
+    }
+
+    /**
+     * @return the interval at which allocated buffers are sampled for leak detection, zero when disabled.
+     */
+    public int getLeakDetectionInterval() {
+        return leakDetectionInterval;
+    }
+
+    /**
+     * Sets how often allocated buffers are sampled for leak detection, an interval of one tracks
+     * every pooled buffer, larger values track one in every interval buffers and zero disables
+     * leak detection.  A sampled buffer that is garbage collected without being released is
+     * reported along with the stack trace of the call that allocated it.
+     *
+     * @param interval
+     *      The interval at which allocated buffers are sampled for leak detection.
+     *
+     * @return this {@link ProtonPooledBufferAllocator} instance.
+     *
+     * @throws IllegalArgumentException if the given interval is negative.
+     */
+    public ProtonPooledBufferAllocator setLeakDetectionInterval(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Leak detection interval cannot be negative: " + interval);
+        }
+
+        this.leakDetectionInterval = interval;
+
+        if (interval == 0) {
+            leakTrackers.forEach(tracker -> tracker.clear());
+            leakTrackers.clear();
+        }
+
+        return this;
+    }
+
+    /**
+     * @return the number of buffers allocated from the pool.
+     */
+    public long getAllocationCount() {
+        return allocationCount.sum();
+    }
+
+    /**
+     * @return the number of pooled allocations that found no free array and had to create one.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of sampled buffers found to have been garbage collected without being released.
+     */
+    public long getLeakCount() {
+        reportLeaks();
+        return leakCount.get();
+    }
+
+    //----- Internal pool management
+
+    private static int roundToSizeClass(int capacity) {
+        return capacity <= MIN_POOLED_CAPACITY ? MIN_POOLED_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static int sizeClassIndex(int sizeClass) {
+        return Integer.numberOfTrailingZeros(sizeClass) - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    /*
+     * Returns a pooled array of at least the given capacity or null if the capacity is too large to pool.
+     */
+    byte[] takeArray(int capacity) {
+        if (capacity > maxPooledCapacity) {
+            return null;
+        }
+
+        allocationCount.increment();
+
+        final int index = sizeClassIndex(roundToSizeClass(capacity));
+        final SizeClass sizeClass = sizeClasses[index];
+        final ArrayDeque<byte[]> cache = threadCaches.get()[index];
+
+        byte[] array = cache != null ? cache.pollLast() : null;
+
+        if (array == null && sizeClass.arena != null) {
+            array = sizeClass.arena.poll();
+        }
+
+        if (array == null) {
+            missCount.increment();
+            array = new byte[sizeClass.size];
+        }
+
+        return array;
+    }
+
+    /*
+     * Returns a pooled array to the thread cache when released by the thread that took it from the pool
+     * and to the shared arena otherwise, where the taking thread can still find it.
+     */
+    void returnArray(byte[] array, Thread owner) {
+        final int length = array.length;
+
+        // Arrays that did not come from the pool are left for the garbage collector
+        if (length < MIN_POOLED_CAPACITY || length > maxPooledCapacity || Integer.bitCount(length) != 1) {
+            return;
+        }
+
+        final int index = sizeClassIndex(length);
+        final SizeClass sizeClass = sizeClasses[index];
+
+        if (sizeClass.threadCacheLimit > 0 && owner == Thread.currentThread()) {
+            final ArrayDeque<byte[]>[] caches = threadCaches.get();
+
+            ArrayDeque<byte[]> cache = caches[index];
+            if (cache == null) {
+                cache = caches[index] = new ArrayDeque<>(Math.min(sizeClass.threadCacheLimit, 16));
+            }
+
+            if (cache.size() < sizeClass.threadCacheLimit) {
+                cache.addLast(array);
+                return;
+            }
+        }
+
+        if (sizeClass.arena != null) {
+            sizeClass.arena.offer(array);
+        }
+    }
+
+    void releaseTracker(LeakTracker tracker) {
+        tracker.clear();
+        leakTrackers.remove(tracker);
+    }
+
+    /*
+     * Enqueues the trackers of all currently tracked buffers as the collector would once they were
+     * unreachable, which allows the leak reporting to be tested without depending on a GC run.
+     */
+    void enqueueTrackedBuffers() {
+        leakTrackers.forEach(LeakTracker::enqueue);
+    }
+
+    private void reportLeaks() {
+        LeakTracker tracker;
+        while ((tracker = (LeakTracker) leakQueue.poll()) != null) {
+            if (leakTrackers.remove(tracker)) {
+                leakCount.incrementAndGet();
+                LOG.error("Pooled buffer was garbage collected without being released, it was allocated at:", tracker.allocatedAt);
+            }
+        }
+    }
+
+    private static final class SizeClass {
+
+        private final int size;
+        private final int threadCacheLimit;
+        private final ArrayBlockingQueue<byte[]> arena;
+
+        SizeClass(int size, int threadCacheCapacity, int arenaCapacity) {
+            this.size = size;
+            this.threadCacheLimit = threadCacheCapacity > 0 ? Math.max(1, threadCacheCapacity / size) : 0;
+            this.arena = arenaCapacity > 0 ? new ArrayBlockingQueue<>(Math.max(1, arenaCapacity / size)) : null;
+        }
+    }
+
+    //----- Tracks a sampled buffer until it is released
+
+    private static final class LeakTracker extends WeakReference<PooledByteBuffer> {
+
+        private final Throwable allocatedAt = new Throwable("Buffer allocated from pool");
+
+        LeakTracker(PooledByteBuffer buffer, ReferenceQueue<PooledByteBuffer> queue) {
+            super(buffer, queue);
+        }
+    }
+
+    //----- Buffer whose backing array is returned to the pool on release
+
+    private static final class PooledByteBuffer extends ProtonByteBuffer {
+
+        private final ProtonPooledBufferAllocator allocator;
+
+        private int capacity;
+        private boolean released;
+        private LeakTracker leakTracker;
+        private Thread owner;
+
+        PooledByteBuffer(ProtonPooledBufferAllocator allocator, byte[] array, int capacity, int maximumCapacity) {
+            super(array, maximumCapacity, 0);
+
+            this.allocator = allocator;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int capacity() {
+            return capacity;
+        }
+
+        @Override
+        public ProtonBuffer capacity(int newCapacity) {
+            if (released) {
+                throw new IllegalStateException("Cannot change the capacity of a buffer that has been released");
+            }
+
+            checkNewCapacity(newCapacity);
+
+            final byte[] current = getArray();
+
+            if (newCapacity > current.length) {
+                byte[] grown = allocator.takeArray(newCapacity);
+                if (grown == null) {
+                    grown = new byte[newCapacity];
+                }
+
+                System.arraycopy(current, 0, grown, 0, capacity);
+                setArray(grown);
+                allocator.returnArray(current, owner);
+                owner = Thread.currentThread();
+            } else if (newCapacity < capacity) {
+                if (getReadIndex() < newCapacity) {
+                    if (getWriteIndex() > newCapacity) {
+                        setWriteIndex(newCapacity);
+                    }
+                } else {
+                    setIndex(newCapacity, newCapacity);
+                }
+            }
+
+            capacity = newCapacity;
+
+            return this;
+        }
+
+        // The pooled array may be larger than the buffer so indexed access is checked against its capacity
+
+        @Override
+        public byte getByte(int index) {
+            checkIndex(index, 1);
+            return super.getByte(index);
+        }
+
+        @Override
+        public short getShort(int index) {
+            checkIndex(index, Short.BYTES);
+            return super.getShort(index);
+        }
+
+        @Override
+        public int getInt(int index) {
+            checkIndex(index, Integer.BYTES);
+            return super.getInt(index);
+        }
+
+        @Override
+        public long getLong(int index) {
+            checkIndex(index, Long.BYTES);
+            return super.getLong(index);
+        }
+
+        @Override
+        public ProtonBuffer setByte(int index, int value) {
+            checkIndex(index, 1);
+            return super.setByte(index, value);
+        }
+
+        @Override
+        public ProtonBuffer setShort(int index, int value) {
+            checkIndex(index, Short.BYTES);
+            return super.setShort(index, value);
+        }
+
+        @Override
+        public ProtonBuffer setInt(int index, int value) {
+            checkIndex(index, Integer.BYTES);
+            return super.setInt(index, value);
+        }
+
+        @Override
+        public ProtonBuffer setLong(int index, long value) {
+            checkIndex(index, Long.BYTES);
+            return super.setLong(index, value);
+        }
+
+        @Override
+        public ProtonBuffer setBytes(int index, ByteBuffer source) {
+            checkIndex(index, source.remaining());
+            return super.setBytes(index, source);
+        }
+
+        @Override
+        public ByteBuffer toByteBuffer(int index, int length) {
+            checkIndex(index, length);
+            return super.toByteBuffer(index, length);
+        }
+
+        @Override
+        public void release() {
+            if (!released) {
+                released = true;
+
+                final byte[] array = getArray();
+
+                setIndex(0, 0);
+                capacity = 0;
+                setArray(RELEASED_ARRAY);
+
+                if (leakTracker != null) {
+                    allocator.releaseTracker(leakTracker);
+                    leakTracker = null;
+                }
+
+                allocator.returnArray(array, owner);
+                owner = null;
+            }
+        }
+    }
+}
@@ -104,6 +104,12 @@ public class ProtonSlicedBuffer extends ProtonAbstractBuffer {
         return buffer.toByteBuffer(offset(index), length).slice();
     }
 
+    @Override
+    public ByteBuffer[] nioBuffers(int index, int length) {
+        checkIndex(index, length);
+        return buffer.nioBuffers(offset(index), length);
+    }
+
     //----- Overridden absolute get methods ----------------------------------//
 
     @Override
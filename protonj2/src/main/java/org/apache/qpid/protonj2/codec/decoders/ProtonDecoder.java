@@ -773,6 +773,15 @@ public final class ProtonDecoder implements Decoder {
     public DeliveryTag readDeliveryTag(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final byte encodingCode = readEncodingCode(buffer);
 
+        if (isPoolingDeliveryTags(state)) {
+            switch (encodingCode) {
+                case EncodingCodes.VBIN8:
+                    return ((ProtonDecoderState) state).readPooledDeliveryTag(buffer, binary8Decoder.readSize(buffer));
+                case EncodingCodes.VBIN32:
+                    return ((ProtonDecoderState) state).readPooledDeliveryTag(buffer, binary32Decoder.readSize(buffer));
+            }
+        }
+
         switch (encodingCode) {
             case EncodingCodes.VBIN8:
                 return new DeliveryTag.ProtonDeliveryTag(binary8Decoder.readValueAsArray(buffer, state));
@@ -919,6 +928,10 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    private static boolean isPoolingDeliveryTags(DecoderState state) {
+        return state instanceof ProtonDecoderState && ((ProtonDecoderState) state).isReusePerformatives();
+    }
+
     private ClassCastException signalUnexpectedType(final Object val, Class<?> clazz) {
         return new ClassCastException("Unexpected type " + val.getClass().getName() +
                                       ". Expected " + clazz.getName() + ".");
@@ -22,11 +22,18 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+import org.apache.qpid.protonj2.types.transport.Disposition;
+import org.apache.qpid.protonj2.types.transport.Flow;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
  * State object used by the Built in Decoder implementation.
@@ -35,12 +42,25 @@ public final class ProtonDecoderState implements DecoderState {
 
     private static final int MAX_CHAR_BUFFER_CACHE_SIZE = 100;
 
+    /**
+     * The maximum number of released delivery tags that are kept for reuse when performative reuse is enabled.
+     */
+    public static final int MAX_POOLED_DELIVERY_TAGS = 512;
+
+    private static final byte[] EMPTY_TAG_BYTES = new byte[0];
+
     private final CharsetDecoder STRING_DECODER = StandardCharsets.UTF_8.newDecoder();
     private final ProtonDecoder decoder;
     private final char[] decodeCache = new char[MAX_CHAR_BUFFER_CACHE_SIZE];
 
     private UTF8Decoder stringDecoder;
 
+    private boolean reusePerformatives;
+    private Transfer transfer;
+    private Flow flow;
+    private Disposition disposition;
+    private ArrayDeque<ProtonPooledDeliveryTag> tagPool;
+
     /**
      * Create a new {@link DecoderState} instance that is joined forever to the given {@link Decoder}.
      *
@@ -84,6 +104,102 @@ public final class ProtonDecoderState implements DecoderState {
         return this;
     }
 
+    /**
+     * @return true if the decoder reuses a single {@link Transfer}, {@link Flow} and {@link Disposition} instance.
+     */
+    public boolean isReusePerformatives() {
+        return reusePerformatives;
+    }
+
+    /**
+     * Controls whether decoding a {@link Transfer}, {@link Flow} or {@link Disposition} with this state
+     * populates a single instance of each type held by this state instead of creating a new one each time,
+     * and whether delivery tags are read into tag instances that return to a pool held by this state when
+     * they are released.  A performative decoded in this mode is only valid until the next performative of
+     * the same type is decoded with this state so the caller must not retain it, and a delivery tag must not
+     * be used once it has been released.  Arrays of performatives are always decoded into new instances.
+     *
+     * @param reusePerformatives
+     *      true if decoded performatives and delivery tags should be reused.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     */
+    public ProtonDecoderState setReusePerformatives(boolean reusePerformatives) {
+        this.reusePerformatives = reusePerformatives;
+        return this;
+    }
+
+    /**
+     * @return the {@link Transfer} instance that a decoded {@link Transfer} should be written into.
+     */
+    public Transfer nextTransfer() {
+        if (!reusePerformatives) {
+            return new Transfer();
+        } else if (transfer == null) {
+            transfer = new Transfer();
+        }
+
+        return transfer.reset();
+    }
+
+    /**
+     * @return the {@link Flow} instance that a decoded {@link Flow} should be written into.
+     */
+    public Flow nextFlow() {
+        if (!reusePerformatives) {
+            return new Flow();
+        } else if (flow == null) {
+            flow = new Flow();
+        }
+
+        return flow.reset();
+    }
+
+    /**
+     * @return the {@link Disposition} instance that a decoded {@link Disposition} should be written into.
+     */
+    public Disposition nextDisposition() {
+        if (!reusePerformatives) {
+            return new Disposition();
+        } else if (disposition == null) {
+            disposition = new Disposition();
+        }
+
+        return disposition.reset();
+    }
+
+    /**
+     * Reads the given number of bytes from the buffer into a {@link DeliveryTag} taken from the pool of
+     * released tags held by this state, or into a new tag that will join the pool when released.
+     *
+     * @param buffer
+     *      The buffer that holds the tag bytes.
+     * @param length
+     *      The number of bytes that make up the tag.
+     *
+     * @return a {@link DeliveryTag} that holds the bytes that were read.
+     *
+     * @throws DecodeException if the buffer does not hold the number of bytes given.
+     */
+    public DeliveryTag readPooledDeliveryTag(ProtonBuffer buffer, int length) throws DecodeException {
+        if (length < 0 || length > buffer.getReadableBytes()) {
+            throw new DecodeException(
+                String.format("Binary data size %d is specified to be greater than the amount " +
+                              "of data available (%d)", length, buffer.getReadableBytes()));
+        }
+
+        if (tagPool == null) {
+            tagPool = new ArrayDeque<>();
+        }
+
+        ProtonPooledDeliveryTag tag = tagPool.poll();
+        if (tag == null) {
+            tag = new ProtonPooledDeliveryTag();
+        }
+
+        return tag.checkOut(buffer, length);
+    }
+
     @Override
     public String decodeUTF8(ProtonBuffer buffer, int length) throws DecodeException {
         if (stringDecoder == null) {
@@ -154,4 +270,88 @@ public final class ProtonDecoderState implements DecoderState {
             decoder.reset();
         }
     }
+
+    //----- Delivery tag that returns to the pool of this state when released
+
+    private final class ProtonPooledDeliveryTag implements DeliveryTag {
+
+        private byte[] tagBytes = EMPTY_TAG_BYTES;
+        private ProtonBuffer tagView;
+        private boolean checkedOut;
+
+        public ProtonPooledDeliveryTag checkOut(ProtonBuffer buffer, int length) {
+            // Tags on a link are usually all the same size so the array is normally reused as is
+            if (tagBytes.length != length) {
+                tagBytes = new byte[length];
+            }
+
+            buffer.readBytes(tagBytes);
+
+            tagView = null;
+            checkedOut = true;
+
+            return this;
+        }
+
+        @Override
+        public int tagLength() {
+            return tagBytes.length;
+        }
+
+        @Override
+        public byte[] tagBytes() {
+            return tagBytes;
+        }
+
+        @Override
+        public ProtonBuffer tagBuffer() {
+            if (tagView == null) {
+                tagView = ProtonByteBufferAllocator.DEFAULT.wrap(tagBytes);
+            }
+
+            return tagView;
+        }
+
+        @Override
+        public void release() {
+            if (checkedOut) {
+                checkedOut = false;
+                if (tagPool.size() < MAX_POOLED_DELIVERY_TAGS) {
+                    tagPool.offer(this);
+                }
+            }
+        }
+
+        @Override
+        public DeliveryTag copy() {
+            return new DeliveryTag.ProtonDeliveryTag(Arrays.copyOf(tagBytes, tagBytes.length));
+        }
+
+        @Override
+        public void writeTo(ProtonBuffer buffer) {
+            buffer.writeBytes(tagBytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(tagBytes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof DeliveryTag)) {
+                return false;
+            }
+
+            return Arrays.equals(tagBytes, ((DeliveryTag) other).tagBytes());
+        }
+
+        @Override
+        public String toString() {
+            return "DeliveryTag: {" + Arrays.toString(tagBytes) + "}";
+        }
+    }
 }
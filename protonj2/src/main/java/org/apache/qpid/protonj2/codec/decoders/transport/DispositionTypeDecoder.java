@@ -26,6 +26,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -61,7 +62,7 @@ public final class DispositionTypeDecoder extends AbstractDescribedTypeDecoder<D
     public Disposition readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readDisposition(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readDisposition(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), nextDisposition(state));
     }
 
     @Override
@@ -70,7 +71,7 @@ public final class DispositionTypeDecoder extends AbstractDescribedTypeDecoder<D
 
         Disposition[] result = new Disposition[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readDisposition(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readDisposition(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Disposition());
         }
 
         return result;
@@ -85,9 +86,11 @@ public final class DispositionTypeDecoder extends AbstractDescribedTypeDecoder<D
         decoder.skipValue(buffer, state);
     }
 
-    private Disposition readDisposition(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Disposition disposition = new Disposition();
+    private static Disposition nextDisposition(DecoderState state) {
+        return state instanceof ProtonDecoderState ? ((ProtonDecoderState) state).nextDisposition() : new Disposition();
+    }
 
+    private Disposition readDisposition(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder, Disposition disposition) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer);
         final int count = listDecoder.readCount(buffer);
@@ -26,6 +26,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -59,7 +60,7 @@ public final class FlowTypeDecoder extends AbstractDescribedTypeDecoder<Flow> {
     public Flow readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readFlow(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readFlow(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), nextFlow(state));
     }
 
     @Override
@@ -68,7 +69,7 @@ public final class FlowTypeDecoder extends AbstractDescribedTypeDecoder<Flow> {
 
         final Flow[] result = new Flow[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readFlow(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readFlow(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Flow());
         }
 
         return result;
@@ -83,9 +84,11 @@ public final class FlowTypeDecoder extends AbstractDescribedTypeDecoder<Flow> {
         decoder.skipValue(buffer, state);
     }
 
-    private Flow readFlow(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Flow flow = new Flow();
+    private static Flow nextFlow(DecoderState state) {
+        return state instanceof ProtonDecoderState ? ((ProtonDecoderState) state).nextFlow() : new Flow();
+    }
 
+    private Flow readFlow(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder, Flow flow) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer);
         final int count = listDecoder.readCount(buffer);
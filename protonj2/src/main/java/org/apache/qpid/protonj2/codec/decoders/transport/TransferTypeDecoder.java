@@ -26,6 +26,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -62,7 +63,7 @@ public final class TransferTypeDecoder extends AbstractDescribedTypeDecoder<Tran
     public Transfer readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readTransfer(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readTransfer(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), nextTransfer(state));
     }
 
     @Override
@@ -71,7 +72,7 @@ public final class TransferTypeDecoder extends AbstractDescribedTypeDecoder<Tran
 
         final Transfer[] result = new Transfer[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readTransfer(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readTransfer(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Transfer());
         }
 
         return result;
@@ -86,9 +87,11 @@ public final class TransferTypeDecoder extends AbstractDescribedTypeDecoder<Tran
         decoder.skipValue(buffer, state);
     }
 
-    private Transfer readTransfer(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Transfer transfer = new Transfer();
+    private static Transfer nextTransfer(DecoderState state) {
+        return state instanceof ProtonDecoderState ? ((ProtonDecoderState) state).nextTransfer() : new Transfer();
+    }
 
+    private Transfer readTransfer(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder, Transfer transfer) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer);
         final int count = listDecoder.readCount(buffer);
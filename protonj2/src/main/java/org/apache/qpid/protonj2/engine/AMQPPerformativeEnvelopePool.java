@@ -16,30 +16,54 @@
  */
 package org.apache.qpid.protonj2.engine;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.engine.util.RingQueue;
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
 import org.apache.qpid.protonj2.types.transport.Performative;
 
 /**
  * Pool of {@link PerformativeEnvelope} instances used to reduce allocations on incoming performatives.
+ * <p>
+ * Envelopes taken from the pool start with a single reference which is dropped when the envelope
+ * is released, a handler that needs to hold onto an envelope beyond the call that delivered it can
+ * retain it and must then release it once more when done.  The pool keeps count of how often an
+ * envelope was taken and how often the pool was empty so that the pool size can be tuned, and it
+ * can optionally track each envelope it hands out in order to report envelopes that were garbage
+ * collected without having been released back to the pool.
  *
  * @param <E> The type of Protocol Performative to pool incoming or outgoing.
  */
 public class AMQPPerformativeEnvelopePool<E extends PerformativeEnvelope<Performative>> {
 
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(AMQPPerformativeEnvelopePool.class);
+
     /**
      * The default maximum pool size to use if not otherwise configured.
      */
     public static final int DEFAULT_MAX_POOL_SIZE = 10;
 
-    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+    private int maxPoolSize;
+    private RingQueue<E> pool;
 
-    private final RingQueue<E> pool;
     private final Supplier<E> envelopeSupplier;
 
+    private long takeCount;
+    private long missCount;
+    private long leakCount;
+
+    private ReferenceQueue<E> leakQueue;
+    private Set<LeakTracker<E>> leakTrackers;
+
     /**
      * Create a new envelope pool using the default pool size.
      *
@@ -51,7 +75,7 @@ public class AMQPPerformativeEnvelopePool<E extends PerformativeEnvelope<Perform
     }
 
     /**
-     * Create a new envelope pool using the default pool size.
+     * Create a new envelope pool using the given pool size.
      *
      * @param envelopeBuilder
      * 		The builder that will provide new envelope instances when the pool is empty.
@@ -59,9 +83,12 @@ public class AMQPPerformativeEnvelopePool<E extends PerformativeEnvelope<Perform
      *      The maximum number of envelopes to hold in the pool at any given time.
      */
     public AMQPPerformativeEnvelopePool(Function<AMQPPerformativeEnvelopePool<E>, E> envelopeBuilder, int maxPoolSize) {
-        this.pool = new RingQueue<>(getMaxPoolSize());
-        this.maxPoolSize = maxPoolSize;
-        this.envelopeSupplier = () -> envelopeBuilder.apply(this);
+        this.envelopeSupplier = () -> {
+            missCount++;
+            return envelopeBuilder.apply(this);
+        };
+
+        setMaxPoolSize(maxPoolSize);
     }
 
     /**
@@ -71,6 +98,90 @@ public class AMQPPerformativeEnvelopePool<E extends PerformativeEnvelope<Perform
         return maxPoolSize;
     }
 
+    /**
+     * Sets the maximum number of envelopes the pool holds, envelopes currently held beyond the
+     * new limit are discarded.  A size of zero disables pooling.
+     *
+     * @param maxPoolSize
+     *      The maximum number of envelopes to hold in the pool at any given time.
+     *
+     * @return this {@link AMQPPerformativeEnvelopePool} instance.
+     *
+     * @throws IllegalArgumentException if the given size is negative.
+     */
+    public AMQPPerformativeEnvelopePool<E> setMaxPoolSize(int maxPoolSize) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("Cannot create an envelope pool with negative pool size");
+        }
+
+        final RingQueue<E> resized = new RingQueue<>(maxPoolSize);
+        if (pool != null) {
+            E envelope;
+            while ((envelope = pool.poll()) != null && resized.offer(envelope));
+        }
+
+        this.pool = resized;
+        this.maxPoolSize = maxPoolSize;
+
+        return this;
+    }
+
+    /**
+     * @return true if envelopes taken from this pool are tracked so that leaked envelopes are reported.
+     */
+    public boolean isLeakDetection() {
+        return leakQueue != null;
+    }
+
+    /**
+     * Controls whether each envelope taken from the pool is tracked until it is released so that
+     * an envelope which is garbage collected without being released is reported along with the
+     * stack trace of the call that took it from the pool.  Tracking adds a cost to every take and
+     * release and is intended for debugging.
+     *
+     * @param leakDetection
+     *      true if envelopes taken from the pool should be tracked.
+     *
+     * @return this {@link AMQPPerformativeEnvelopePool} instance.
+     */
+    public AMQPPerformativeEnvelopePool<E> setLeakDetection(boolean leakDetection) {
+        if (leakDetection && leakQueue == null) {
+            leakQueue = new ReferenceQueue<>();
+            leakTrackers = Collections.newSetFromMap(new IdentityHashMap<>());
+        } else if (!leakDetection && leakQueue != null) {
+            leakTrackers.forEach(tracker -> tracker.clear());
+            leakQueue = null;
+            leakTrackers = null;
+        }
+
+        return this;
+    }
+
+    /**
+     * @return the number of envelopes that have been taken from this pool.
+     */
+    public long getTakeCount() {
+        return takeCount;
+    }
+
+    /**
+     * @return the number of times an envelope was taken while the pool was empty and a new one was created.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of envelopes found to have been garbage collected without being released.
+     */
+    public long getLeakCount() {
+        if (leakQueue != null) {
+            reportLeaks();
+        }
+
+        return leakCount;
+    }
+
     /**
      * Requests an envelope from the pool and if non is available creates one using the given
      * builder this pool was created with.
@@ -86,13 +197,57 @@ public class AMQPPerformativeEnvelopePool<E extends PerformativeEnvelope<Perform
      */
     @SuppressWarnings("unchecked")
     public E take(Performative body, int channel, ProtonBuffer payload) {
-        return (E) pool.poll(envelopeSupplier).initialize(body, channel, payload);
+        final E envelope = (E) pool.poll(envelopeSupplier).initialize(body, channel, payload);
+
+        takeCount++;
+        envelope.references = 1;
+
+        if (leakQueue != null) {
+            reportLeaks();
+
+            final LeakTracker<E> tracker = new LeakTracker<>(envelope, leakQueue);
+            leakTrackers.add(tracker);
+            envelope.leakTracker = tracker;
+        }
+
+        return envelope;
     }
 
     void release(E pooledEnvelope) {
+        if (pooledEnvelope.leakTracker != null) {
+            final LeakTracker<?> tracker = pooledEnvelope.leakTracker;
+            pooledEnvelope.leakTracker = null;
+            tracker.clear();
+
+            if (leakTrackers != null) {
+                leakTrackers.remove(tracker);
+            }
+        }
+
         pool.offer(pooledEnvelope);
     }
 
+    private void reportLeaks() {
+        Reference<? extends E> tracker;
+        while ((tracker = leakQueue.poll()) != null) {
+            if (leakTrackers.remove(tracker)) {
+                leakCount++;
+                LOG.error("Envelope was garbage collected without being released to the pool, it was taken at:", ((LeakTracker<?>) tracker).takenAt);
+            }
+        }
+    }
+
+    //----- Tracks an envelope that has been taken from the pool until it is released
+
+    static final class LeakTracker<T> extends WeakReference<T> {
+
+        private final Throwable takenAt = new Throwable("Envelope taken from pool");
+
+        LeakTracker(T envelope, ReferenceQueue<T> queue) {
+            super(envelope, queue);
+        }
+    }
+
     /**
      * @param maxPoolSize
      *      The maximum number of protocol envelopes to store in the pool.
@@ -17,9 +17,11 @@
 package org.apache.qpid.protonj2.engine;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.types.transport.AMQPHeader;
 
 /**
@@ -108,6 +110,23 @@ public interface Connection extends Endpoint<Connection> {
      */
     Connection tickAuto(ScheduledExecutorService executor);
 
+    /**
+     * Convenience method which is the same as calling {@link Engine#tickAuto(Executor, HashedWheelTimer)}.
+     *
+     * @param executor
+     *      The single threaded execution context where all engine work takes place.
+     * @param timer
+     *      The timer used to schedule each idle timeout check.
+     *
+     * @return this {@link Connection} instance.
+     *
+     * @throws IllegalStateException if the {@link Engine} is already performing auto tick handling.
+     * @throws EngineStateException if the Engine state precludes accepting new input.
+     *
+     * @see Engine#tickAuto(Executor, HashedWheelTimer)
+     */
+    Connection tickAuto(Executor executor, HashedWheelTimer timer);
+
     /**
      * @return the local connection state only
      */
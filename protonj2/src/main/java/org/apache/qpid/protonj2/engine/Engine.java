@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.engine;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -26,6 +27,7 @@ import org.apache.qpid.protonj2.engine.exceptions.EngineNotWritableException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtonException;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 
 /**
  * AMQP Engine interface.
@@ -198,6 +200,24 @@ public interface Engine extends Consumer<ProtonBuffer> {
      */
     Engine tickAuto(ScheduledExecutorService executor) throws IllegalStateException, EngineStateException;
 
+    /**
+     * Allows the engine to manage idle timeout processing using a {@link HashedWheelTimer} that may be
+     * shared by many engines, the idle timeout checks are scheduled on the timer and then run in the
+     * given single threaded executor context where all transport work is done.  Sharing one timer avoids
+     * each engine placing its idle timeout checks in the scheduled task queue of its own executor.
+     *
+     * @param executor
+     *      The single threaded execution context where all engine work takes place.
+     * @param timer
+     *      The timer used to schedule each idle timeout check.
+     *
+     * @throws IllegalStateException if the {@link Engine} is already performing auto tick handling.
+     * @throws EngineStateException if the Engine state precludes accepting new input.
+     *
+     * @return this {@link Engine}
+     */
+    Engine tickAuto(Executor executor, HashedWheelTimer timer) throws IllegalStateException, EngineStateException;
+
     /**
      * Gets the EnginePipeline for this Engine.
      *
@@ -60,4 +60,99 @@ public interface EngineConfiguration {
      */
     boolean isTraceFrames();
 
+    /**
+     * Controls whether the engine batches the frames it writes while processing a single
+     * call to {@link Engine#ingest(org.apache.qpid.protonj2.buffer.ProtonBuffer)} or a single
+     * API operation that produces several frames (such as a multi-frame transfer) into one
+     * buffer that is passed to the engine output handler once the operation completes.  Each
+     * frame's write completion callback is still run when the batched write completes.
+     *
+     * @param outputBatching
+     *      true to enable batching of engine output, false to write each frame individually.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setOutputBatching(boolean outputBatching);
+
+    /**
+     * @return true if the engine batches the frames written during a single operation.
+     */
+    boolean isOutputBatching();
+
+    /**
+     * Sets the maximum number of bytes the engine will accumulate in a single batched write
+     * before passing the batch to the engine output handler and starting a new batch.  A
+     * frame that is larger than the limit is written on its own.
+     *
+     * @param outputBatchLimit
+     *      The maximum number of bytes accumulated into one batched write.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setOutputBatchLimit(int outputBatchLimit);
+
+    /**
+     * @return the maximum number of bytes the engine will accumulate in a single batched write.
+     */
+    int getOutputBatchLimit();
+
+    /**
+     * Controls whether the engine decodes incoming Transfer, Flow and Disposition frames into a single
+     * instance of each type held for the connection instead of creating new instances for every frame,
+     * and whether the delivery tags of incoming transfers are read into tag instances that are pooled
+     * by the connection and returned to the pool when the receiver releases them on settlement.  With
+     * this enabled a custom {@link EngineHandler} must not retain the performative from an incoming
+     * frame beyond the call that delivered it, and the application must not retain or use the tag of
+     * an incoming delivery after it has been settled.
+     *
+     * @param reuseDecodedPerformatives
+     *      true to reuse decoded performatives and delivery tags.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setReuseDecodedPerformatives(boolean reuseDecodedPerformatives);
+
+    /**
+     * @return true if incoming performatives and delivery tags are decoded into reused instances.
+     */
+    boolean isReuseDecodedPerformatives();
+
+    /**
+     * Sets the maximum number of frame envelopes the engine keeps for reuse in each of the pools
+     * it uses for incoming and outgoing AMQP frames, a larger pool allows more frames to be in
+     * flight at once, for instance awaiting completion of an asynchronous write, without the
+     * engine allocating new envelopes.  A size of zero disables envelope pooling.
+     *
+     * @param envelopePoolSize
+     *      The maximum number of envelopes held in each envelope pool.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     *
+     * @throws IllegalArgumentException if the given size is negative.
+     */
+    EngineConfiguration setEnvelopePoolSize(int envelopePoolSize);
+
+    /**
+     * @return the maximum number of envelopes held in each of the engine's envelope pools.
+     */
+    int getEnvelopePoolSize();
+
+    /**
+     * Controls whether the engine tracks each frame envelope taken from its pools in order to log an
+     * error along with the stack trace of the call that took the envelope when an envelope is garbage
+     * collected without having been released back to its pool.  This adds cost to every frame and is
+     * intended for debugging custom {@link EngineHandler} implementations.
+     *
+     * @param envelopeLeakDetection
+     *      true to enable detection of envelopes that are never released.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setEnvelopeLeakDetection(boolean envelopeLeakDetection);
+
+    /**
+     * @return true if the engine reports frame envelopes that are never released to their pools.
+     */
+    boolean isEnvelopeLeakDetection();
+
 }
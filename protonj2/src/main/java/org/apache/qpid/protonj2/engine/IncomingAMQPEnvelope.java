@@ -41,13 +41,34 @@ public class IncomingAMQPEnvelope extends PerformativeEnvelope<Performative> {
         this.pool = pool;
     }
 
+    /**
+     * Adds a reference to an envelope that was taken from a pool so that the envelope
+     * is not returned to the pool until it has been released once for each reference.
+     *
+     * @return this {@link IncomingAMQPEnvelope} instance.
+     *
+     * @throws IllegalStateException if the envelope has already been released to its pool.
+     */
+    public IncomingAMQPEnvelope retain() {
+        if (pool != null && !retainReference()) {
+            throw new IllegalStateException("Cannot retain an envelope that has already been released");
+        }
+
+        return this;
+    }
+
     /**
      * Used to release a Frame that was taken from a Frame pool in order
      * to make it available for the next input operations.  Once called the
      * contents of the Frame are invalid and cannot be used again inside the
-     * same context.
+     * same context.  An envelope that has been retained is only returned to
+     * the pool once the last reference to it is released.
      */
     public final void release() {
+        if (pool != null && !releaseReference()) {
+            return;
+        }
+
         initialize(null, -1, null);
 
         if (pool != null) {
@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.engine;
 
+import java.nio.ByteBuffer;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
@@ -67,6 +69,19 @@ public interface IncomingDelivery {
      */
     ProtonBuffer readAll();
 
+    /**
+     * Returns read-only views of the currently available bytes of this delivery without copying or consuming
+     * them.  The views share the memory of the buffers that the transfer payloads arrived in, with one view for
+     * each transfer that contributed bytes, so the bytes can be forwarded unchanged using a gathering write.
+     * <p>
+     * The views reflect the bytes available at the time of the call and remain valid only until those bytes are
+     * read from this delivery, bytes that arrive afterwards are not reflected in previously returned views.  Once
+     * the bytes have been forwarded they can be consumed by calling {@link #readAll()} and releasing the result.
+     *
+     * @return read-only views of the currently available bytes, or an empty array if none are available.
+     */
+    ByteBuffer[] viewAvailableBytes();
+
     /**
      * Reads bytes from this delivery and writes them into the destination ProtonBuffer reducing the available
      * bytes by the value of the number of bytes written to the target. The number of bytes written will be the
@@ -16,13 +16,17 @@
  */
 package org.apache.qpid.protonj2.engine;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
+import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.messaging.Source;
 import org.apache.qpid.protonj2.types.messaging.Target;
 import org.apache.qpid.protonj2.types.messaging.Terminus;
 import org.apache.qpid.protonj2.types.transactions.Coordinator;
 import org.apache.qpid.protonj2.types.transport.Attach;
+import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.Detach;
 import org.apache.qpid.protonj2.types.transport.Flow;
 import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
@@ -268,6 +272,30 @@ public interface Link<L extends Link<L>> extends Endpoint<L> {
      */
     UnsignedLong getMaxMessageSize();
 
+    /**
+     * Sets the unsettled map that is conveyed to the remote in the {@link Attach} of this link which is used
+     * to recover the state of deliveries that were in doubt when a previous incarnation of the link with the
+     * same name was lost.  The map is keyed by delivery tag and carries the local delivery state of each of
+     * the in-doubt deliveries (which may be null if no state is known).
+     *
+     * @param unsettled
+     *      The unsettled delivery state map to convey to the remote.
+     *
+     * @return this Link.
+     *
+     * @throws IllegalStateException if the {@link Link} has already been opened.
+     */
+    L setUnsettled(Map<Binary, DeliveryState> unsettled) throws IllegalStateException;
+
+    /**
+     * Gets the local link unsettled delivery state map that was set for link recovery.
+     *
+     * @return the local unsettled delivery state map, or null if none was set.
+     *
+     * @see #setUnsettled(Map)
+     */
+    Map<Binary, DeliveryState> getUnsettled();
+
     //----- View of the state of the link at the remote
 
     /**
@@ -374,6 +402,15 @@ public interface Link<L extends Link<L>> extends Endpoint<L> {
      */
     UnsignedLong getRemoteMaxMessageSize();
 
+    /**
+     * Gets the unsettled delivery state map that the remote conveyed in its {@link Attach}, when the link
+     * is being recovered the map indicates the state of each delivery the remote still considers to be in
+     * doubt.
+     *
+     * @return the remote unsettled delivery state map, or null if none was sent or the remote is not open.
+     */
+    Map<Binary, DeliveryState> getRemoteUnsettled();
+
     /**
      * @return the remote link state (as last communicated)
      */
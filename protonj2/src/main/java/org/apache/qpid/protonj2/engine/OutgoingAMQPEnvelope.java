@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.engine;
 
 import java.util.function.Consumer;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.types.transport.Performative;
 import org.apache.qpid.protonj2.types.transport.Performative.PerformativeHandler;
 
@@ -35,6 +36,7 @@ public class OutgoingAMQPEnvelope extends PerformativeEnvelope<Performative> {
 
     private Consumer<Performative> payloadToLargeHandler = OutgoingAMQPEnvelope::defaultPayloadToLargeHandler;
     private Runnable frameWriteCompleteHandler;
+    private ProtonBuffer encodedBody;
 
     OutgoingAMQPEnvelope() {
         this(null);
@@ -78,6 +80,31 @@ public class OutgoingAMQPEnvelope extends PerformativeEnvelope<Performative> {
         return this;
     }
 
+    /**
+     * Provides the already encoded bytes of the {@link Performative} carried in this envelope which
+     * the frame encoder will copy into the frame in place of encoding the performative again.  This
+     * allows a sender of a large multi-frame transfer to encode the repeated continuation transfer
+     * once and reuse the bytes for every frame.  The supplied bytes must be the exact encoding of the
+     * performative body including a set more flag if the payload will not fit into a single frame,
+     * the readable bytes of the buffer are not consumed by the encoder.
+     *
+     * @param encodedBody
+     *      The encoded bytes of the performative or null to have the encoder encode the body.
+     *
+     * @return this {@link OutgoingAMQPEnvelope} instance.
+     */
+    public OutgoingAMQPEnvelope setEncodedBody(ProtonBuffer encodedBody) {
+        this.encodedBody = encodedBody;
+        return this;
+    }
+
+    /**
+     * @return the already encoded bytes of the performative body or null if none were provided.
+     */
+    public ProtonBuffer getEncodedBody() {
+        return encodedBody;
+    }
+
     /**
      * Configures a handler to be invoked when a write operation that was handed off to the I/O layer
      * has completed indicated that a single frame portion of the payload has been fully written.
@@ -109,17 +136,39 @@ public class OutgoingAMQPEnvelope extends PerformativeEnvelope<Performative> {
         return this;
     }
 
+    /**
+     * Adds a reference to an envelope that was taken from a pool so that the envelope
+     * is not returned to the pool until it has been released once for each reference.
+     *
+     * @return this {@link OutgoingAMQPEnvelope} instance.
+     *
+     * @throws IllegalStateException if the envelope has already been released to its pool.
+     */
+    public OutgoingAMQPEnvelope retain() {
+        if (pool != null && !retainReference()) {
+            throw new IllegalStateException("Cannot retain an envelope that has already been released");
+        }
+
+        return this;
+    }
+
     /**
      * Used to release a Frame that was taken from a Frame pool in order
      * to make it available for the next input operations.  Once called the
      * contents of the Frame are invalid and cannot be used again inside the
-     * same context.
+     * same context.  An envelope that has been retained is only returned to
+     * the pool once the last reference to it is released.
      */
     public final void release() {
+        if (pool != null && !releaseReference()) {
+            return;
+        }
+
         initialize(null, -1, null);
 
         payloadToLargeHandler = OutgoingAMQPEnvelope::defaultPayloadToLargeHandler;
         frameWriteCompleteHandler = null;
+        encodedBody = null;
 
         if (pool != null) {
             pool.release(this);
@@ -138,6 +138,25 @@ public interface OutgoingDelivery {
      */
     OutgoingDelivery setTag(DeliveryTag deliveryTag);
 
+    /**
+     * Marks this delivery as resuming a delivery that was left unsettled when a previous instance of the
+     * parent {@link Sender} link was detached, the first {@link Transfer} written for this delivery will
+     * carry the resume flag.  The delivery should be assigned the tag of the delivery it is resuming.
+     *
+     * @param resume
+     *      true if the delivery resumes a delivery that was unsettled on a previous link instance.
+     *
+     * @return this {@link OutgoingDelivery} instance.
+     *
+     * @throws IllegalStateException if the delivery has already written {@link Transfer} frames.
+     */
+    OutgoingDelivery setResume(boolean resume);
+
+    /**
+     * @return true if the delivery resumes a delivery that was unsettled on a previous link instance.
+     */
+    boolean isResume();
+
     /**
      * Check for whether the delivery is still partial.
      * <p>
@@ -31,6 +31,10 @@ public abstract class PerformativeEnvelope<V> {
     private int channel;
     private ProtonBuffer payload;
 
+    // State used by an envelope pool to track envelopes that were taken from it
+    int references;
+    AMQPPerformativeEnvelopePool.LeakTracker<?> leakTracker;
+
     protected PerformativeEnvelope(byte frameType) {
         this.frameType = frameType;
     }
@@ -43,6 +47,25 @@ public abstract class PerformativeEnvelope<V> {
         return this;
     }
 
+    /*
+     * Adds a reference to a pooled envelope, returns false if the envelope has no references left.
+     */
+    boolean retainReference() {
+        if (references <= 0) {
+            return false;
+        }
+
+        references++;
+        return true;
+    }
+
+    /*
+     * Drops a reference to a pooled envelope, returns true when the last reference was dropped.
+     */
+    boolean releaseReference() {
+        return references > 0 && --references == 0;
+    }
+
     /**
      * @return the decoded body of the performative that this envelope carries..
      */
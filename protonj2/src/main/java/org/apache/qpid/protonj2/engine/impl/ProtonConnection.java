@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
@@ -39,6 +40,9 @@ import org.apache.qpid.protonj2.engine.TransactionManager;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
+import org.apache.qpid.protonj2.engine.util.DenseIntMap;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
+import org.apache.qpid.protonj2.engine.util.IdentifierAllocator;
 import org.apache.qpid.protonj2.logging.ProtonLogger;
 import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -69,12 +73,13 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
     private AMQPHeader remoteHeader;
 
     private Map<Integer, ProtonSession> localSessions = new LinkedHashMap<>();
-    private Map<Integer, ProtonSession> remoteSessions = new LinkedHashMap<>();
+    private DenseIntMap<ProtonSession> remoteSessions = new DenseIntMap<>();
 
     // These would be sessions that were begun and ended before the remote ever
     // responded with a matching being and end.  The remote is required to complete
     // these before answering a new begin sequence on the same local channel.
     private Map<Integer, SoftReference<ProtonSession>> zombieSessions = new LinkedHashMap<>();
+    private IdentifierAllocator localChannels = new IdentifierAllocator();
 
     private ConnectionState localState = ConnectionState.IDLE;
     private ConnectionState remoteState = ConnectionState.IDLE;
@@ -185,6 +190,13 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
         return this;
     }
 
+    @Override
+    public Connection tickAuto(Executor executor, HashedWheelTimer timer) {
+        checkConnectionClosed("Cannot call tickAuto on an already closed Connection");
+        engine.tickAuto(executor, timer);
+        return this;
+    }
+
     @Override
     public boolean isLocallyClosed() {
         return getState() == ConnectionState.CLOSED;
@@ -476,6 +488,7 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
                             // The session will now get tracked as a remote session and the next
                             // end will take care of normal remote session cleanup.
                             zombieSessions.remove(localSessionChannel);
+                            releaseLocalChannelIfUnused(localSessionChannel);
                         } else {
                             // The session was reclaimed by GC and we retain the fact that it was
                             // here so that the end that should be following doesn't result in an
@@ -514,6 +527,8 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
             // due to it being cleaned up by GC,
             if (zombieSessions.remove(channel) == null) {
                 engine.engineFailed(new ProtocolViolationException("Received uncorrelated channel on End from remote: " + channel));
+            } else {
+                releaseLocalChannelIfUnused(channel);
             }
         } else {
             session.remoteEnd(end, channel);
@@ -708,17 +723,16 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
         } else {
             result = new LinkedHashSet<>(localSessions.size());
             result.addAll(localSessions.values());
-            result.addAll(remoteSessions.values());
+            remoteSessions.forEach(result::add);
         }
 
         return result;
     }
 
     private int findFreeLocalChannel() {
-        for (int i = 0; i <= localOpen.getChannelMax(); ++i) {
-            if (!localSessions.containsKey(i) && !zombieSessions.containsKey(i)) {
-                return i;
-            }
+        final int channel = localChannels.allocate(localOpen.getChannelMax());
+        if (channel >= 0) {
+            return channel;
         }
 
         // We didn't find one that isn't free and also not awaiting remote being / end
@@ -743,6 +757,15 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
             // The remote hasn't answered our begin yet so we need to hold onto this information
             // and process the eventual begin that must be provided per specification.
             zombieSessions.put(localChannel, new SoftReference<>(session));
+        } else {
+            releaseLocalChannelIfUnused(localChannel);
+        }
+    }
+
+    private void releaseLocalChannelIfUnused(int localChannel) {
+        // The channel remains allocated while either a live or a zombie session refers to it
+        if (!localSessions.containsKey(localChannel) && !zombieSessions.containsKey(localChannel)) {
+            localChannels.free(localChannel);
         }
     }
 
@@ -66,6 +66,18 @@ public abstract class ProtonDeliveryTagGenerator implements DeliveryTagGenerator
                 return new ProtonPooledTagGenerator();
             }
         },
+        /**
+         * Provides a {@link DeliveryTagGenerator} that recycles the tags of settled deliveries and
+         * so creates only as many tags as there are unsettled deliveries at the busiest point.  The
+         * tags are encoded as fixed width eight byte numeric values.
+         */
+        RECYCLING {
+
+            @Override
+            public DeliveryTagGenerator createGenerator() {
+                return new ProtonRecyclingTagGenerator();
+            }
+        },
         /**
          * Provides a {@link DeliveryTagGenerator} that returns a singleton empty tag value that can be
          * used by senders that are sending settled deliveries and simply need to provide a non-null tag
@@ -16,7 +16,9 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.ArrayList;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -27,11 +29,13 @@ import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.ConnectionState;
 import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.EngineHandler;
 import org.apache.qpid.protonj2.engine.EnginePipeline;
 import org.apache.qpid.protonj2.engine.EngineSaslDriver;
 import org.apache.qpid.protonj2.engine.EngineState;
 import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
+import org.apache.qpid.protonj2.engine.IncomingAMQPEnvelope;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotStartedException;
@@ -41,6 +45,7 @@ import org.apache.qpid.protonj2.engine.exceptions.EngineStartedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.IdleTimeoutException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtonExceptionSupport;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.logging.ProtonLogger;
 import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -57,11 +62,14 @@ public class ProtonEngine implements Engine {
     private static final ProtonBuffer EMPTY_FRAME_BUFFER =
         ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] {0x00, 0x00, 0x00, 0x08, 0x02, 0x00, 0x00, 0x00});
 
+    private static final int OUTPUT_BATCH_INITIAL_SIZE = 1024;
+
     private final ProtonEnginePipeline pipeline =  new ProtonEnginePipeline(this);
     private final ProtonEnginePipelineProxy pipelineProxy = new ProtonEnginePipelineProxy(pipeline);
     private final ProtonEngineConfiguration configuration = new ProtonEngineConfiguration(this);
     private final ProtonConnection connection = new ProtonConnection(this);
-    private final AMQPPerformativeEnvelopePool<OutgoingAMQPEnvelope> framePool = AMQPPerformativeEnvelopePool.outgoingEnvelopePool();
+    private final AMQPPerformativeEnvelopePool<OutgoingAMQPEnvelope> framePool =
+        AMQPPerformativeEnvelopePool.outgoingEnvelopePool(ProtonEngineConfiguration.DEFAULT_ENVELOPE_POOL_SIZE);
 
     private EngineSaslDriver saslDriver = new ProtonEngineNoOpSaslDriver();
 
@@ -71,9 +79,16 @@ public class ProtonEngine implements Engine {
     private int inputSequence;
     private int outputSequence;
 
+    // Output batching state
+    private int outputBatchDepth;
+    private ProtonBuffer outputBatch;
+    private boolean outputBatchAggregated;
+    private final ArrayList<Runnable> outputBatchCallbacks = new ArrayList<>();
+
     // Idle Timeout Check data
     private ScheduledFuture<?> nextIdleTimeoutCheck;
-    private ScheduledExecutorService idleTimeoutExecutor;
+    private Executor idleTimeoutExecutor;
+    private HashedWheelTimer idleTimeoutTimer;
     private int lastInputSequence;
     private int lastOutputSequence;
     private long localIdleDeadline = 0;
@@ -214,6 +229,29 @@ public class ProtonEngine implements Engine {
         return this;
     }
 
+    @Override
+    public ProtonEngine tickAuto(Executor executor, HashedWheelTimer timer) throws IllegalStateException, EngineStateException {
+        checkShutdownOrFailed("Cannot start auto tick on an Engine that has been shutdown or failed");
+
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(timer);
+
+        if (connection.getState() != ConnectionState.ACTIVE) {
+            throw new IllegalStateException("Cannot tick on a Connection that is not opened.");
+        }
+
+        if (idleTimeoutExecutor != null) {
+            throw new IllegalStateException("Automatic ticking previously initiated.");
+        }
+
+        LOG.trace("Auto Idle Timeout Check being initiated using shared timer");
+        idleTimeoutExecutor = executor;
+        idleTimeoutTimer = timer;
+        idleTimeoutExecutor.execute(new IdleTimeoutCheck());
+
+        return this;
+    }
+
     @Override
     public ProtonEngine ingest(ProtonBuffer input) throws EngineStateException {
         checkShutdownOrFailed("Cannot ingest data into an Engine that has been shutdown or failed");
@@ -222,6 +260,7 @@ public class ProtonEngine implements Engine {
             throw new EngineNotWritableException("Engine is currently not accepting new input");
         }
 
+        beginOutputBatch();
         try {
             int startIndex = input.getReadIndex();
             pipeline.fireRead(input);
@@ -230,6 +269,8 @@ public class ProtonEngine implements Engine {
             }
         } catch (Exception error) {
             throw engineFailed(error);
+        } finally {
+            endOutputBatch();
         }
 
         return this;
@@ -339,6 +380,25 @@ public class ProtonEngine implements Engine {
         this.saslDriver = saslDriver;
     }
 
+    /**
+     * @return the pool of envelopes used to carry outgoing AMQP frames through the engine pipeline.
+     */
+    public AMQPPerformativeEnvelopePool<OutgoingAMQPEnvelope> outgoingEnvelopePool() {
+        return framePool;
+    }
+
+    /**
+     * @return the pool of envelopes used to carry incoming AMQP frames or null if the engine has no frame decoder.
+     */
+    public AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> incomingEnvelopePool() {
+        final EngineHandler handler = pipeline.find(ProtonConstants.FRAME_DECODING_HANDLER);
+        if (handler instanceof ProtonFrameDecodingHandler) {
+            return ((ProtonFrameDecodingHandler) handler).envelopePool();
+        } else {
+            return null;
+        }
+    }
+
     //----- Internal proton engine implementation
 
     ProtonEngine fireWrite(HeaderEnvelope frame) {
@@ -387,7 +447,95 @@ public class ProtonEngine implements Engine {
         }
     }
 
+    /**
+     * Starts (or joins) a scope in which frames written by the engine are accumulated when
+     * output batching is enabled, the batch is written when the outermost scope is ended.
+     */
+    void beginOutputBatch() {
+        outputBatchDepth++;
+    }
+
+    /**
+     * Ends a scope started by {@link #beginOutputBatch()} writing any accumulated output if
+     * this was the outermost scope.
+     */
+    void endOutputBatch() {
+        if (--outputBatchDepth == 0) {
+            flushOutputBatch();
+        }
+    }
+
     void dispatchWriteToEventHandler(ProtonBuffer buffer, Runnable ioComplete) {
+        if (outputBatchDepth > 0 && configuration.isOutputBatching()) {
+            batchOutput(buffer, ioComplete);
+        } else {
+            writeToEventHandler(buffer, ioComplete);
+        }
+    }
+
+    private void batchOutput(ProtonBuffer buffer, Runnable ioComplete) {
+        final int limit = configuration.getOutputBatchLimit();
+        final int frameSize = buffer.getReadableBytes();
+
+        if (outputBatch != null && outputBatch.getReadableBytes() + frameSize > limit) {
+            flushOutputBatch();
+        }
+
+        if (frameSize >= limit) {
+            writeToEventHandler(buffer, ioComplete);
+            return;
+        }
+
+        if (outputBatch == null) {
+            // Hold the first frame as is, it is only copied if another frame joins the batch
+            outputBatch = buffer;
+        } else {
+            if (!outputBatchAggregated) {
+                final ProtonBuffer first = outputBatch;
+                outputBatch = configuration.getBufferAllocator().outputBuffer(
+                    Math.min(limit, Math.max(first.getReadableBytes() + frameSize, OUTPUT_BATCH_INITIAL_SIZE)), limit);
+                outputBatch.writeBytes(first);
+                outputBatchAggregated = true;
+                first.release();
+            }
+
+            outputBatch.writeBytes(buffer);
+            buffer.release();
+        }
+
+        outputBatchCallbacks.add(ioComplete);
+    }
+
+    private void flushOutputBatch() {
+        if (outputBatch == null) {
+            return;
+        }
+
+        final ProtonBuffer batch = outputBatch;
+        final Runnable ioComplete;
+
+        outputBatch = null;
+        outputBatchAggregated = false;
+
+        if (outputBatchCallbacks.size() == 1) {
+            ioComplete = outputBatchCallbacks.get(0);
+        } else {
+            final Runnable[] callbacks = outputBatchCallbacks.toArray(new Runnable[outputBatchCallbacks.size()]);
+            ioComplete = () -> {
+                for (Runnable callback : callbacks) {
+                    if (callback != null) {
+                        callback.run();
+                    }
+                }
+            };
+        }
+
+        outputBatchCallbacks.clear();
+
+        writeToEventHandler(batch, ioComplete);
+    }
+
+    private void writeToEventHandler(ProtonBuffer buffer, Runnable ioComplete) {
         if (outputHandler != null) {
             outputSequence++;
             try {
@@ -500,7 +648,11 @@ public class ProtonEngine implements Engine {
 
                         checkScheduled = true;
                         LOG.trace("IdleTimeoutCheck rescheduling with delay: {}", delay);
-                        nextIdleTimeoutCheck = idleTimeoutExecutor.schedule(this, delay, TimeUnit.MILLISECONDS);
+                        if (idleTimeoutTimer != null) {
+                            nextIdleTimeoutCheck = idleTimeoutTimer.newTimeout(this, idleTimeoutExecutor, delay, TimeUnit.MILLISECONDS);
+                        } else {
+                            nextIdleTimeoutCheck = ((ScheduledExecutorService) idleTimeoutExecutor).schedule(this, delay, TimeUnit.MILLISECONDS);
+                        }
                     }
 
                     // TODO - If no local timeout but remote hasn't opened we might return zero and not
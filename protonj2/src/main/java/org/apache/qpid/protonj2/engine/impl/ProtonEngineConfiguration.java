@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.engine.impl;
 
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EngineConfiguration;
 import org.apache.qpid.protonj2.engine.EngineHandler;
 import org.apache.qpid.protonj2.engine.EngineSaslDriver.SaslState;
@@ -32,6 +33,16 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
 
     private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonEngineConfiguration.class);
 
+    /**
+     * Default limit on the number of bytes accumulated into a single batched engine write.
+     */
+    public static final int DEFAULT_OUTPUT_BATCH_LIMIT = 64 * 1024;
+
+    /**
+     * Default maximum number of envelopes held in each of the engine's frame envelope pools.
+     */
+    public static final int DEFAULT_ENVELOPE_POOL_SIZE = AMQPPerformativeEnvelopePool.DEFAULT_MAX_POOL_SIZE;
+
     private final ProtonEngine engine;
 
     private ProtonBufferAllocator allocator = ProtonByteBufferAllocator.DEFAULT;
@@ -39,6 +50,12 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
     private long effectiveMaxInboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
     private long effectiveMaxOutboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
 
+    private boolean outputBatching;
+    private int outputBatchLimit = DEFAULT_OUTPUT_BATCH_LIMIT;
+    private boolean reuseDecodedPerformatives;
+    private int envelopePoolSize = DEFAULT_ENVELOPE_POOL_SIZE;
+    private boolean envelopeLeakDetection;
+
     ProtonEngineConfiguration(ProtonEngine engine) {
         this.engine = engine;
     }
@@ -79,6 +96,81 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
         }
     }
 
+    @Override
+    public ProtonEngineConfiguration setOutputBatching(boolean outputBatching) {
+        this.outputBatching = outputBatching;
+        return this;
+    }
+
+    @Override
+    public boolean isOutputBatching() {
+        return outputBatching;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setOutputBatchLimit(int outputBatchLimit) {
+        if (outputBatchLimit <= 0) {
+            throw new IllegalArgumentException("Output batch limit must be greater than zero");
+        }
+
+        this.outputBatchLimit = outputBatchLimit;
+        return this;
+    }
+
+    @Override
+    public int getOutputBatchLimit() {
+        return outputBatchLimit;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setReuseDecodedPerformatives(boolean reuseDecodedPerformatives) {
+        this.reuseDecodedPerformatives = reuseDecodedPerformatives;
+        return this;
+    }
+
+    @Override
+    public boolean isReuseDecodedPerformatives() {
+        return reuseDecodedPerformatives;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setEnvelopePoolSize(int envelopePoolSize) {
+        if (envelopePoolSize < 0) {
+            throw new IllegalArgumentException("Envelope pool size cannot be negative");
+        }
+
+        this.envelopePoolSize = envelopePoolSize;
+
+        engine.outgoingEnvelopePool().setMaxPoolSize(envelopePoolSize);
+        if (engine.incomingEnvelopePool() != null) {
+            engine.incomingEnvelopePool().setMaxPoolSize(envelopePoolSize);
+        }
+
+        return this;
+    }
+
+    @Override
+    public int getEnvelopePoolSize() {
+        return envelopePoolSize;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setEnvelopeLeakDetection(boolean envelopeLeakDetection) {
+        this.envelopeLeakDetection = envelopeLeakDetection;
+
+        engine.outgoingEnvelopePool().setLeakDetection(envelopeLeakDetection);
+        if (engine.incomingEnvelopePool() != null) {
+            engine.incomingEnvelopePool().setLeakDetection(envelopeLeakDetection);
+        }
+
+        return this;
+    }
+
+    @Override
+    public boolean isEnvelopeLeakDetection() {
+        return envelopeLeakDetection;
+    }
+
     //---- proton specific APIs
 
     void recomputeEffectiveFrameSizeLimits() {
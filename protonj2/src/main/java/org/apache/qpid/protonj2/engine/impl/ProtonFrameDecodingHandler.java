@@ -17,11 +17,11 @@
 package org.apache.qpid.protonj2.engine.impl;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
-import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EmptyEnvelope;
 import org.apache.qpid.protonj2.engine.EngineHandler;
@@ -62,10 +62,12 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
      */
     public static final int FRAME_SIZE_BYTES = 4;
 
-    private final AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> framePool = AMQPPerformativeEnvelopePool.incomingEnvelopePool();
+    private final AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> framePool =
+        AMQPPerformativeEnvelopePool.incomingEnvelopePool(ProtonEngineConfiguration.DEFAULT_ENVELOPE_POOL_SIZE);
 
     private Decoder decoder;
     private DecoderState decoderState;
+    private int dispatchDepth;
     private FrameParserStage stage = new HeaderParsingStage();
     private ProtonEngine engine;
     private ProtonEngineConfiguration configuration;
@@ -81,6 +83,16 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
     public void handlerAdded(EngineHandlerContext context) {
         engine = (ProtonEngine) context.engine();
         configuration = engine.configuration();
+
+        framePool.setMaxPoolSize(configuration.getEnvelopePoolSize());
+        framePool.setLeakDetection(configuration.isEnvelopeLeakDetection());
+    }
+
+    /**
+     * @return the pool of envelopes this handler uses to carry decoded AMQP frames.
+     */
+    public AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> envelopePool() {
+        return framePool;
     }
 
     @Override
@@ -297,6 +309,8 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 try {
                     stage.parse(context, buffer);
                 } finally {
+                    // Decoded frames copy what they keep so the frame buffer can go back to the pool
+                    buffer.release();
                     buffer = null;
                 }
             }
@@ -304,7 +318,7 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
 
         @Override
         public FrameBufferingStage reset(int length) {
-            buffer = ProtonByteBufferAllocator.DEFAULT.allocate(length, length);
+            buffer = configuration.getBufferAllocator().allocate(length, length);
             return this;
         }
     }
@@ -335,6 +349,13 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
 
             if (frameBodySize > 0) {
                 int startReadIndex = input.getReadIndex();
+
+                // A decoded performative is only reused when no earlier frame is still being dispatched
+                if (decoderState instanceof ProtonDecoderState) {
+                    ((ProtonDecoderState) decoderState).setReusePerformatives(
+                        dispatchDepth == 0 && configuration.isReuseDecodedPerformatives());
+                }
+
                 val = decoder.readObject(input, decoderState);
 
                 // Copy the payload portion of the incoming bytes for now as the incoming may be
@@ -360,7 +381,13 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 Performative performative = (Performative) val;
                 IncomingAMQPEnvelope frame = framePool.take(performative, channel, payload);
                 transitionToFrameSizeParsingStage();
-                context.fireRead(frame);
+
+                dispatchDepth++;
+                try {
+                    context.fireRead(frame);
+                } finally {
+                    dispatchDepth--;
+                }
             } else if (type == SASL_FRAME_TYPE) {
                 SaslPerformative performative = (SaslPerformative) val;
                 SASLEnvelope saslFrame = new SASLEnvelope(performative);
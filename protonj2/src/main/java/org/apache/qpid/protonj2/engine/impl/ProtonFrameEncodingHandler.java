@@ -28,6 +28,7 @@ import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
 import org.apache.qpid.protonj2.engine.SASLEnvelope;
 import org.apache.qpid.protonj2.engine.exceptions.FrameEncodingException;
+import org.apache.qpid.protonj2.types.transport.AMQPHeader;
 import org.apache.qpid.protonj2.types.transport.Performative;
 
 /**
@@ -46,7 +47,7 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     public static final byte SASL_FRAME_TYPE = (byte) 1;
 
     private static final int AMQP_PERFORMATIVE_PAD = 256;
-    private static final int FRAME_HEADER_SIZE = 8;
+    static final int FRAME_HEADER_SIZE = 8;
     private static final int FRAME_DOFF_SIZE = 2;
 
     private static final int FRAME_START_BYTE = 0;
@@ -76,7 +77,10 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
 
     @Override
     public void handleWrite(EngineHandlerContext context, HeaderEnvelope envelope) {
-        context.fireWrite(envelope.getBody().getBuffer(), null);
+        final ProtonBuffer output = configuration.getBufferAllocator().outputBuffer(
+            AMQPHeader.HEADER_SIZE_BYTES, AMQPHeader.HEADER_SIZE_BYTES);
+
+        context.fireWrite(output.writeBytes(envelope.getBody().getBuffer()), null);
     }
 
     @Override
@@ -103,17 +107,26 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
         final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
         final int outputBufferSize = Math.min(maxFrameSize, AMQP_PERFORMATIVE_PAD + payload.getReadableBytes());
         final ProtonBuffer output = configuration.getBufferAllocator().outputBuffer(outputBufferSize, maxFrameSize);
+        final ProtonBuffer encodedBody = envelope.getEncodedBody();
+
+        if (encodedBody != null) {
+            // The sender has already encoded the performative with the more flag set so the
+            // bytes are copied as is and the frame filled with as much of the payload as fits.
+            output.setWriteIndex(FRAME_HEADER_SIZE);
+            output.writeBytes(encodedBody, encodedBody.getReadIndex(), encodedBody.getReadableBytes());
+            output.writeBytes(payload, Math.min(payload.getReadableBytes(), output.getMaxWritableBytes()));
+        } else {
+            writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
 
-        writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
-
-        if (payload.getReadableBytes() > output.getMaxWritableBytes()) {
-            envelope.handlePayloadToLarge();
+            if (payload.getReadableBytes() > output.getMaxWritableBytes()) {
+                envelope.handlePayloadToLarge();
 
-            writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
+                writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
 
-            output.writeBytes(payload, output.getMaxWritableBytes());
-        } else {
-            output.writeBytes(payload);
+                output.writeBytes(payload, output.getMaxWritableBytes());
+            } else {
+                output.writeBytes(payload);
+            }
         }
 
         // Now fill in the frame header with the specified information
@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.nio.ByteBuffer;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.engine.EventHandler;
@@ -28,6 +30,8 @@ import org.apache.qpid.protonj2.types.transport.DeliveryState;
  */
 public class ProtonIncomingDelivery implements IncomingDelivery {
 
+    private static final ByteBuffer[] EMPTY_VIEWS = new ByteBuffer[0];
+
     private final DeliveryTag deliveryTag;
     private final ProtonReceiver link;
     private final long deliveryId;
@@ -201,6 +205,20 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
         return result;
     }
 
+    @Override
+    public ByteBuffer[] viewAvailableBytes() {
+        if (payload == null) {
+            return EMPTY_VIEWS;
+        }
+
+        final ByteBuffer[] views = payload.nioBuffers();
+        for (int i = 0; i < views.length; ++i) {
+            views[i] = views[i].asReadOnlyBuffer();
+        }
+
+        return views;
+    }
+
     @Override
     public ProtonIncomingDelivery readBytes(ProtonBuffer buffer) {
         if (payload != null) {
@@ -208,6 +226,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.readBytes(buffer);
             bytesRead -= payload.getReadableBytes();
             if (!payload.isReadable()) {
+                payload.release();
                 payload = null;
                 aggregate = null;
             }
@@ -228,6 +247,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.readBytes(array, offset, length);
             bytesRead -= payload.getReadableBytes();
             if (!payload.isReadable()) {
+                payload.release();
                 payload = null;
                 aggregate = null;
             }
@@ -309,6 +329,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
         if (payload != null) {
             final int bytesRead = payload.getReadableBytes();
 
+            payload.release();
             payload = null;
             aggregate = null;
 
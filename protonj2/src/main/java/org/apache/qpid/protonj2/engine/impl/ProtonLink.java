@@ -31,6 +31,7 @@ import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
 import org.apache.qpid.protonj2.logging.ProtonLogger;
 import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.messaging.Source;
@@ -38,6 +39,7 @@ import org.apache.qpid.protonj2.types.messaging.Target;
 import org.apache.qpid.protonj2.types.messaging.Terminus;
 import org.apache.qpid.protonj2.types.transactions.Coordinator;
 import org.apache.qpid.protonj2.types.transport.Attach;
+import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.Detach;
 import org.apache.qpid.protonj2.types.transport.Disposition;
 import org.apache.qpid.protonj2.types.transport.Flow;
@@ -160,7 +162,7 @@ public abstract class ProtonLink<L extends Link<L>> extends ProtonEndpoint<L> im
         if (getState() == LinkState.IDLE) {
             checkLinkOperable("Cannot open Link");
             localState = LinkState.ACTIVE;
-            long localHandle = session.findFreeLocalHandle(this);
+            long localHandle = session.findFreeLocalHandle();
             localAttach.setHandle(localHandle);
             transitionedToLocallyOpened();
             try {
@@ -347,6 +349,28 @@ public abstract class ProtonLink<L extends Link<L>> extends ProtonEndpoint<L> im
         return localAttach.getMaxMessageSize();
     }
 
+    @Override
+    public L setUnsettled(Map<Binary, DeliveryState> unsettled) {
+        checkNotOpened("Cannot set Unsettled state on already opened Link");
+
+        if (unsettled != null) {
+            localAttach.setUnsettled(new LinkedHashMap<>(unsettled));
+        } else {
+            localAttach.setUnsettled(unsettled);
+        }
+
+        return self();
+    }
+
+    @Override
+    public Map<Binary, DeliveryState> getUnsettled() {
+        if (localAttach.getUnsettled() != null) {
+            return Collections.unmodifiableMap(localAttach.getUnsettled());
+        }
+
+        return null;
+    }
+
     @Override
     public boolean isLocallyOpen() {
         return getState() == LinkState.ACTIVE;
@@ -460,6 +484,15 @@ public abstract class ProtonLink<L extends Link<L>> extends ProtonEndpoint<L> im
         return null;
     }
 
+    @Override
+    public Map<Binary, DeliveryState> getRemoteUnsettled() {
+        if (remoteAttach != null && remoteAttach.getUnsettled() != null) {
+            return Collections.unmodifiableMap(remoteAttach.getUnsettled());
+        }
+
+        return null;
+    }
+
     //----- Event registration methods
 
     @Override
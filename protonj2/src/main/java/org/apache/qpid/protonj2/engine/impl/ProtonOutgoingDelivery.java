@@ -40,6 +40,7 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
     private boolean complete;
     private int messageFormat;
     private boolean aborted;
+    private boolean resume;
     private int transferCount;
 
     private DeliveryState localState;
@@ -118,6 +119,21 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
         return this;
     }
 
+    @Override
+    public OutgoingDelivery setResume(boolean resume) {
+        if (transferCount > 0) {
+            throw new IllegalStateException("Cannot change resume state once Delivery has sent Transfer frames");
+        }
+
+        this.resume = resume;
+        return this;
+    }
+
+    @Override
+    public boolean isResume() {
+        return resume;
+    }
+
     @Override
     public DeliveryState getState() {
         return localState;
@@ -16,10 +16,8 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -31,9 +29,7 @@ import org.apache.qpid.protonj2.engine.Receiver;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.DeliveryIdTracker;
-import org.apache.qpid.protonj2.engine.util.LinkedSplayMap;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
-import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.engine.util.UnsettledMap;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.Detach;
@@ -54,7 +50,7 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
 
     private final ProtonSessionIncomingWindow sessionWindow;
     private final DeliveryIdTracker currentDeliveryId = new DeliveryIdTracker();
-    private final SplayMap<ProtonIncomingDelivery> unsettled = new LinkedSplayMap<>();
+    private final UnsettledMap<ProtonIncomingDelivery> unsettled = new UnsettledMap<>();
 
     private DeliveryState defaultDeliveryState;
     private LinkCreditState drainStateSnapshot;
@@ -172,29 +168,32 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         return drainStateSnapshot != null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Receiver disposition(Predicate<IncomingDelivery> filter, DeliveryState disposition, boolean settle) {
         checkLinkOperable("Cannot apply disposition");
         Objects.requireNonNull(filter, "Supplied filter cannot be null");
 
-        List<UnsignedInteger> toRemove = settle ? new ArrayList<>() : Collections.EMPTY_LIST;
-
-        unsettled.forEach((deliveryId, delivery) -> {
-            if (filter.test(delivery)) {
-                if (disposition != null) {
-                    delivery.localState(disposition);
-                }
-                if (settle) {
-                    delivery.locallySettled();
-                    toRemove.add(deliveryId);
+        getEngine().beginOutputBatch();
+        try {
+            unsettled.forEach(delivery -> {
+                if (filter.test(delivery)) {
+                    if (disposition != null) {
+                        delivery.localState(disposition);
+                    }
+                    if (settle) {
+                        delivery.locallySettled();
+                    }
+                    sessionWindow.processDisposition(this, delivery);
+                    if (settle) {
+                        unsettled.remove((int) delivery.getDeliveryId());
+                        if (delivery.getTag() != null) {
+                            delivery.getTag().release();
+                        }
+                    }
                 }
-                sessionWindow.processDisposition(this, delivery);
-            }
-        });
-
-        if (!toRemove.isEmpty()) {
-            toRemove.forEach(deliveryId -> unsettled.remove(deliveryId));
+            });
+        } finally {
+            getEngine().endOutputBatch();
         }
 
         return this;
@@ -211,7 +210,7 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         if (unsettled.isEmpty()) {
             return Collections.EMPTY_LIST;
         } else {
-            return Collections.unmodifiableCollection(new ArrayList<>(unsettled.values()));
+            return Collections.unmodifiableCollection(unsettled.values());
         }
     }
 
@@ -389,6 +388,11 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
 
         if (!currentDeliveryId.isEmpty() && (!transfer.hasDeliveryId() || currentDeliveryId.equals((int) transfer.getDeliveryId()))) {
             delivery = unsettled.get(currentDeliveryId.intValue());
+
+            // The delivery holds the tag from its first transfer so any tag repeated here is not kept
+            if (transfer.hasDeliveryTag()) {
+                transfer.getDeliveryTag().release();
+            }
         } else {
             verifyNewDeliveryIdSequence(transfer, currentDeliveryId);
 
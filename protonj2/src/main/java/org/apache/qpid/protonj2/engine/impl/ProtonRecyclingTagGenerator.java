@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.impl;
+
+import java.util.ArrayDeque;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonByteUtils;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+
+/**
+ * Built in Transfer {@link DeliveryTag} generator that recycles the tags of settled deliveries
+ * without placing a fixed limit on the number of tags it tracks.  Each tag is returned to the
+ * generator when the delivery that carried it is settled so the number of tag instances created
+ * follows the peak number of unsettled deliveries on the link instead of a configured pool size.
+ * Tags are always encoded as a fixed width eight byte value written directly into the outgoing
+ * Transfer which trades a few bytes per frame for tag handling that never allocates once the
+ * number of unsettled deliveries stops growing.
+ */
+public class ProtonRecyclingTagGenerator extends ProtonDeliveryTagGenerator {
+
+    /**
+     * The default limit on the number of released tags held for reuse by this generator.
+     */
+    public static final int DEFAULT_MAX_NUM_RECYCLED_TAGS = Integer.MAX_VALUE;
+
+    private final int maxRecycledTags;
+    private final ArrayDeque<ProtonRecyclingDeliveryTag> recycled = new ArrayDeque<>();
+
+    private long nextTagId;
+
+    /**
+     * Creates a new {@link ProtonRecyclingTagGenerator} whose recycled tags are limited only by
+     * the number of unsettled deliveries.
+     */
+    public ProtonRecyclingTagGenerator() {
+        this(DEFAULT_MAX_NUM_RECYCLED_TAGS);
+    }
+
+    /**
+     * Creates a new {@link ProtonRecyclingTagGenerator} instance which holds at most the given
+     * number of released tags for reuse, tags released beyond that limit are left for the GC.
+     *
+     * @param maxRecycledTags
+     * 		The maximum number of released tags that are kept for reuse.
+     */
+    public ProtonRecyclingTagGenerator(int maxRecycledTags) {
+        if (maxRecycledTags < 0) {
+            throw new IllegalArgumentException("Cannot create a tag generator with negative recycled tag limit");
+        }
+
+        this.maxRecycledTags = maxRecycledTags;
+    }
+
+    @Override
+    public DeliveryTag nextTag() {
+        final ProtonRecyclingDeliveryTag tag = recycled.pollLast();
+        if (tag != null) {
+            return tag.checkOut();
+        } else {
+            return new ProtonRecyclingDeliveryTag(nextTagId++).checkOut();
+        }
+    }
+
+    /**
+     * @return the number of released tags currently held for reuse.
+     */
+    public int getRecycledTagCount() {
+        return recycled.size();
+    }
+
+    /*
+     * Test entry point to validate tag counter overflow.
+     */
+    void setNextTagId(long nextIdValue) {
+        this.nextTagId = nextIdValue;
+    }
+
+    //----- Fixed width DeliveryTag that releases itself back to the generator
+
+    private final class ProtonRecyclingDeliveryTag implements DeliveryTag {
+
+        private final long tagValue;
+
+        private boolean checkedOut;
+        private byte[] tagBytes;
+        private ProtonBuffer tagView;
+
+        public ProtonRecyclingDeliveryTag(long tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public ProtonRecyclingDeliveryTag checkOut() {
+            this.checkedOut = true;
+            return this;
+        }
+
+        @Override
+        public void release() {
+            if (checkedOut) {
+                checkedOut = false;
+                if (recycled.size() < maxRecycledTags) {
+                    // A settled tag value can be reused immediately as no unsettled delivery carries it
+                    recycled.offerLast(this);
+                }
+            }
+        }
+
+        @Override
+        public int tagLength() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public byte[] tagBytes() {
+            // The tag value never changes while the tag is recycled so the bytes are created only once
+            if (tagBytes == null) {
+                tagBytes = ProtonByteUtils.toByteArray(tagValue);
+            }
+
+            return tagBytes;
+        }
+
+        @Override
+        public ProtonBuffer tagBuffer() {
+            if (tagView == null) {
+                tagView = ProtonByteBufferAllocator.DEFAULT.wrap(tagBytes());
+            }
+
+            return tagView;
+        }
+
+        @Override
+        public void writeTo(ProtonBuffer buffer) {
+            buffer.writeLong(tagValue);
+        }
+
+        @Override
+        public DeliveryTag copy() {
+            // Copies are never checked out and so are not recycled when released
+            return new ProtonRecyclingDeliveryTag(tagValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(tagValue);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+
+            ProtonRecyclingDeliveryTag other = (ProtonRecyclingDeliveryTag) obj;
+            if (tagValue != other.tagValue) {
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "{" + tagValue + "}";
+        }
+    }
+}
@@ -16,10 +16,8 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -30,9 +28,7 @@ import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.util.DeliveryIdTracker;
-import org.apache.qpid.protonj2.engine.util.LinkedSplayMap;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
-import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.engine.util.UnsettledMap;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.Detach;
@@ -48,12 +44,13 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
 
     private final ProtonSessionOutgoingWindow sessionWindow;
     private final DeliveryIdTracker currentDeliveryId = new DeliveryIdTracker();
-    private final SplayMap<ProtonOutgoingDelivery> unsettled = new LinkedSplayMap<>();
+    private final UnsettledMap<ProtonOutgoingDelivery> unsettled = new UnsettledMap<>();
 
     private EventHandler<OutgoingDelivery> deliveryUpdatedEventHandler = null;
     private EventHandler<Sender> linkCreditUpdatedHandler = null;
 
     private boolean sendable;
+    private boolean scheduled;
     private DeliveryTagGenerator autoTagGenerator;
     private OutgoingDelivery current;
 
@@ -116,29 +113,29 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         return this;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Sender disposition(Predicate<OutgoingDelivery> filter, DeliveryState state, boolean settle) {
         checkLinkOperable("Cannot apply disposition");
         Objects.requireNonNull(filter, "Supplied filter cannot be null");
 
-        List<UnsignedInteger> toRemove = settle ? new ArrayList<>() : Collections.EMPTY_LIST;
-
-        unsettled.forEach((deliveryId, delivery) -> {
-            if (filter.test(delivery)) {
-                if (state != null) {
-                    delivery.localState(state);
-                }
-                if (settle) {
-                    delivery.locallySettled();
-                    toRemove.add(deliveryId);
+        getEngine().beginOutputBatch();
+        try {
+            unsettled.forEach(delivery -> {
+                if (filter.test(delivery)) {
+                    if (state != null) {
+                        delivery.localState(state);
+                    }
+                    if (settle) {
+                        delivery.locallySettled();
+                    }
+                    sessionWindow.processDisposition(this, delivery);
+                    if (settle) {
+                        unsettled.remove((int) delivery.getDeliveryId());
+                    }
                 }
-                sessionWindow.processDisposition(this, delivery);
-            }
-        });
-
-        if (!toRemove.isEmpty()) {
-            toRemove.forEach(deliveryId -> unsettled.remove(deliveryId));
+            });
+        } finally {
+            getEngine().endOutputBatch();
         }
 
         return this;
@@ -177,7 +174,7 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         if (unsettled.isEmpty()) {
             return Collections.EMPTY_LIST;
         } else {
-            return Collections.unmodifiableCollection(new ArrayList<>(unsettled.values()));
+            return Collections.unmodifiableCollection(unsettled.values());
         }
     }
 
@@ -260,6 +257,10 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
             creditState.updateCredit(0);
         }
 
+        if (getCredit() > 0) {
+            session.scheduleCreditedSender(this);
+        }
+
         if (isLocallyOpen()) {
             sendable = getCredit() > 0 && sessionWindow.isSendable();
 
@@ -269,6 +270,14 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         return this;
     }
 
+    boolean isScheduled() {
+        return scheduled;
+    }
+
+    void setScheduled(boolean scheduled) {
+        this.scheduled = scheduled;
+    }
+
     ProtonSender handleSessionCreditStateUpdate(ProtonSessionOutgoingWindow protonSessionOutgoingWindow) {
         final boolean previousSendable = sendable;
 
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -39,7 +40,8 @@ import org.apache.qpid.protonj2.engine.TransactionManager;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.DenseIntMap;
+import org.apache.qpid.protonj2.engine.util.IdentifierAllocator;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.Begin;
@@ -69,8 +71,11 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     private final Map<String, ProtonSender> senderByNameMap = new LinkedHashMap<>();
     private final Map<String, ProtonReceiver> receiverByNameMap = new LinkedHashMap<>();
 
-    private final SplayMap<ProtonLink<?>> localLinks = new SplayMap<>();
-    private final SplayMap<ProtonLink<?>> remoteLinks = new SplayMap<>();
+    private final IdentifierAllocator localHandles = new IdentifierAllocator();
+    private final DenseIntMap<ProtonLink<?>> remoteLinks = new DenseIntMap<>();
+
+    // Senders holding link credit in the order they are next offered a reopened session window
+    private final ArrayDeque<ProtonSender> creditedSenders = new ArrayDeque<>();
 
     private final Flow cachedFlow = new Flow();
 
@@ -568,13 +573,7 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
 
     private void handleSessionOnlyFlow(Flow flow, boolean previousSessionWritable) {
         if (previousSessionWritable != outgoingWindow.isSendable()) {
-            for (ProtonSender sender : senders()) {
-                sender.handleSessionCreditStateUpdate(outgoingWindow);
-
-                if (previousSessionWritable == outgoingWindow.isSendable()) {
-                    break;
-                }
-            }
+            signalOutgoingWindowStateChanged();
         }
 
         if (flow.getEcho()) {
@@ -672,22 +671,12 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     }
 
     private ProtonLink<?> findMatchingPendingLinkOpen(Attach remoteAttach) {
-        for (ProtonLink<?> link : senderByNameMap.values()) {
-            if (link.getName().equals(remoteAttach.getName()) &&
-                link.getRemoteState() == LinkState.IDLE &&
-                link.getRole() != remoteAttach.getRole()) {
+        // The remote end of a local sender attaches as a receiver and vice versa
+        final ProtonLink<?> link = remoteAttach.getRole() == Role.RECEIVER ?
+            senderByNameMap.get(remoteAttach.getName()) : receiverByNameMap.get(remoteAttach.getName());
 
-                return link;
-            }
-        }
-
-        for (ProtonLink<?> link : receiverByNameMap.values()) {
-            if (link.getName().equals(remoteAttach.getName()) &&
-                link.getRemoteState() == LinkState.IDLE &&
-                link.getRole() != remoteAttach.getRole()) {
-
-                return link;
-            }
+        if (link != null && link.getRemoteState() == LinkState.IDLE) {
+            return link;
         }
 
         return null;
@@ -754,15 +743,44 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
         connection.freeLocalChannel(localChannel);
     }
 
-    long findFreeLocalHandle(ProtonLink<?> link) {
-        for (long i = 0; i <= localBegin.getHandleMax(); ++i) {
-            if (!localLinks.containsKey((int) i)) {
-                localLinks.put((int) i, link);
-                return i;
+    /*
+     * Adds a sender that has been granted link credit to the set that will be told about changes in
+     * the session outgoing window, senders that lose their credit are dropped lazily.
+     */
+    void scheduleCreditedSender(ProtonSender sender) {
+        if (!sender.isScheduled()) {
+            sender.setScheduled(true);
+            creditedSenders.addLast(sender);
+        }
+    }
+
+    /*
+     * Tells the senders that hold credit that the outgoing window state changed, stopping early if
+     * the window flips back as a result.  Each sender visited moves to the back of the queue so that
+     * when the window reopens the senders that missed out last time are offered capacity first.
+     */
+    void signalOutgoingWindowStateChanged() {
+        final boolean sendable = outgoingWindow.isSendable();
+
+        for (int remaining = creditedSenders.size(); remaining > 0 && sendable == outgoingWindow.isSendable(); --remaining) {
+            final ProtonSender sender = creditedSenders.pollFirst();
+
+            if (sender.getCredit() > 0 && senderByNameMap.get(sender.getName()) == sender) {
+                creditedSenders.addLast(sender);
+                sender.handleSessionCreditStateUpdate(outgoingWindow);
+            } else {
+                sender.setScheduled(false);
             }
         }
+    }
+
+    long findFreeLocalHandle() {
+        final int handle = localHandles.allocate(localBegin.getHandleMax());
+        if (handle < 0) {
+            throw new IllegalStateException("no local handle available for allocation");
+        }
 
-        throw new IllegalStateException("no local handle available for allocation");
+        return handle;
     }
 
     @SuppressWarnings("unchecked")
@@ -786,6 +804,6 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
             throw new IllegalArgumentException("Specified local handle is out of range: " + localHandle);
         }
 
-        localLinks.remove((int) localHandle);
+        localHandles.free((int) localHandle);
     }
 }
@@ -16,14 +16,10 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.SequenceNumber;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.UnsettledMap;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Begin;
 import org.apache.qpid.protonj2.types.transport.Disposition;
@@ -61,7 +57,7 @@ public class ProtonSessionIncomingWindow {
     private long maxFrameSize;
     private long incomingBytes;
 
-    private SplayMap<ProtonIncomingDelivery> unsettled = new SplayMap<>();
+    private UnsettledMap<ProtonIncomingDelivery> unsettled = new UnsettledMap<>();
 
     public ProtonSessionIncomingWindow(ProtonSession session) {
         this.session = session;
@@ -174,34 +170,18 @@ public class ProtonSessionIncomingWindow {
         return disposition;
     }
 
-    private static void handleRangedDisposition(NavigableMap<UnsignedInteger, ProtonIncomingDelivery> unsettled, Disposition disposition) {
-        final UnsignedInteger first = UnsignedInteger.valueOf(disposition.getFirst());
-        final UnsignedInteger last = UnsignedInteger.valueOf(disposition.getLast());
-
-        // Dispositions cover a contiguous range in the map requires a single sub-map
-        // which we can iterate whereas a range that wraps requires two iterations over
-        // a split between the higher portion and the lower portion of the map.
-        if (first.compareTo(last) <= 0) {
-            handleDispositions(unsettled.subMap(first, true, last, true), disposition);
-        } else {
-            handleDispositions(unsettled.tailMap(first, true), disposition);
-            handleDispositions(unsettled.headMap(last, true), disposition);
-        }
-    }
-
-    private static void handleDispositions(Map<UnsignedInteger, ProtonIncomingDelivery> deliveries, Disposition disposition) {
+    private static void handleRangedDisposition(UnsettledMap<ProtonIncomingDelivery> unsettled, Disposition disposition) {
         final boolean settled = disposition.getSettled();
 
-        Iterator<ProtonIncomingDelivery> deliveriesIter = deliveries.values().iterator();
-        while (deliveriesIter.hasNext()) {
-            ProtonIncomingDelivery delivery = deliveriesIter.next();
-
+        // The unsettled map iterates the range in serial number order so a range that wraps
+        // around the maximum delivery Id value is handled without splitting it into two parts.
+        unsettled.forEachInRange((int) disposition.getFirst(), (int) disposition.getLast(), delivery -> {
             if (settled) {
-                deliveriesIter.remove();
+                unsettled.remove((int) delivery.getDeliveryId());
             }
 
             delivery.getLink().remoteDisposition(disposition, delivery);
-        }
+        });
     }
 
     long updateIncomingWindow() {
@@ -16,16 +16,16 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.Set;
-
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.EncodeException;
+import org.apache.qpid.protonj2.codec.Encoder;
+import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.exceptions.FrameEncodingException;
+import org.apache.qpid.protonj2.engine.util.UnsettledMap;
 import org.apache.qpid.protonj2.types.DeliveryTag;
-import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Begin;
 import org.apache.qpid.protonj2.types.transport.Disposition;
 import org.apache.qpid.protonj2.types.transport.Flow;
@@ -40,6 +40,8 @@ import org.apache.qpid.protonj2.types.transport.Transfer;
  */
 public class ProtonSessionOutgoingWindow {
 
+    private static final int TRANSFER_ENCODING_INITIAL_SIZE = 64;
+
     private final ProtonSession session;
     private final ProtonEngine engine;
     private final int localChannel;
@@ -64,7 +66,7 @@ public class ProtonSessionOutgoingWindow {
 
     private Runnable outgoingFrameWriteComplete = this::handleOutgoingFrameWriteComplete;
 
-    private final SplayMap<ProtonOutgoingDelivery> unsettled = new SplayMap<>();
+    private final UnsettledMap<ProtonOutgoingDelivery> unsettled = new UnsettledMap<>();
 
     public ProtonSessionOutgoingWindow(ProtonSession session) {
         this.session = session;
@@ -143,13 +145,7 @@ public class ProtonSessionOutgoingWindow {
         }
 
         if (!oldWritable && writeable) {
-            Set<ProtonSender> senders = session.senders();
-            for (ProtonSender sender : senders) {
-                sender.handleSessionCreditStateUpdate(this);
-                if (!writeable) {
-                    break;
-                }
-            }
+            session.signalOutgoingWindowStateChanged();
         }
     }
 
@@ -157,13 +153,7 @@ public class ProtonSessionOutgoingWindow {
         pendingOutgoingWrites = Math.max(0, --pendingOutgoingWrites);
 
         if (!writeable && (writeable = pendingOutgoingWrites <= outgoingWindowLowWaterMark && remoteIncomingWindow > 0)) {
-            Set<ProtonSender> senders = session.senders();
-            for (ProtonSender sender : senders) {
-                sender.handleSessionCreditStateUpdate(this);
-                if (!writeable) {
-                    break;
-                }
-            }
+            session.signalOutgoingWindowStateChanged();
         }
     }
 
@@ -237,34 +227,18 @@ public class ProtonSessionOutgoingWindow {
         return disposition;
     }
 
-    private static void handleRangedDisposition(NavigableMap<UnsignedInteger, ProtonOutgoingDelivery> unsettled, Disposition disposition) {
-        final UnsignedInteger first = UnsignedInteger.valueOf(disposition.getFirst());
-        final UnsignedInteger last = UnsignedInteger.valueOf(disposition.getLast());
-
-        // Dispositions cover a contiguous range in the map requires a single sub-map
-        // which we can iterate whereas a range that wraps requires two iterations over
-        // a split between the higher portion and the lower portion of the map.
-        if (first.compareTo(last) <= 0) {
-            handleDispositions(unsettled.subMap(first, true, last, true), disposition);
-        } else {
-            handleDispositions(unsettled.tailMap(first, true), disposition);
-            handleDispositions(unsettled.headMap(last, true), disposition);
-        }
-    }
-
-    private static void handleDispositions(Map<UnsignedInteger, ProtonOutgoingDelivery> deliveries, Disposition disposition) {
+    private static void handleRangedDisposition(UnsettledMap<ProtonOutgoingDelivery> unsettled, Disposition disposition) {
         final boolean settled = disposition.getSettled();
 
-        Iterator<ProtonOutgoingDelivery> deliveriesIter = deliveries.values().iterator();
-        while (deliveriesIter.hasNext()) {
-            ProtonOutgoingDelivery delivery = deliveriesIter.next();
-
+        // The unsettled map iterates the range in serial number order so a range that wraps
+        // around the maximum delivery Id value is handled without splitting it into two parts.
+        unsettled.forEachInRange((int) disposition.getFirst(), (int) disposition.getLast(), delivery -> {
             if (settled) {
-                deliveriesIter.remove();
+                unsettled.remove((int) delivery.getDeliveryId());
             }
 
             delivery.getLink().remoteDisposition(disposition, delivery);
-        }
+        });
     }
 
     //----- Handle sender link actions in the session window context
@@ -272,10 +246,28 @@ public class ProtonSessionOutgoingWindow {
     private final Disposition cachedDisposition = new Disposition();
     private final Transfer cachedTransfer = new Transfer();
 
+    private final Encoder transferEncoder = CodecFactory.getEncoder();
+    private final EncoderState transferEncoderState = transferEncoder.newEncoderState();
+    private final ProtonBuffer encodedTransfer = ProtonByteBufferAllocator.DEFAULT.allocate(TRANSFER_ENCODING_INITIAL_SIZE);
+
     private static void handlePayloadToLargeRequiresSplitFrames(Performative performative) {
         ((Transfer) performative).setMore(true);
     }
 
+    private ProtonBuffer encodeTransfer(Transfer transfer) {
+        encodedTransfer.clear();
+
+        try {
+            transferEncoder.writeObject(encodedTransfer, transferEncoderState, transfer);
+        } catch (EncodeException ex) {
+            throw new FrameEncodingException(ex);
+        } finally {
+            transferEncoderState.reset();
+        }
+
+        return encodedTransfer;
+    }
+
     boolean processSend(ProtonSender sender, ProtonOutgoingDelivery delivery, ProtonBuffer payload, boolean complete) {
         // For a transfer that hasn't completed but has no bytes in the final transfer write we want
         // to allow a transfer to go out with the more flag as false.
@@ -284,6 +276,12 @@ public class ProtonSessionOutgoingWindow {
             unsettled.put((int) delivery.getDeliveryId(), delivery);
         }
 
+        // Any transfer whose remaining payload exceeds this cannot be the final frame and so its
+        // performative is encoded here once and the same bytes reused for each continuation frame.
+        final int maxFramePayload = (int) engine.configuration().getOutboundMaxFrameSize() - ProtonFrameEncodingHandler.FRAME_HEADER_SIZE;
+        boolean continuationEncoded = false;
+
+        engine.beginOutputBatch();
         try {
             cachedTransfer.setDeliveryId(delivery.getDeliveryId());
             if (delivery.getMessageFormat() != 0) {
@@ -306,8 +304,12 @@ public class ProtonSessionOutgoingWindow {
                 // Only the first transfer requires the delivery tag, afterwards we can omit it for efficiency.
                 if (delivery.getTransferCount() == 0) {
                     cachedTransfer.setDeliveryTag(delivery.getTag());
+                    if (delivery.isResume()) {
+                        cachedTransfer.setResume(true);
+                    }
                 } else {
                     cachedTransfer.setDeliveryTag((DeliveryTag) null);
+                    cachedTransfer.clearResume();
                 }
                 cachedTransfer.setMore(!complete);
 
@@ -316,12 +318,28 @@ public class ProtonSessionOutgoingWindow {
                 frame.setPayloadToLargeHandler(ProtonSessionOutgoingWindow::handlePayloadToLargeRequiresSplitFrames);
                 frame.setFrameWriteCompletionHandler(outgoingFrameWriteComplete);
 
+                if (payload != null && payload.getReadableBytes() > maxFramePayload) {
+                    cachedTransfer.setMore(true);
+
+                    if (delivery.getTransferCount() == 0) {
+                        frame.setEncodedBody(encodeTransfer(cachedTransfer));
+                    } else {
+                        if (!continuationEncoded) {
+                            encodeTransfer(cachedTransfer);
+                            continuationEncoded = true;
+                        }
+
+                        frame.setEncodedBody(encodedTransfer);
+                    }
+                }
+
                 engine.fireWrite(frame);
 
                 delivery.afterTransferWritten();
             } while (payload != null && payload.isReadable() && isSendable());
         } finally {
             cachedTransfer.reset();
+            engine.endOutputBatch();
         }
 
         return isSendable();
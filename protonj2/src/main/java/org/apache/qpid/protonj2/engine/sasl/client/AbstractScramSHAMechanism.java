@@ -17,14 +17,12 @@
 package org.apache.qpid.protonj2.engine.sasl.client;
 
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 
 import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import javax.security.sasl.SaslException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
@@ -149,8 +147,22 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
                 throw new SaslException("Iteration count " + iterationCount + " is not a positive integer");
             }
 
-            byte[] passwordBytes = saslPrep(new String(credentials.password())).getBytes(StandardCharsets.UTF_8);
-            byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+            final String username = saslPrep(credentials.username());
+            final byte[] passwordBytes = saslPrep(new String(credentials.password())).getBytes(StandardCharsets.UTF_8);
+            final ScramCredentialsCache cache = ScramCredentialsCache.getInstance();
+
+            ScramCredentialsCache.CacheEntry keys = cache.lookup(hmacName, username, salt, iterationCount, passwordBytes);
+            if (keys == null) {
+                final byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+                final byte[] clientKey = computeHmac(saltedPassword, "Client Key");
+                final byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+                final byte[] serverKey = computeHmac(saltedPassword, "Server Key");
+
+                Arrays.fill(saltedPassword, (byte) 0);
+
+                keys = new ScramCredentialsCache.CacheEntry(clientKey, storedKey, serverKey);
+                cache.store(hmacName, username, salt, iterationCount, passwordBytes, keys);
+            }
 
             String clientFinalMessageWithoutProof =
                     "c=" + Base64.getEncoder().encodeToString(GS2_HEADER.getBytes(StandardCharsets.US_ASCII))
@@ -159,18 +171,14 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
             String authMessage = clientFirstMessageBare
                     + "," + serverFirstMessage + "," + clientFinalMessageWithoutProof;
 
-            byte[] clientKey = computeHmac(saltedPassword, "Client Key");
-            byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+            byte[] clientSignature = computeHmac(keys.getStoredKey(), authMessage);
 
-            byte[] clientSignature = computeHmac(storedKey, authMessage);
-
-            byte[] clientProof = clientKey.clone();
+            byte[] clientProof = keys.getClientKey().clone();
             for (int i = 0; i < clientProof.length; i++) {
                 clientProof[i] ^= clientSignature[i];
             }
 
-            byte[] serverKey = computeHmac(saltedPassword, "Server Key");
-            serverSignature = computeHmac(serverKey, authMessage);
+            serverSignature = computeHmac(keys.getServerKey(), authMessage);
 
             String finalMessageWithProof = clientFinalMessageWithoutProof
                     + ",p=" + Base64.getEncoder().encodeToString(clientProof);
@@ -222,14 +230,7 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
     }
 
     private Mac createHmac(final byte[] keyBytes) throws SaslException {
-        try {
-            SecretKeySpec key = new SecretKeySpec(keyBytes, hmacName);
-            Mac mac = Mac.getInstance(hmacName);
-            mac.init(key);
-            return mac;
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new SaslException(e.getMessage(), e);
-        }
+        return ScramCredentialsCache.threadLocalHmac(hmacName, keyBytes);
     }
 
     private String saslPrep(String name) throws SaslException {
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.sasl.client;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.security.sasl.SaslException;
+
+/**
+ * A bounded cache of the keys derived from a password during a SCRAM exchange.
+ * <p>
+ * Deriving the salted password requires running the Hi() function over the configured
+ * iteration count which is expensive by design, when many connections authenticate with
+ * the same credentials against the same server (a reconnect storm after fail-over for
+ * instance) the derived client and server keys can be reused as long as the mechanism,
+ * user, salt and iteration count offered by the server are unchanged.  Entries are
+ * validated against a keyed digest of the password so that a changed password never
+ * produces a cache hit, and evicted or cleared entries have their key material zeroed.
+ */
+public final class ScramCredentialsCache {
+
+    /**
+     * The default maximum number of entries retained by the cache.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static final String VERIFIER_HMAC = "HmacSHA256";
+
+    private static final ScramCredentialsCache INSTANCE = new ScramCredentialsCache(DEFAULT_MAX_ENTRIES);
+
+    private static final ThreadLocal<Map<String, Mac>> THREAD_MACS = ThreadLocal.withInitial(HashMap::new);
+
+    private final byte[] verifierSecret = new byte[32];
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int maxEntries;
+
+    ScramCredentialsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        new SecureRandom().nextBytes(verifierSecret);
+    }
+
+    /**
+     * @return the shared {@link ScramCredentialsCache} used by the SCRAM SASL mechanisms.
+     */
+    public static ScramCredentialsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the maximum number of entries this cache will retain.
+     */
+    public synchronized int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries that the cache will retain, setting the value to
+     * zero disables caching of derived keys.
+     *
+     * @param maxEntries
+     *      the maximum number of derived key entries to retain.
+     *
+     * @return this {@link ScramCredentialsCache} instance.
+     */
+    public synchronized ScramCredentialsCache setMaxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Maximum cache entries cannot be negative");
+        }
+
+        this.maxEntries = maxEntries;
+        trimToSize();
+
+        return this;
+    }
+
+    /**
+     * @return the number of entries currently held in the cache.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes and clears all cached key material.
+     */
+    public synchronized void clear() {
+        entries.values().forEach(CacheEntry::destroy);
+        entries.clear();
+    }
+
+    //----- Internal API used by the SCRAM mechanisms
+
+    /**
+     * Looks up the derived keys for the given parameters, the returned entry is a copy that is
+     * owned by the caller.
+     */
+    CacheEntry lookup(String hmacName, String username, byte[] salt, int iterationCount, byte[] password) throws SaslException {
+        final CacheKey key = new CacheKey(hmacName, username, salt, iterationCount);
+        final byte[] verifier = computeVerifier(password);
+
+        synchronized (this) {
+            final CacheEntry entry = entries.get(key);
+
+            if (entry != null) {
+                if (MessageDigest.isEqual(entry.verifier, verifier)) {
+                    return entry.copy();
+                } else {
+                    entries.remove(key).destroy();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    void store(String hmacName, String username, byte[] salt, int iterationCount, byte[] password, CacheEntry entry) throws SaslException {
+        final CacheKey key = new CacheKey(hmacName, username, salt, iterationCount);
+        final CacheEntry stored = new CacheEntry(computeVerifier(password), entry.clientKey, entry.storedKey, entry.serverKey);
+
+        synchronized (this) {
+            if (maxEntries > 0) {
+                final CacheEntry previous = entries.put(key, stored);
+                if (previous != null) {
+                    previous.destroy();
+                }
+
+                trimToSize();
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link Mac} for the given algorithm that is initialized with the provided key, the
+     * instance is owned by the calling thread and is reused on subsequent calls from that thread.
+     */
+    static Mac threadLocalHmac(String hmacName, byte[] keyBytes) throws SaslException {
+        try {
+            Mac mac = THREAD_MACS.get().get(hmacName);
+            if (mac == null) {
+                mac = Mac.getInstance(hmacName);
+                THREAD_MACS.get().put(hmacName, mac);
+            }
+
+            mac.init(new SecretKeySpec(keyBytes, hmacName));
+
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new SaslException(e.getMessage(), e);
+        }
+    }
+
+    private void trimToSize() {
+        final Iterator<CacheEntry> iterator = entries.values().iterator();
+
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next().destroy();
+            iterator.remove();
+        }
+    }
+
+    private byte[] computeVerifier(byte[] password) throws SaslException {
+        final Mac mac = threadLocalHmac(VERIFIER_HMAC, verifierSecret);
+        return mac.doFinal(password);
+    }
+
+    static final class CacheEntry {
+
+        private final byte[] verifier;
+        private final byte[] clientKey;
+        private final byte[] storedKey;
+        private final byte[] serverKey;
+
+        CacheEntry(byte[] clientKey, byte[] storedKey, byte[] serverKey) {
+            this(null, clientKey, storedKey, serverKey);
+        }
+
+        private CacheEntry(byte[] verifier, byte[] clientKey, byte[] storedKey, byte[] serverKey) {
+            this.verifier = verifier;
+            this.clientKey = clientKey.clone();
+            this.storedKey = storedKey.clone();
+            this.serverKey = serverKey.clone();
+        }
+
+        byte[] getClientKey() {
+            return clientKey;
+        }
+
+        byte[] getStoredKey() {
+            return storedKey;
+        }
+
+        byte[] getServerKey() {
+            return serverKey;
+        }
+
+        private CacheEntry copy() {
+            return new CacheEntry(clientKey, storedKey, serverKey);
+        }
+
+        private void destroy() {
+            Arrays.fill(clientKey, (byte) 0);
+            Arrays.fill(storedKey, (byte) 0);
+            Arrays.fill(serverKey, (byte) 0);
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final String hmacName;
+        private final String username;
+        private final byte[] salt;
+        private final int iterationCount;
+        private final int hashCode;
+
+        CacheKey(String hmacName, String username, byte[] salt, int iterationCount) {
+            this.hmacName = hmacName;
+            this.username = username;
+            this.salt = salt.clone();
+            this.iterationCount = iterationCount;
+            this.hashCode = Objects.hash(hmacName, username, Arrays.hashCode(salt), iterationCount);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof CacheKey)) {
+                return false;
+            }
+
+            final CacheKey key = (CacheKey) other;
+
+            return iterationCount == key.iterationCount &&
+                   hmacName.equals(key.hmacName) &&
+                   username.equals(key.username) &&
+                   Arrays.equals(salt, key.salt);
+        }
+    }
+}
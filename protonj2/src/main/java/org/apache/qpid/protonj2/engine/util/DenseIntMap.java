@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Map of primitive integer keys to values that stores the values of small keys directly in an
+ * array indexed by the key, giving constant time lookup without boxing for the dense, low
+ * numbered channel and handle values that peers normally assign.  Keys that fall outside the
+ * directly indexed range (including values that represent unsigned integers larger than the
+ * maximum signed integer) are kept in a {@link SplayMap} so that a peer choosing a very large
+ * value cannot force a large array allocation.
+ *
+ * @param <E> The type stored in the map entries
+ */
+public final class DenseIntMap<E> {
+
+    /**
+     * Default limit on the size of the directly indexed key range.
+     */
+    public static final int DEFAULT_DENSE_LIMIT = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Object[] EMPTY = new Object[0];
+
+    private final int denseLimit;
+
+    private Object[] dense = EMPTY;
+    private SplayMap<E> sparse;
+    private int size;
+
+    /**
+     * Creates a new map that directly indexes keys up to the default dense limit.
+     */
+    public DenseIntMap() {
+        this(DEFAULT_DENSE_LIMIT);
+    }
+
+    /**
+     * Creates a new map that directly indexes keys below the given limit.
+     *
+     * @param denseLimit
+     *      The exclusive upper bound on the keys that are stored in the array.
+     */
+    public DenseIntMap(int denseLimit) {
+        if (denseLimit < 0) {
+            throw new IllegalArgumentException("Dense key limit cannot be negative");
+        }
+
+        this.denseLimit = denseLimit;
+    }
+
+    /**
+     * @return the number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key
+     *      The key whose value should be returned.
+     *
+     * @return the value stored for the given key or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int key) {
+        if (isDense(key)) {
+            return key < dense.length ? (E) dense[key] : null;
+        } else {
+            return sparse != null ? sparse.get(key) : null;
+        }
+    }
+
+    /**
+     * @param key
+     *      The key to look for.
+     *
+     * @return true if a value is stored for the given key.
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores the given value for the key, null values are not permitted.
+     *
+     * @param key
+     *      The key to store the value under.
+     * @param value
+     *      The value to store.
+     *
+     * @return the value previously stored under the given key or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E put(int key, E value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+
+        final E previous;
+
+        if (isDense(key)) {
+            if (key >= dense.length) {
+                dense = Arrays.copyOf(dense, (int) Math.min(denseLimit, Math.max(INITIAL_CAPACITY, (long) Integer.highestOneBit(key) << 1)));
+            }
+
+            previous = (E) dense[key];
+            dense[key] = value;
+        } else {
+            if (sparse == null) {
+                sparse = new SplayMap<>();
+            }
+
+            previous = sparse.put(key, value);
+        }
+
+        if (previous == null) {
+            size++;
+        }
+
+        return previous;
+    }
+
+    /**
+     * @param key
+     *      The key whose value should be removed.
+     *
+     * @return the value that was stored for the given key or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int key) {
+        final E previous;
+
+        if (isDense(key)) {
+            if (key >= dense.length) {
+                return null;
+            }
+
+            previous = (E) dense[key];
+            dense[key] = null;
+        } else {
+            previous = sparse != null ? sparse.remove(key) : null;
+        }
+
+        if (previous != null) {
+            size--;
+        }
+
+        return previous;
+    }
+
+    /**
+     * Removes all entries from the map.
+     */
+    public void clear() {
+        Arrays.fill(dense, null);
+        if (sparse != null) {
+            sparse.clear();
+        }
+        size = 0;
+    }
+
+    /**
+     * Visits each value in the map, the directly indexed values are visited in key order
+     * followed by those stored outside the dense range.
+     *
+     * @param action
+     *      The action to perform on each value.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < dense.length; ++i) {
+            if (dense[i] != null) {
+                action.accept((E) dense[i]);
+            }
+        }
+
+        if (sparse != null) {
+            sparse.values().forEach(action);
+        }
+    }
+
+    private boolean isDense(int key) {
+        return key >= 0 && key < denseLimit;
+    }
+}
@@ -0,0 +1,548 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+
+/**
+ * Timer that can be shared by many connections to run timeout tasks, trading precision
+ * for constant time scheduling and cancellation of each timeout.
+ * <p>
+ * Timeouts are kept in a wheel of buckets where each bucket covers one tick of the timer
+ * and a single worker thread advances around the wheel one tick at a time expiring the
+ * timeouts in the current bucket.  Scheduling and cancelling a timeout only places it on a
+ * concurrent queue which the worker drains on its next tick, so the threads that schedule
+ * timeouts never contend with one another or with the worker on a shared ordered structure.
+ * When a timeout expires its task is handed to the {@link Executor} given when it was
+ * scheduled which allows a connection to have its timeouts run on its own event loop.
+ * Timeouts expire on the first tick at or after their deadline which means a timeout can
+ * fire up to one tick duration later than requested.
+ */
+public final class HashedWheelTimer {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /**
+     * The default tick duration in milliseconds used when none is provided.
+     */
+    public static final long DEFAULT_TICK_DURATION = 10;
+
+    /**
+     * The default number of ticks in one rotation of the wheel used when none is provided.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread workerThread;
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private volatile long startTime;
+    private long tick;
+
+    /**
+     * Creates a new {@link HashedWheelTimer} with the default tick duration and wheel size.
+     *
+     * @param threadName
+     *      The name given to the timer's worker thread.
+     */
+    public HashedWheelTimer(String threadName) {
+        this(threadName, DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates a new {@link HashedWheelTimer} with the given tick duration and wheel size, the
+     * wheel size is rounded up to the next power of two.
+     *
+     * @param threadName
+     *      The name given to the timer's worker thread.
+     * @param tickDuration
+     *      The duration of a single tick of the timer.
+     * @param unit
+     *      The unit of the given tick duration.
+     * @param ticksPerWheel
+     *      The number of ticks in one rotation of the wheel.
+     */
+    public HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Objects.requireNonNull(threadName, "The timer thread name cannot be null");
+        Objects.requireNonNull(unit, "The tick duration unit cannot be null");
+
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero: " + tickDuration);
+        }
+
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("Ticks per wheel must be in the range (0, 2^30]: " + ticksPerWheel);
+        }
+
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; ++i) {
+            wheel[i] = new Bucket();
+        }
+
+        this.mask = wheelSize - 1;
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.workerThread = new Thread(new Worker(), threadName);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedules the given task to run once the delay has elapsed.  The worker thread of the timer
+     * starts on the first call to this method.
+     *
+     * @param task
+     *      The task to run when the timeout expires.
+     * @param executor
+     *      The {@link Executor} that runs the task or null to run the task on the timer thread.
+     * @param delay
+     *      The delay after which the task is run.
+     * @param unit
+     *      The unit of the given delay.
+     *
+     * @return a {@link Timeout} that can be used to cancel the scheduled task.
+     *
+     * @throws IllegalStateException if the timer has been stopped.
+     */
+    public Timeout newTimeout(Runnable task, Executor executor, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "The timeout task cannot be null");
+        Objects.requireNonNull(unit, "The delay unit cannot be null");
+
+        start();
+
+        final long delayNanos = unit.toNanos(Math.max(0, delay));
+        long deadline = System.nanoTime() + delayNanos - startTime;
+
+        // Guard against overflow of very long delays
+        if (delayNanos > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+
+        final Timeout timeout = new Timeout(this, task, executor, deadline);
+
+        scheduledCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts that have been scheduled and have not yet expired or been cancelled.
+     */
+    public int getScheduledCount() {
+        return scheduledCount.get();
+    }
+
+    /**
+     * Stops the timer, any timeouts that have not yet expired are cancelled without running
+     * their tasks.  Calling this method from a timeout task does not wait for the worker to exit.
+     */
+    public void stop() {
+        if (workerState.compareAndSet(WORKER_STARTED, WORKER_SHUTDOWN)) {
+            workerThread.interrupt();
+
+            if (Thread.currentThread() != workerThread) {
+                boolean interrupted = false;
+                while (workerThread.isAlive()) {
+                    try {
+                        workerThread.join(100);
+                    } catch (InterruptedException ignored) {
+                        interrupted = true;
+                    }
+                }
+
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } else {
+            workerState.set(WORKER_SHUTDOWN);
+        }
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("The timer has been stopped");
+        }
+
+        // Deadlines are computed from the time the worker began
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    //----- Timer worker and wheel buckets
+
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            final long now = System.nanoTime();
+
+            // Zero is used to indicate the timer has not yet started
+            startTime = now == 0 ? 1 : now;
+            startTimeInitialized.countDown();
+
+            do {
+                final long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    final Bucket bucket = wheel[(int) (tick & mask)];
+
+                    processCancelledTimeouts();
+                    transferPendingTimeouts();
+                    bucket.expireTimeouts(deadline);
+
+                    tick++;
+                }
+            } while (workerState.get() == WORKER_STARTED);
+
+            for (Bucket bucket : wheel) {
+                bucket.cancelAll();
+            }
+
+            for (Timeout timeout = pendingTimeouts.poll(); timeout != null; timeout = pendingTimeouts.poll()) {
+                timeout.cancel(false);
+            }
+
+            cancelledTimeouts.clear();
+        }
+
+        private long waitForNextTick() {
+            final long deadline = tickDuration * (tick + 1);
+
+            for (;;) {
+                final long currentTime = System.nanoTime() - startTime;
+                final long sleepTimeMs = (deadline - currentTime + 999_999) / 1_000_000;
+
+                if (sleepTimeMs <= 0) {
+                    return currentTime == Long.MIN_VALUE ? -Long.MAX_VALUE : currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException ignored) {
+                    if (workerState.get() == WORKER_SHUTDOWN) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; ++i) {
+                final Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                final long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+                // Timeouts whose deadline has already passed are expired on the current tick
+                final long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            for (Timeout timeout = cancelledTimeouts.poll(); timeout != null; timeout = cancelledTimeouts.poll()) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        Timeout remove(Timeout timeout) {
+            final Timeout next = timeout.next;
+
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                if (timeout == tail) {
+                    head = tail = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+
+            return next;
+        }
+
+        void expireTimeouts(long deadline) {
+            Timeout timeout = head;
+
+            while (timeout != null) {
+                Timeout next = timeout.next;
+
+                if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                timeout = next;
+            }
+        }
+
+        void cancelAll() {
+            for (Timeout timeout = head; timeout != null; ) {
+                final Timeout next = remove(timeout);
+                timeout.cancel(false);
+                timeout = next;
+            }
+        }
+    }
+
+    //----- Timeout handle returned to callers
+
+    /**
+     * Handle for a task scheduled with the {@link HashedWheelTimer}, the handle is also a
+     * {@link ScheduledFuture} so that it can stand in for a task scheduled on an executor.
+     */
+    public static final class Timeout implements ScheduledFuture<Void> {
+
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+
+        private volatile int state;
+
+        // Accessed only from the timer worker thread
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, Executor executor, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return the {@link HashedWheelTimer} that created this timeout.
+         */
+        public HashedWheelTimer timer() {
+            return timer;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+
+            timer.scheduledCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            signalDone();
+
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        /**
+         * @return true if the timeout has expired and its task was handed off to be run.
+         */
+        public boolean isExpired() {
+            return state == STATE_EXPIRED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != STATE_INIT;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - timer.startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            synchronized (this) {
+                while (!isDone()) {
+                    wait();
+                }
+            }
+
+            return checkCancelled();
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long waitUntil = System.nanoTime() + unit.toNanos(timeout);
+
+            synchronized (this) {
+                while (!isDone()) {
+                    final long remaining = waitUntil - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("Timed out waiting for the timeout to complete");
+                    }
+
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+
+            return checkCancelled();
+        }
+
+        @Override
+        public String toString() {
+            return "Timeout { delay = " + getDelay(TimeUnit.MILLISECONDS) + "ms, state = " + state + " }";
+        }
+
+        private Void checkCancelled() {
+            if (isCancelled()) {
+                throw new CancellationException("The timeout was cancelled");
+            }
+
+            return null;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+
+            timer.scheduledCount.decrementAndGet();
+            signalDone();
+
+            if (executor == null) {
+                runTask();
+            } else {
+                try {
+                    executor.execute(this::runTask);
+                } catch (RejectedExecutionException rejected) {
+                    LOG.trace("Timeout task rejected by its executor: ", rejected);
+                }
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (Throwable error) {
+                LOG.warn("Timeout task threw an exception: ", error);
+            }
+        }
+
+        private synchronized void signalDone() {
+            notifyAll();
+        }
+    }
+}
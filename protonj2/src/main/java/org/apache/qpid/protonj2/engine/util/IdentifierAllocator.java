@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.BitSet;
+
+/**
+ * Allocates the lowest free non-negative integer identifier from a bit set, used to assign
+ * local channel and handle values.
+ * <p>
+ * The allocator remembers the point below which every identifier is known to be in use so
+ * that in the common case of identifiers being allocated in sequence the next free value is
+ * found without rescanning the identifiers that are already taken.
+ */
+public final class IdentifierAllocator {
+
+    private final BitSet allocated = new BitSet();
+
+    private int searchStart;
+    private int size;
+
+    /**
+     * Allocates the lowest identifier that is not currently in use.
+     *
+     * @param limit
+     *      The largest identifier value that can be assigned (inclusive).
+     *
+     * @return the allocated identifier or -1 if every value up to the limit is in use.
+     */
+    public int allocate(long limit) {
+        final int max = (int) Math.min(limit, Integer.MAX_VALUE - 1);
+        final int identifier = allocated.nextClearBit(searchStart);
+
+        if (identifier > max) {
+            return -1;
+        }
+
+        allocated.set(identifier);
+        searchStart = identifier + 1;
+        size++;
+
+        return identifier;
+    }
+
+    /**
+     * Returns an identifier to the pool, freeing an identifier that is not allocated has no effect.
+     *
+     * @param identifier
+     *      The identifier to free.
+     */
+    public void free(int identifier) {
+        if (identifier >= 0 && allocated.get(identifier)) {
+            allocated.clear(identifier);
+            size--;
+
+            if (identifier < searchStart) {
+                searchStart = identifier;
+            }
+        }
+    }
+
+    /**
+     * @param identifier
+     *      The identifier to check.
+     *
+     * @return true if the given identifier is currently allocated.
+     */
+    public boolean isAllocated(int identifier) {
+        return identifier >= 0 && allocated.get(identifier);
+    }
+
+    /**
+     * @return the number of identifiers that are currently allocated.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+
+/**
+ * Map of unsettled deliveries keyed by their primitive integer delivery Id.
+ * <p>
+ * Delivery Ids are assigned sequentially within a session and deliveries are generally
+ * settled in roughly the order they were sent, so the map stores values in a ring of slots
+ * indexed by the distance of the delivery Id from the oldest Id held in the ring.  Lookups,
+ * inserts and removals in the common case are then constant time without boxing the key
+ * and the ring follows the serial number arithmetic of the delivery Id so that it naturally
+ * handles the Id wrapping from the maximum unsigned integer value back to zero.  An Id that
+ * precedes the oldest Id in the ring, or that would leave the ring mostly empty if the ring
+ * were grown to cover it, is kept in a {@link SplayMap} instead so that one long lived
+ * unsettled delivery cannot force the ring to grow without bound.
+ *
+ * @param <E> The type stored in the map entries
+ */
+public final class UnsettledMap<E> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_DENSITY_FACTOR = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] slots = new Object[MIN_CAPACITY];
+    private int head;
+    private int base;
+    private int span;
+    private int ringSize;
+
+    private SplayMap<E> overflow;
+
+    /**
+     * @return the number of entries in the map.
+     */
+    public int size() {
+        return ringSize + (overflow != null ? overflow.size() : 0);
+    }
+
+    /**
+     * @return true if the map has no entries.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @param deliveryId
+     *      The delivery Id whose value should be returned.
+     *
+     * @return the value stored for the given delivery Id or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int deliveryId) {
+        final int offset = deliveryId - base;
+
+        if (Integer.compareUnsigned(offset, span) < 0) {
+            final E value = (E) slots[slotIndex(offset)];
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return overflow != null ? overflow.get(deliveryId) : null;
+    }
+
+    /**
+     * @param deliveryId
+     *      The delivery Id to look for.
+     *
+     * @return true if a value is stored for the given delivery Id.
+     */
+    public boolean containsKey(int deliveryId) {
+        return get(deliveryId) != null;
+    }
+
+    /**
+     * Stores the given value for the delivery Id, null values are not permitted.
+     *
+     * @param deliveryId
+     *      The delivery Id to store the value under.
+     * @param value
+     *      The value to store.
+     *
+     * @return the value previously stored under the given delivery Id or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E put(int deliveryId, E value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+
+        if (ringSize == 0 && span == 0) {
+            base = deliveryId;
+        }
+
+        final int offset = deliveryId - base;
+
+        if (Integer.compareUnsigned(offset, span) < 0) {
+            final int index = slotIndex(offset);
+            final E previous = (E) slots[index];
+
+            if (previous == null) {
+                if (overflow != null && overflow.containsKey(deliveryId)) {
+                    return overflow.put(deliveryId, value);
+                }
+
+                ringSize++;
+            }
+
+            slots[index] = value;
+
+            return previous;
+        } else if (offset >= 0 && canExtendTo(offset)) {
+            if (offset >= slots.length) {
+                growTo(offset + 1);
+            }
+
+            slots[slotIndex(offset)] = value;
+            span = offset + 1;
+            ringSize++;
+
+            return overflow != null ? overflow.remove(deliveryId) : null;
+        } else {
+            if (overflow == null) {
+                overflow = new SplayMap<>();
+            }
+
+            return overflow.put(deliveryId, value);
+        }
+    }
+
+    /**
+     * @param deliveryId
+     *      The delivery Id whose value should be removed.
+     *
+     * @return the value that was stored for the given delivery Id or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int deliveryId) {
+        final int offset = deliveryId - base;
+
+        if (Integer.compareUnsigned(offset, span) < 0) {
+            final int index = slotIndex(offset);
+            final E previous = (E) slots[index];
+
+            if (previous != null) {
+                slots[index] = null;
+                ringSize--;
+
+                if (offset == 0) {
+                    trimHead();
+                } else if (offset == span - 1) {
+                    trimTail();
+                }
+
+                return previous;
+            }
+        }
+
+        return overflow != null ? overflow.remove(deliveryId) : null;
+    }
+
+    /**
+     * Removes all entries from the map.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+        head = 0;
+        span = 0;
+        ringSize = 0;
+
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    /**
+     * Visits each value in the map, values held in the ring are visited in delivery Id order
+     * starting from the oldest followed by any values held outside the ring.  The action may
+     * safely remove entries from the map, entries added while iterating may not be visited.
+     *
+     * @param action
+     *      The action to perform on each value.
+     */
+    public void forEach(Consumer<? super E> action) {
+        final int start = base;
+        final int count = span;
+
+        for (int i = 0; i < count; ++i) {
+            visitRingEntry(start + i, action);
+        }
+
+        if (overflow != null && !overflow.isEmpty()) {
+            visitOverflowEntries(overflow.keySet(), action);
+        }
+    }
+
+    /**
+     * Visits each value whose delivery Id falls within the inclusive range given using serial
+     * number order, meaning a first value that is greater than the last indicates a range that
+     * wraps around from the maximum unsigned integer value back to zero.  The action may safely
+     * remove entries from the map.
+     *
+     * @param first
+     *      The first delivery Id in the range.
+     * @param last
+     *      The last delivery Id in the range.
+     * @param action
+     *      The action to perform on each value in the range.
+     */
+    public void forEachInRange(int first, int last, Consumer<? super E> action) {
+        final long rangeLength = Integer.toUnsignedLong(last - first) + 1;
+
+        if (rangeLength <= span) {
+            for (long i = 0; i < rangeLength; ++i) {
+                visitRingEntry(first + (int) i, action);
+            }
+        } else {
+            final int start = base;
+            final int count = span;
+
+            for (int i = 0; i < count; ++i) {
+                final int deliveryId = start + i;
+                if (Integer.toUnsignedLong(deliveryId - first) < rangeLength) {
+                    visitRingEntry(deliveryId, action);
+                }
+            }
+        }
+
+        if (overflow != null && !overflow.isEmpty()) {
+            final UnsignedInteger lower = UnsignedInteger.valueOf(first);
+            final UnsignedInteger upper = UnsignedInteger.valueOf(last);
+
+            if (lower.compareTo(upper) <= 0) {
+                visitOverflowEntries(overflow.subMap(lower, true, upper, true).keySet(), action);
+            } else {
+                visitOverflowEntries(overflow.tailMap(lower, true).keySet(), action);
+                visitOverflowEntries(overflow.headMap(upper, true).keySet(), action);
+            }
+        }
+    }
+
+    /**
+     * @return a new {@link Collection} holding a snapshot of the values in the map.
+     */
+    public Collection<E> values() {
+        final ArrayList<E> values = new ArrayList<>(size());
+        forEach(values::add);
+        return values;
+    }
+
+    //----- Internal ring management
+
+    @SuppressWarnings("unchecked")
+    private void visitRingEntry(int deliveryId, Consumer<? super E> action) {
+        final int offset = deliveryId - base;
+
+        if (Integer.compareUnsigned(offset, span) < 0) {
+            final E value = (E) slots[slotIndex(offset)];
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private void visitOverflowEntries(Collection<UnsignedInteger> keys, Consumer<? super E> action) {
+        // Copy the keys so the action can modify the map, entries an earlier action removed are skipped
+        final int[] deliveryIds = new int[keys.size()];
+        int count = 0;
+        for (UnsignedInteger key : keys) {
+            deliveryIds[count++] = key.intValue();
+        }
+
+        for (int i = 0; i < count; ++i) {
+            final E value = overflow.get(deliveryIds[i]);
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private int slotIndex(int offset) {
+        return (head + offset) & (slots.length - 1);
+    }
+
+    private boolean canExtendTo(int offset) {
+        if (offset < slots.length) {
+            return true;
+        }
+
+        final long required = (long) offset + 1;
+
+        return required <= MAX_CAPACITY && required <= Math.max(MIN_CAPACITY, (long) (ringSize + 1) * MIN_DENSITY_FACTOR);
+    }
+
+    private void growTo(int required) {
+        int capacity = slots.length;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+
+        final Object[] grown = new Object[capacity];
+        for (int i = 0; i < span; ++i) {
+            grown[i] = slots[slotIndex(i)];
+        }
+
+        slots = grown;
+        head = 0;
+    }
+
+    private void trimHead() {
+        while (span > 0 && slots[head] == null) {
+            head = (head + 1) & (slots.length - 1);
+            base++;
+            span--;
+        }
+
+        if (span == 0) {
+            head = 0;
+        }
+    }
+
+    private void trimTail() {
+        while (span > 0 && slots[slotIndex(span - 1)] == null) {
+            span--;
+        }
+    }
+}
@@ -1466,6 +1466,45 @@ public abstract class ProtonAbstractBufferTest {
         }
     }
 
+    @Test
+    public void testNioBuffersContainReadableBytes() {
+        ProtonBuffer buffer = allocateBuffer(LARGE_CAPACITY);
+
+        byte[] value = new byte[buffer.capacity()];
+        random.nextBytes(value);
+        buffer.clear();
+        buffer.writeBytes(value);
+        buffer.setReadIndex(BLOCK_SIZE);
+
+        ByteBuffer[] views = buffer.nioBuffers();
+
+        assertNotNull(views);
+        assertTrue(views.length > 0);
+        assertRemainingEquals(ByteBuffer.wrap(value, BLOCK_SIZE, value.length - BLOCK_SIZE), concatenate(views));
+        assertEquals(BLOCK_SIZE, buffer.getReadIndex());
+    }
+
+    @Test
+    public void testNioBuffersWithRange() {
+        ProtonBuffer buffer = allocateBuffer(LARGE_CAPACITY);
+
+        byte[] value = new byte[buffer.capacity()];
+        random.nextBytes(value);
+        buffer.clear();
+        buffer.writeBytes(value);
+
+        for (int i = 0; i < buffer.capacity() - BLOCK_SIZE + 1; i += BLOCK_SIZE) {
+            assertRemainingEquals(ByteBuffer.wrap(value, i, BLOCK_SIZE), concatenate(buffer.nioBuffers(i, BLOCK_SIZE)));
+        }
+    }
+
+    @Test
+    public void testNioBuffersOfEmptyBuffer() {
+        ProtonBuffer buffer = allocateBuffer(DEFAULT_CAPACITY);
+
+        assertEquals(0, concatenate(buffer.nioBuffers()).remaining());
+    }
+
     //----- Tests for string conversion --------------------------------------//
 
     @Test
@@ -3335,6 +3374,20 @@ public abstract class ProtonAbstractBufferTest {
 
     //----- Test support methods
 
+    public static ByteBuffer concatenate(ByteBuffer[] views) {
+        int total = 0;
+        for (ByteBuffer view : views) {
+            total += view.remaining();
+        }
+
+        ByteBuffer result = ByteBuffer.allocate(total);
+        for (ByteBuffer view : views) {
+            result.put(view.duplicate());
+        }
+
+        return result.flip();
+    }
+
     public static void assertRemainingEquals(ByteBuffer expected, ByteBuffer actual) {
         int remaining1 = expected.remaining();
         int remaining2 = actual.remaining();
@@ -29,8 +29,13 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -1687,6 +1692,209 @@ public class ProtonCompositeBufferTest extends ProtonAbstractBufferTest {
         assertEquals(0, composite.getReadableBytes());
     }
 
+    @Test
+    public void testRandomAccessAcrossManyBuffers() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        for (int i = 0; i < 1000; ++i) {
+            composite.append(new byte[] { (byte) i, (byte) (i + 1), (byte) (i + 2) });
+        }
+
+        assertEquals(1000, composite.numberOfBuffers());
+        assertEquals(3000, composite.getReadableBytes());
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; ++i) {
+            int index = random.nextInt(3000);
+            assertEquals((byte) (index / 3 + index % 3), composite.getByte(index));
+        }
+
+        // Values that span the boundary between two buffers
+        assertEquals((short) ((2 << 8) | 1), composite.getShort(2));
+        assertEquals(((2 << 24) | (1 << 16) | (2 << 8) | 3), composite.getInt(2));
+        assertEquals((byte) 1001, composite.getByte(2999));
+    }
+
+    @Test
+    public void testRandomAccessAfterReclaimAndAppend() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        for (int i = 0; i < 100; ++i) {
+            composite.append(new byte[] { (byte) i, (byte) i });
+        }
+
+        composite.skipBytes(101);
+        composite.reclaimRead();
+
+        assertEquals(50, composite.numberOfBuffers());
+        assertEquals(99, composite.getReadableBytes());
+        assertEquals(1, composite.getReadIndex());
+
+        for (int i = 100; i < 200; ++i) {
+            composite.append(new byte[] { (byte) i, (byte) i });
+        }
+
+        for (int index = 199; index >= 0; --index) {
+            assertEquals((byte) (index / 2 + 50), composite.getByte(index));
+        }
+    }
+
+    @Test
+    public void testReadableComponents() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        composite.append(new byte[] { 0, 1, 2, 3 });
+        composite.append(new ProtonDirectByteBuffer(4).writeInt(0x04050607));
+        composite.append(new byte[] { 8, 9 });
+        composite.skipBytes(2);
+        composite.setWriteIndex(9);
+
+        Iterator<ByteBuffer> components = composite.readableComponents();
+
+        assertTrue(components.hasNext());
+        assertEquals(ByteBuffer.wrap(new byte[] { 2, 3 }), components.next());
+        ByteBuffer direct = components.next();
+        assertTrue(direct.isDirect());
+        assertEquals(ByteBuffer.wrap(new byte[] { 4, 5, 6, 7 }), direct);
+        assertEquals(ByteBuffer.wrap(new byte[] { 8 }), components.next());
+        assertFalse(components.hasNext());
+        assertThrows(NoSuchElementException.class, () -> components.next());
+
+        // The views share the content of the composite
+        composite.setByte(2, 42);
+        assertEquals(42, composite.readableComponents().next().get(0));
+    }
+
+    @Test
+    public void testReadableComponentsOfEmptyBuffer() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        assertFalse(composite.readableComponents().hasNext());
+
+        composite.append(new byte[] { 1, 2 });
+        composite.skipBytes(2);
+
+        assertFalse(composite.readableComponents().hasNext());
+    }
+
+    @Test
+    public void testNioBuffersReturnsViewPerComponent() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        byte[] first = new byte[] { 0, 1, 2 };
+        byte[] second = new byte[] { 3, 4, 5 };
+
+        composite.append(first).append(second).append(new byte[] { 6, 7, 8 });
+        composite.skipBytes(1);
+
+        ByteBuffer[] views = composite.nioBuffers();
+
+        assertEquals(3, views.length);
+        assertEquals(2, views[0].remaining());
+        assertEquals(3, views[1].remaining());
+        assertEquals(3, views[2].remaining());
+        assertEquals(1, views[0].get(0));
+
+        // Views share content with the composite
+        second[0] = 42;
+        assertEquals(42, views[1].get(0));
+
+        views = composite.nioBuffers(4, 3);
+
+        assertEquals(2, views.length);
+        assertEquals(2, views[0].remaining());
+        assertEquals(4, views[0].get(0));
+        assertEquals(1, views[1].remaining());
+        assertEquals(6, views[1].get(0));
+    }
+
+    @Test
+    public void testNioBuffersFlattensNestedComposites() {
+        ProtonCompositeBuffer nested = new ProtonCompositeBuffer();
+        nested.append(new byte[] { 2, 3 }).append(new byte[] { 4, 5 });
+
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+        composite.append(new byte[] { 0, 1 }).append(nested).append(new byte[] { 6, 7 });
+
+        ByteBuffer[] views = composite.nioBuffers();
+
+        assertEquals(4, views.length);
+        assertRemainingEquals(ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 }), concatenate(views));
+    }
+
+    @Test
+    public void testNioBuffersOfSliceAcrossComponents() {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+        composite.append(new byte[] { 0, 1, 2 }).append(new byte[] { 3, 4, 5 });
+
+        ByteBuffer[] views = composite.slice(1, 4).nioBuffers();
+
+        assertEquals(2, views.length);
+        assertRemainingEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }), concatenate(views));
+    }
+
+    @Test
+    public void testNioBuffersGatheringWrite() throws IOException {
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        byte[] expected = new byte[256];
+        for (int i = 0; i < expected.length; i += 32) {
+            byte[] chunk = new byte[32];
+            Arrays.fill(chunk, (byte) i);
+            System.arraycopy(chunk, 0, expected, i, chunk.length);
+            composite.append(chunk);
+        }
+
+        Pipe pipe = Pipe.open();
+        try {
+            ByteBuffer[] views = composite.nioBuffers();
+            long written = 0;
+            while (written < expected.length) {
+                written += pipe.sink().write(views);
+            }
+
+            ByteBuffer received = ByteBuffer.allocate(expected.length);
+            while (received.hasRemaining()) {
+                pipe.source().read(received);
+            }
+
+            assertRemainingEquals(ByteBuffer.wrap(expected), received.flip());
+            assertEquals(0, composite.getReadIndex());
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    @Test
+    public void testReleaseReleasesAppendedBuffers() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer1 = allocator.allocate(64).writeLong(1);
+        ProtonBuffer buffer2 = allocator.allocate(64).writeLong(2);
+        byte[] array1 = buffer1.getArray();
+        byte[] array2 = buffer2.getArray();
+
+        ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+
+        composite.append(buffer1);
+        composite.append(buffer2);
+        composite.release();
+
+        assertEquals(0, composite.numberOfBuffers());
+        assertEquals(0, composite.capacity());
+        assertFalse(composite.isReadable());
+        assertEquals(0, buffer1.capacity());
+        assertEquals(0, buffer2.capacity());
+
+        // Both arrays are back in the pool for reuse
+        ProtonBuffer reused1 = allocator.allocate(64);
+        ProtonBuffer reused2 = allocator.allocate(64);
+
+        assertTrue((reused1.getArray() == array1 && reused2.getArray() == array2) ||
+                   (reused1.getArray() == array2 && reused2.getArray() == array1));
+    }
+
     @Test
     public void testReclaimFirstReadChunk() {
         ProtonBuffer buffer1 = ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 });
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.EngineFactory;
+import org.apache.qpid.protonj2.types.transport.AMQPHeader;
+import org.junit.jupiter.api.Test;
+
+public class ProtonDirectBufferAllocatorTest {
+
+    @Test
+    public void testAllocateDefaults() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate();
+
+        assertEquals(ProtonByteBuffer.DEFAULT_CAPACITY, buffer.capacity());
+        assertEquals(ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY, buffer.maxCapacity());
+        assertTrue(((ByteBuffer) buffer.unwrap()).isDirect());
+        assertEquals(ProtonDirectBufferAllocator.DEFAULT_MAX_POOLED_CAPACITY, allocator.getMaxPooledCapacity());
+        assertEquals(1, allocator.getAllocationCount());
+        assertEquals(1, allocator.getMissCount());
+    }
+
+    @Test
+    public void testReleasedMemoryIsReused() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(100);
+        ByteBuffer memory = (ByteBuffer) buffer.unwrap();
+
+        assertEquals(100, buffer.capacity());
+        assertEquals(128, memory.capacity());
+
+        buffer.release();
+
+        assertEquals(128, allocator.getPooledMemory());
+
+        ProtonBuffer reused = allocator.allocate(70);
+
+        assertSame(memory, reused.unwrap());
+        assertEquals(70, reused.capacity());
+        assertEquals(0, allocator.getPooledMemory());
+        assertEquals(2, allocator.getAllocationCount());
+        assertEquals(1, allocator.getMissCount());
+    }
+
+    @Test
+    public void testOutgrownMemoryReturnedToPool() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(64);
+        ByteBuffer initial = (ByteBuffer) buffer.unwrap();
+
+        for (int i = 0; i < 16; ++i) {
+            buffer.writeLong(i);
+        }
+
+        assertNotSame(initial, buffer.unwrap());
+        assertSame(initial, allocator.allocate(64).unwrap());
+    }
+
+    @Test
+    public void testPoolingDisabled() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator(1024, 0);
+
+        ProtonBuffer buffer = allocator.allocate(64);
+        Object memory = buffer.unwrap();
+        buffer.release();
+
+        assertEquals(0, allocator.getPooledMemory());
+        assertNotSame(memory, allocator.allocate(64).unwrap());
+    }
+
+    @Test
+    public void testLargeBuffersAreNotPooled() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator(1024, 64 * 1024);
+
+        ProtonBuffer buffer = allocator.allocate(2000);
+
+        assertEquals(2000, ((ByteBuffer) buffer.unwrap()).capacity());
+        assertEquals(0, allocator.getAllocationCount());
+
+        buffer.release();
+
+        assertEquals(0, allocator.getPooledMemory());
+    }
+
+    @Test
+    public void testWrap() {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+
+        assertTrue(allocator.wrap(new byte[] { 1, 2 }).hasArray());
+        assertTrue(allocator.wrap(ByteBuffer.wrap(new byte[] { 1, 2 })).hasArray());
+
+        ProtonBuffer wrapped = allocator.wrap(ByteBuffer.allocateDirect(8).putLong(0, 42));
+
+        assertFalse(wrapped.hasArray());
+        assertEquals(42, wrapped.readLong());
+    }
+
+    @Test
+    public void testInvalidConfigurationRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonDirectBufferAllocator(32, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonDirectBufferAllocator(1024, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonDirectBufferAllocator().allocate(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonDirectBufferAllocator().allocate(128, 64));
+    }
+
+    @Test
+    public void testEngineOutputWrittenToChannelFromDirectMemory() throws Exception {
+        ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        Pipe pipe = Pipe.open();
+        List<ProtonBuffer> output = new ArrayList<>();
+
+        engine.configuration().setBufferAllocator(allocator);
+        engine.outputConsumer(output::add);
+        engine.start().open();
+        engine.ingest(ProtonByteBufferAllocator.DEFAULT.wrap(AMQPHeader.getAMQPHeader().toArray()));
+
+        assertEquals(2, output.size());
+
+        int written = 0;
+        for (ProtonBuffer buffer : output) {
+            ByteBuffer view = buffer.toByteBuffer();
+
+            assertTrue(view.isDirect());
+
+            written += pipe.sink().write(view);
+            buffer.release();
+        }
+
+        ByteBuffer received = ByteBuffer.allocate(written);
+        while (received.hasRemaining()) {
+            pipe.source().read(received);
+        }
+
+        // The AMQP header leads the output followed by the Open performative
+        assertEquals('A', received.get(0));
+        assertEquals('M', received.get(1));
+        assertTrue(written > 8);
+        assertTrue(allocator.getPooledMemory() > 0);
+
+        pipe.sink().close();
+        pipe.source().close();
+    }
+}
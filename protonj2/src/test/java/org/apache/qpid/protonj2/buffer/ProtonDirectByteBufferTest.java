@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the direct memory backed buffer
+ */
+public class ProtonDirectByteBufferTest extends ProtonAbstractBufferTest {
+
+    private final ProtonDirectBufferAllocator allocator = new ProtonDirectBufferAllocator();
+
+    //----- Test direct buffer implementation specifics
+
+    @Test
+    public void testUnwrapReturnsDirectMemory() {
+        ProtonBuffer buffer = allocateBuffer(13, 13);
+
+        ByteBuffer unwrapped = (ByteBuffer) buffer.unwrap();
+
+        assertTrue(unwrapped.isDirect());
+        assertFalse(buffer.hasArray());
+        assertThrows(UnsupportedOperationException.class, () -> buffer.getArray());
+        assertThrows(UnsupportedOperationException.class, () -> buffer.getArrayOffset());
+    }
+
+    @Test
+    public void testToByteBufferSharesMemory() {
+        ProtonBuffer buffer = allocateBuffer(16, 16);
+
+        buffer.writeLong(1);
+        buffer.writeLong(2);
+        buffer.readLong();
+
+        ByteBuffer view = buffer.toByteBuffer();
+
+        assertTrue(view.isDirect());
+        assertEquals(8, view.remaining());
+        assertEquals(2, view.getLong(0));
+
+        buffer.setLong(8, 3);
+
+        assertEquals(3, view.getLong(0));
+    }
+
+    @Test
+    public void testPrimitivesAreBigEndian() {
+        ProtonBuffer buffer = allocateBuffer(8, 8);
+
+        buffer.writeInt(0x01020304);
+
+        assertEquals(1, buffer.getByte(0));
+        assertEquals(4, buffer.getByte(3));
+        assertEquals(0x0102, buffer.getShort(0));
+    }
+
+    @Test
+    public void testGrowPreservesContents() {
+        ProtonBuffer buffer = allocateBuffer(8);
+
+        for (int i = 0; i < 1024; ++i) {
+            buffer.writeInt(i);
+        }
+
+        assertTrue(buffer.capacity() >= 4096);
+        for (int i = 0; i < 1024; ++i) {
+            assertEquals(i, buffer.readInt());
+        }
+    }
+
+    @Test
+    public void testReleaseLeavesBufferEmpty() {
+        ProtonBuffer buffer = allocateBuffer(64);
+
+        buffer.writeLong(42);
+        buffer.release();
+        buffer.release();
+
+        assertEquals(0, buffer.capacity());
+        assertFalse(buffer.isReadable());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getLong(0));
+        assertThrows(IllegalStateException.class, () -> buffer.writeLong(1));
+    }
+
+    @Test
+    public void testCopyIsHeapBuffer() {
+        ProtonBuffer buffer = allocateBuffer(8, 8);
+
+        buffer.writeLong(42);
+
+        ProtonBuffer copy = buffer.copy();
+        buffer.setLong(0, 0);
+
+        assertTrue(copy.hasArray());
+        assertEquals(42, copy.readLong());
+    }
+
+    @Override
+    @Test
+    public void testCapacityIncreasesWhenWritesExceedCurrent() {
+        // Same as the common test without the expectation of an array backing
+        ProtonBuffer buffer = allocateBuffer(10);
+
+        assertEquals(10, buffer.capacity());
+        assertEquals(Integer.MAX_VALUE, buffer.maxCapacity());
+
+        for (int i = 1; i <= 10; ++i) {
+            buffer.writeByte(i);
+        }
+
+        assertEquals(10, buffer.capacity());
+
+        buffer.writeByte(11);
+
+        assertTrue(buffer.capacity() > 10);
+        assertEquals(11, buffer.getReadableBytes());
+
+        for (int i = 1; i < 12; ++i) {
+            assertEquals(i, buffer.readByte());
+        }
+    }
+
+    @Override
+    protected boolean canAllocateDirectBackedBuffers() {
+        return true;
+    }
+
+    @Override
+    protected ProtonBuffer allocateBuffer(int initialCapacity) {
+        return allocator.allocate(initialCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer allocateDirectBuffer(int initialCapacity) {
+        return new ProtonDirectByteBuffer(initialCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer allocateBuffer(int initialCapacity, int maxCapacity) {
+        return allocator.allocate(initialCapacity, maxCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer allocateDirectBuffer(int initialCapacity, int maxCapacity) {
+        return new ProtonDirectByteBuffer(initialCapacity, maxCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer wrapBuffer(byte[] array) {
+        return allocator.wrap(array);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class ProtonPooledBufferAllocatorTest {
+
+    @Test
+    public void testAllocateDefaults() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate();
+
+        assertEquals(ProtonByteBuffer.DEFAULT_CAPACITY, buffer.capacity());
+        assertEquals(ProtonByteBuffer.DEFAULT_MAXIMUM_CAPACITY, buffer.maxCapacity());
+        assertEquals(ProtonPooledBufferAllocator.DEFAULT_MAX_POOLED_CAPACITY, allocator.getMaxPooledCapacity());
+        assertEquals(1, allocator.getAllocationCount());
+        assertEquals(1, allocator.getMissCount());
+    }
+
+    @Test
+    public void testCapacityIsRequestedValueNotSizeClass() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(100, 200);
+
+        assertEquals(100, buffer.capacity());
+        assertEquals(200, buffer.maxCapacity());
+        assertEquals(128, buffer.getArray().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.setByte(100, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getInt(98));
+    }
+
+    @Test
+    public void testReleasedArrayIsReused() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(1000);
+        byte[] array = buffer.getArray();
+        buffer.release();
+
+        ProtonBuffer reused = allocator.allocate(600);
+
+        assertSame(array, reused.getArray());
+        assertEquals(600, reused.capacity());
+        assertEquals(0, reused.getReadIndex());
+        assertEquals(0, reused.getWriteIndex());
+        assertEquals(2, allocator.getAllocationCount());
+        assertEquals(1, allocator.getMissCount());
+
+        // A different size class does not share the released array
+        reused.release();
+        assertNotSame(array, allocator.allocate(64).getArray());
+    }
+
+    @Test
+    public void testReleasedArrayIsSharedWithOtherThreadsThroughArena() throws Exception {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 0, 64 * 1024);
+
+        ProtonBuffer buffer = allocator.allocate(256);
+        byte[] array = buffer.getArray();
+        buffer.release();
+
+        AtomicReference<byte[]> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(allocator.allocate(256).getArray()));
+        thread.start();
+        thread.join();
+
+        assertSame(array, other.get());
+    }
+
+    @Test
+    public void testThreadCacheIsNotSharedWithOtherThreads() throws Exception {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 64 * 1024, 0);
+
+        ProtonBuffer buffer = allocator.allocate(256);
+        byte[] array = buffer.getArray();
+        buffer.release();
+
+        AtomicReference<byte[]> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(allocator.allocate(256).getArray()));
+        thread.start();
+        thread.join();
+
+        assertNotSame(array, other.get());
+        assertSame(array, allocator.allocate(256).getArray());
+    }
+
+    @Test
+    public void testArrayReleasedOnOtherThreadReturnsToArena() throws Exception {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 64 * 1024, 64 * 1024);
+
+        ProtonBuffer buffer = allocator.allocate(256);
+        byte[] array = buffer.getArray();
+
+        assertEquals(1, allocator.getMissCount());
+
+        Thread thread = new Thread(() -> buffer.release());
+        thread.start();
+        thread.join();
+
+        // The releasing thread did not take the array so it must not keep it in its own cache
+        assertSame(array, allocator.allocate(256).getArray());
+        assertEquals(2, allocator.getAllocationCount());
+        assertEquals(1, allocator.getMissCount());
+    }
+
+    @Test
+    public void testLargeBuffersAreNotPooled() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 64 * 1024, 64 * 1024);
+
+        ProtonBuffer buffer = allocator.allocate(2048);
+        byte[] array = buffer.getArray();
+
+        assertEquals(2048, buffer.capacity());
+        assertEquals(0, allocator.getAllocationCount());
+
+        buffer.release();
+
+        assertNotSame(array, allocator.allocate(2048).getArray());
+    }
+
+    @Test
+    public void testBufferGrowsThroughSizeClasses() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(64);
+        byte[] initial = buffer.getArray();
+
+        for (int i = 0; i < 100; ++i) {
+            buffer.writeByte(i);
+        }
+
+        assertEquals(100, buffer.getReadableBytes());
+        assertEquals(128, buffer.capacity());
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, buffer.readByte());
+        }
+
+        // The outgrown array went back to the pool
+        assertSame(initial, allocator.allocate(64).getArray());
+    }
+
+    @Test
+    public void testReleaseIsIdempotentAndBufferUnusableAfter() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        ProtonBuffer buffer = allocator.allocate(64);
+        buffer.writeInt(42);
+        buffer.release();
+        buffer.release();
+
+        assertEquals(0, buffer.capacity());
+        assertFalse(buffer.isReadable());
+        assertThrows(IllegalStateException.class, () -> buffer.writeInt(1));
+        assertThrows(IllegalStateException.class, () -> buffer.capacity(128));
+
+        // A second release did not hand the array to the pool twice
+        assertNotSame(allocator.allocate(64).getArray(), allocator.allocate(64).getArray());
+    }
+
+    @Test
+    public void testWrappedAndUnpooledBuffersIgnoreRelease() {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        byte[] array = new byte[] { 1, 2, 3 };
+        ProtonBuffer wrapped = allocator.wrap(array);
+        wrapped.release();
+
+        assertEquals(3, wrapped.getReadableBytes());
+        assertEquals(1, wrapped.readByte());
+
+        ProtonBuffer plain = ProtonByteBufferAllocator.DEFAULT.allocate(64);
+        plain.writeInt(1);
+        plain.release();
+
+        assertEquals(1, plain.readInt());
+    }
+
+    @Test
+    public void testLeakDetectionReportsUnreleasedBuffers() throws Exception {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator().setLeakDetectionInterval(1);
+
+        assertEquals(1, allocator.getLeakDetectionInterval());
+
+        allocator.allocate(64).release();
+        allocator.allocate(64);
+
+        assertEquals(0, allocator.getLeakCount());
+
+        // Enqueue the remaining tracker as the collector would once the buffer was unreachable
+        allocator.enqueueTrackedBuffers();
+
+        assertEquals(1, allocator.getLeakCount());
+    }
+
+    @Test
+    public void testLeakDetectionDisabledByDefault() throws Exception {
+        ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+        assertEquals(0, allocator.getLeakDetectionInterval());
+
+        allocator.allocate(64);
+        allocator.enqueueTrackedBuffers();
+
+        assertEquals(0, allocator.getLeakCount());
+    }
+
+    @Test
+    public void testInvalidConfigurationRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(32, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(1024, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(1024, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator().setLeakDetectionInterval(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator().allocate(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator().allocate(128, 64));
+    }
+
+    @Test
+    public void testMaxPooledCapacityRoundedToSizeClass() {
+        assertEquals(2048, new ProtonPooledBufferAllocator(1025, 0, 0).getMaxPooledCapacity());
+        assertEquals(64, new ProtonPooledBufferAllocator(64, 0, 0).getMaxPooledCapacity());
+    }
+}
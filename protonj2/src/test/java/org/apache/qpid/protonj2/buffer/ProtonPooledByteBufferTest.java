@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer;
+
+/**
+ * Runs the common buffer tests against buffers allocated from the {@link ProtonPooledBufferAllocator}
+ */
+public class ProtonPooledByteBufferTest extends ProtonAbstractBufferTest {
+
+    private final ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+
+    @Override
+    protected boolean canAllocateDirectBackedBuffers() {
+        return false;
+    }
+
+    @Override
+    protected ProtonBuffer allocateBuffer(int initialCapacity) {
+        return allocator.allocate(initialCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer allocateDirectBuffer(int initialCapacity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected ProtonBuffer allocateBuffer(int initialCapacity, int maxCapacity) {
+        return allocator.allocate(initialCapacity, maxCapacity);
+    }
+
+    @Override
+    protected ProtonBuffer allocateDirectBuffer(int initialCapacity, int maxCapacity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected ProtonBuffer wrapBuffer(byte[] array) {
+        return allocator.wrap(array);
+    }
+}
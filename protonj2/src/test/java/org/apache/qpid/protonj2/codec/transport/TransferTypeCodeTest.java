@@ -16,9 +16,12 @@
  */
 package org.apache.qpid.protonj2.codec.transport;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,8 +38,10 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.transport.TransferTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.transport.TransferTypeEncoder;
+import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 import org.junit.jupiter.api.Test;
@@ -452,4 +457,80 @@ public class TransferTypeCodeTest extends CodecTestSupport {
             } catch (DecodeException ex) {}
         }
     }
+
+    @Test
+    public void testDecodeIntoReusedTransfer() throws IOException {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        ((ProtonDecoderState) decoderState).setReusePerformatives(true);
+
+        Transfer first = new Transfer();
+        first.setHandle(1);
+        first.setDeliveryId(1);
+        first.setDeliveryTag(new byte[] {1});
+        first.setSettled(true);
+
+        Transfer second = new Transfer();
+        second.setHandle(2);
+        second.setMore(true);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Transfer result1 = (Transfer) decoder.readObject(buffer, decoderState);
+
+        assertEquals(1, result1.getHandle());
+        assertEquals(1, result1.getDeliveryId());
+        assertTrue(result1.getSettled());
+
+        final Transfer result2 = (Transfer) decoder.readObject(buffer, decoderState);
+
+        assertSame(result1, result2);
+        assertEquals(2, result2.getHandle());
+        assertTrue(result2.getMore());
+        assertFalse(result2.hasDeliveryId());
+        assertFalse(result2.hasDeliveryTag());
+        assertFalse(result2.hasSettled());
+
+        ((ProtonDecoderState) decoderState).setReusePerformatives(false);
+
+        encoder.writeObject(buffer, encoderState, first);
+
+        assertNotSame(result1, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testReusedDeliveryTagReturnsToPoolWhenReleased() throws IOException {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        ((ProtonDecoderState) decoderState).setReusePerformatives(true);
+
+        for (int i = 0; i < 3; ++i) {
+            Transfer transfer = new Transfer();
+            transfer.setHandle(0);
+            transfer.setDeliveryId(i);
+            transfer.setDeliveryTag(new byte[] {(byte) i, 1});
+
+            encoder.writeObject(buffer, encoderState, transfer);
+        }
+
+        final DeliveryTag tag1 = ((Transfer) decoder.readObject(buffer, decoderState)).getDeliveryTag();
+
+        assertEquals(new DeliveryTag.ProtonDeliveryTag(new byte[] {0, 1}), tag1);
+        assertEquals(new DeliveryTag.ProtonDeliveryTag(new byte[] {0, 1}).hashCode(), tag1.hashCode());
+
+        final DeliveryTag tag2 = ((Transfer) decoder.readObject(buffer, decoderState)).getDeliveryTag();
+
+        assertNotSame(tag1, tag2);
+        assertEquals(new DeliveryTag.ProtonDeliveryTag(new byte[] {0, 1}), tag1);
+        assertEquals(new DeliveryTag.ProtonDeliveryTag(new byte[] {1, 1}), tag2);
+
+        tag1.release();
+
+        final DeliveryTag tag3 = ((Transfer) decoder.readObject(buffer, decoderState)).getDeliveryTag();
+
+        assertSame(tag1, tag3);
+        assertArrayEquals(new byte[] {2, 1}, tag3.tagBytes());
+        assertEquals(new DeliveryTag.ProtonDeliveryTag(new byte[] {1, 1}), tag2);
+    }
 }
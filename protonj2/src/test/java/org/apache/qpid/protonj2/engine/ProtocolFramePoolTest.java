@@ -17,11 +17,14 @@
 package org.apache.qpid.protonj2.engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.types.transport.Transfer;
@@ -136,4 +139,107 @@ class ProtocolFramePoolTest {
         assertNull(frame1.getPayload());
         assertNotEquals(2, frame1.getChannel());
     }
+
+    @Test
+    void testConfiguredMaxSizeLimitsRecycledFrames() {
+        final int poolSize = AMQPPerformativeEnvelopePool.DEFAULT_MAX_POOL_SIZE + 10;
+        AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> pool = AMQPPerformativeEnvelopePool.incomingEnvelopePool(poolSize);
+
+        IncomingAMQPEnvelope[] frames = new IncomingAMQPEnvelope[poolSize];
+        for (int i = 0; i < poolSize; ++i) {
+            frames[i] = pool.take(new Transfer(), 0, null);
+        }
+
+        assertEquals(poolSize, pool.getTakeCount());
+        assertEquals(poolSize, pool.getMissCount());
+
+        for (IncomingAMQPEnvelope frame : frames) {
+            frame.release();
+        }
+
+        for (int i = 0; i < poolSize; ++i) {
+            assertSame(frames[i], pool.take(new Transfer(), 0, null));
+        }
+
+        assertEquals(poolSize * 2, pool.getTakeCount());
+        assertEquals(poolSize, pool.getMissCount());
+    }
+
+    @Test
+    void testReducingMaxSizeDiscardsPooledFrames() {
+        AMQPPerformativeEnvelopePool<OutgoingAMQPEnvelope> pool = AMQPPerformativeEnvelopePool.outgoingEnvelopePool();
+
+        OutgoingAMQPEnvelope frame1 = pool.take(new Transfer(), 0, null);
+        OutgoingAMQPEnvelope frame2 = pool.take(new Transfer(), 0, null);
+
+        frame1.release();
+        frame2.release();
+
+        pool.setMaxPoolSize(1);
+
+        assertEquals(1, pool.getMaxPoolSize());
+        assertSame(frame1, pool.take(new Transfer(), 0, null));
+        assertNotSame(frame2, pool.take(new Transfer(), 0, null));
+
+        pool.setMaxPoolSize(0);
+
+        OutgoingAMQPEnvelope frame3 = pool.take(new Transfer(), 0, null);
+        frame3.release();
+
+        assertNotSame(frame3, pool.take(new Transfer(), 0, null));
+        assertThrows(IllegalArgumentException.class, () -> pool.setMaxPoolSize(-1));
+    }
+
+    @Test
+    void testRetainedFrameReturnsToPoolOnLastRelease() {
+        AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> pool = AMQPPerformativeEnvelopePool.incomingEnvelopePool();
+        IncomingAMQPEnvelope frame1 = pool.take(new Transfer(), 2, null);
+
+        assertSame(frame1, frame1.retain());
+
+        frame1.release();
+
+        assertNotNull(frame1.getBody());
+        assertEquals(2, frame1.getChannel());
+        assertNotSame(frame1, pool.take(new Transfer(), 0, null));
+
+        frame1.release();
+
+        assertNull(frame1.getBody());
+        assertThrows(IllegalStateException.class, () -> frame1.retain());
+        assertSame(frame1, pool.take(new Transfer(), 0, null));
+    }
+
+    @Test
+    void testReleaseOfReleasedFrameIsIgnored() {
+        AMQPPerformativeEnvelopePool<OutgoingAMQPEnvelope> pool = AMQPPerformativeEnvelopePool.outgoingEnvelopePool();
+        OutgoingAMQPEnvelope frame1 = pool.take(new Transfer(), 0, null);
+
+        frame1.release();
+        frame1.release();
+
+        assertSame(frame1, pool.take(new Transfer(), 0, null));
+        assertNotSame(frame1, pool.take(new Transfer(), 0, null));
+    }
+
+    @Test
+    void testLeakDetectionReportsFramesNeverReleased() throws Exception {
+        AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> pool = AMQPPerformativeEnvelopePool.incomingEnvelopePool();
+
+        assertFalse(pool.isLeakDetection());
+
+        pool.setLeakDetection(true);
+
+        assertTrue(pool.isLeakDetection());
+
+        pool.take(new Transfer(), 0, null).release();
+        IncomingAMQPEnvelope leaked = pool.take(new Transfer(), 0, null);
+
+        assertEquals(0, pool.getLeakCount());
+
+        // Enqueue the tracker as the collector would once the envelope was unreachable
+        leaked.leakTracker.enqueue();
+
+        assertEquals(1, pool.getLeakCount());
+    }
 }
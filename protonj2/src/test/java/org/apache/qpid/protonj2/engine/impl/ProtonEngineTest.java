@@ -27,12 +27,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.security.sasl.SaslException;
 
 import org.apache.qpid.protonj2.buffer.ProtonByteBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.ConnectionState;
@@ -40,13 +46,16 @@ import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.EngineState;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
+import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.engine.SASLEnvelope;
+import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotStartedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.MalformedAMQPHeaderException;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.test.driver.ProtonTestConnector;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.security.SaslInit;
@@ -477,6 +486,74 @@ public class ProtonEngineTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testTickAutoWithSharedTimerSendsEmptyFrames() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final HashedWheelTimer timer = new HashedWheelTimer("engine-test-timer");
+
+        try {
+            Connection connection = engine.start();
+            assertNotNull(connection);
+
+            peer.expectAMQPHeader().respondWithAMQPHeader();
+            peer.expectOpen().respond().withIdleTimeOut(1000);
+
+            executor.submit(() -> connection.open()).get();
+
+            peer.waitForScriptToComplete();
+            peer.expectEmptyFrame();
+
+            executor.submit(() -> engine.tickAuto(executor, timer)).get();
+
+            peer.waitForScriptToComplete(5);
+
+            executor.submit(() -> engine.shutdown()).get();
+
+            assertEquals(0, timer.getScheduledCount());
+            assertNull(failure);
+        } finally {
+            executor.shutdownNow();
+            timer.stop();
+        }
+    }
+
+    @Test
+    public void testTickAutoWithSharedTimerPreventsDoubleInvocation() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        Connection connection = engine.start();
+        assertNotNull(connection);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectClose().respond();
+
+        connection.open();
+
+        final HashedWheelTimer timer = new HashedWheelTimer("engine-test-timer");
+
+        try {
+            engine.tickAuto(Runnable::run, timer);
+
+            assertThrows(IllegalStateException.class, () -> engine.tickAuto(Runnable::run, timer));
+            assertThrows(IllegalStateException.class, () -> engine.tickAuto(Mockito.mock(ScheduledExecutorService.class)));
+            assertThrows(IllegalStateException.class, () -> engine.tick(5000));
+        } finally {
+            timer.stop();
+        }
+
+        connection.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testTickRemoteTimeout() throws EngineStateException {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -1377,4 +1454,126 @@ public class ProtonEngineTest extends ProtonEngineTestSupport {
 
         peer.waitForScriptToComplete();
     }
+
+    @Test
+    public void testOutputBatchingCombinesFramesOfMultiFrameTransfer() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setOutputBatching(true);
+
+        final AtomicInteger writes = new AtomicInteger();
+        final Queue<Runnable> asyncIOCallbacks = new ArrayDeque<>();
+        final ProtonTestConnector peer = new ProtonTestConnector(buffer -> {
+            engine.accept(ProtonByteBufferAllocator.DEFAULT.wrap(buffer));
+        });
+        engine.outputHandler((buffer, callback) -> {
+            writes.incrementAndGet();
+            if (callback != null) {
+                asyncIOCallbacks.offer(callback);
+            }
+            peer.accept(buffer.toByteBuffer());
+        });
+
+        final byte[] payload = new byte[3000];
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().withMaxFrameSize(1024).respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(1).queue();
+
+        Connection connection = engine.start().setMaxFrameSize(1024).open();
+        Session session = connection.session().setOutgoingCapacity(8192).open();
+        Sender sender = session.sender("test").open();
+
+        peer.waitForScriptToComplete();
+        peer.expectTransfer().withMore(true);
+        peer.expectTransfer().withMore(true);
+        peer.expectTransfer().withMore(true);
+        peer.expectTransfer().withMore(false);
+
+        asyncIOCallbacks.forEach(runner -> runner.run());
+        asyncIOCallbacks.clear();
+        writes.set(0);
+
+        OutgoingDelivery delivery = sender.next().setTag(new byte[] { 0 });
+        delivery.writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(1, writes.get());
+        assertEquals(1, asyncIOCallbacks.size());
+        assertEquals(4096, session.getRemainingOutgoingCapacity());
+
+        // The single batched write completion releases the window held by all four frames
+        asyncIOCallbacks.poll().run();
+
+        assertEquals(8192, session.getRemainingOutgoingCapacity());
+        assertNull(failure);
+    }
+
+    @Test
+    public void testOutputBatchLimitMustBePositive() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+
+        assertFalse(engine.configuration().isOutputBatching());
+        assertEquals(ProtonEngineConfiguration.DEFAULT_OUTPUT_BATCH_LIMIT, engine.configuration().getOutputBatchLimit());
+        assertThrows(IllegalArgumentException.class, () -> engine.configuration().setOutputBatchLimit(0));
+
+        engine.configuration().setOutputBatchLimit(1024);
+
+        assertEquals(1024, engine.configuration().getOutputBatchLimit());
+    }
+
+    @Test
+    public void testEnvelopePoolConfigurationAppliedToEnginePools() {
+        ProtonEngine engine = (ProtonEngine) EngineFactory.PROTON.createNonSaslEngine();
+
+        assertEquals(ProtonEngineConfiguration.DEFAULT_ENVELOPE_POOL_SIZE, engine.configuration().getEnvelopePoolSize());
+        assertEquals(ProtonEngineConfiguration.DEFAULT_ENVELOPE_POOL_SIZE, engine.outgoingEnvelopePool().getMaxPoolSize());
+        assertEquals(ProtonEngineConfiguration.DEFAULT_ENVELOPE_POOL_SIZE, engine.incomingEnvelopePool().getMaxPoolSize());
+        assertFalse(engine.configuration().isEnvelopeLeakDetection());
+
+        engine.configuration().setEnvelopePoolSize(64);
+        engine.configuration().setEnvelopeLeakDetection(true);
+
+        assertEquals(64, engine.configuration().getEnvelopePoolSize());
+        assertEquals(64, engine.outgoingEnvelopePool().getMaxPoolSize());
+        assertEquals(64, engine.incomingEnvelopePool().getMaxPoolSize());
+        assertTrue(engine.configuration().isEnvelopeLeakDetection());
+        assertTrue(engine.outgoingEnvelopePool().isLeakDetection());
+        assertTrue(engine.incomingEnvelopePool().isLeakDetection());
+
+        assertThrows(IllegalArgumentException.class, () -> engine.configuration().setEnvelopePoolSize(-1));
+    }
+
+    @Test
+    public void testEnvelopePoolsRecycleEnvelopesDuringExchange() {
+        ProtonEngine engine = (ProtonEngine) EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setEnvelopeLeakDetection(true);
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectEnd().respond();
+        peer.expectBegin().respond();
+        peer.expectEnd().respond();
+
+        Connection connection = engine.start().open();
+
+        connection.session().open().close();
+        connection.session().open().close();
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(5, engine.outgoingEnvelopePool().getTakeCount());
+        assertEquals(1, engine.outgoingEnvelopePool().getMissCount());
+        assertEquals(5, engine.incomingEnvelopePool().getTakeCount());
+        assertEquals(1, engine.incomingEnvelopePool().getMissCount());
+        assertEquals(0, engine.outgoingEnvelopePool().getLeakCount());
+        assertEquals(0, engine.incomingEnvelopePool().getLeakCount());
+        assertNull(failure);
+    }
 }
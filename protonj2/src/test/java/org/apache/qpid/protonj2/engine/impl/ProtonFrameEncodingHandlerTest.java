@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.engine.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -28,6 +29,7 @@ import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EngineHandlerContext;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
@@ -193,6 +195,62 @@ class ProtonFrameEncodingHandlerTest {
         assertEquals(transfer.getMore(), decodedTransfer.getMore());
     }
 
+    @Test
+    void testEncodeTransferWithPreEncodedBodyThatDoesNotFitIntoFrame() {
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setMore(true);
+
+        final ProtonBuffer encodedTransfer = ProtonByteBufferAllocator.DEFAULT.allocate();
+        final Encoder encoder = CodecFactory.getEncoder();
+        encoder.writeObject(encodedTransfer, encoder.newEncoderState(), transfer);
+        final int encodedSize = encodedTransfer.getReadableBytes();
+
+        final byte[] payload = new byte[(int) (configuration.getOutboundMaxFrameSize() * 2)];
+        final ProtonBuffer payloadBuffer = ProtonByteBufferAllocator.DEFAULT.wrap(payload);
+        final AtomicBoolean toLargeHandlerCalled = new AtomicBoolean();
+
+        random.nextBytes(payload);
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+        frame.setEncodedBody(encodedTransfer);
+        frame.setPayloadToLargeHandler((performative) -> {
+            toLargeHandlerCalled.set(true);
+        });
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertFalse(toLargeHandlerCalled.get());
+        assertNotNull(output);
+        assertEquals(configuration.getOutboundMaxFrameSize(), output.getReadableBytes());
+
+        // The pre-encoded bytes are copied and can be reused for the next frame
+        assertEquals(encodedSize, encodedTransfer.getReadableBytes());
+        assertEquals(payload.length - (output.getReadableBytes() - encodedSize - 8), payloadBuffer.getReadableBytes());
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertEquals(transfer.getHandle(), decodedTransfer.getHandle());
+        assertEquals(transfer.getDeliveryId(), decodedTransfer.getDeliveryId());
+        assertTrue(decodedTransfer.getMore());
+        assertEquals(payload[0], output.readByte());
+    }
+
     @Test
     void testOutgoingFrameIsReleasedAfterWriteFinishes() {
         ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
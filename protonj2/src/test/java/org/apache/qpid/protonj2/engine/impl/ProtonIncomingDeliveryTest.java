@@ -21,9 +21,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -255,6 +258,67 @@ public class ProtonIncomingDeliveryTest extends ProtonEngineTestSupport {
         Mockito.verifyNoMoreInteractions(receiver);
     }
 
+    @Test
+    public void testViewAvailableBytesWhenNoneAvailable() throws Exception {
+        ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            Mockito.mock(ProtonReceiver.class), 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+
+        assertEquals(0, delivery.viewAvailableBytes().length);
+    }
+
+    @Test
+    public void testViewAvailableBytesDoesNotConsumeOrCopy() throws Exception {
+        byte[] data = "test-data".getBytes(StandardCharsets.UTF_8);
+
+        ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            Mockito.mock(ProtonReceiver.class), 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+        delivery.appendTransferPayload(ProtonByteBufferAllocator.DEFAULT.wrap(data));
+
+        ByteBuffer[] views = delivery.viewAvailableBytes();
+
+        assertEquals(1, views.length);
+        assertTrue(views[0].isReadOnly());
+        assertEquals(data.length, views[0].remaining());
+        assertEquals(data.length, delivery.available());
+
+        // The view shares the memory of the transfer payload
+        data[0] = 'T';
+        assertEquals('T', views[0].get(0));
+
+        assertThrows(ReadOnlyBufferException.class, () -> views[0].put(0, (byte) 0));
+    }
+
+    @Test
+    public void testViewAvailableBytesOfMultipleTransfers() throws Exception {
+        ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            Mockito.mock(ProtonReceiver.class), 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+
+        delivery.appendTransferPayload(ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { 0, 1, 2 }));
+        delivery.appendTransferPayload(ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { 3, 4 }));
+        delivery.appendTransferPayload(ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { 5 }));
+
+        byte[] partial = new byte[2];
+        delivery.readBytes(partial, 0, partial.length);
+
+        ByteBuffer[] views = delivery.viewAvailableBytes();
+
+        assertEquals(3, views.length);
+        assertEquals(4, delivery.available());
+
+        byte expected = 2;
+        for (ByteBuffer view : views) {
+            assertTrue(view.isReadOnly());
+            while (view.hasRemaining()) {
+                assertEquals(expected++, view.get());
+            }
+        }
+
+        assertEquals(6, expected);
+        assertEquals(4, delivery.available());
+        assertEquals(4, delivery.readAll().getReadableBytes());
+        assertEquals(0, delivery.viewAvailableBytes().length);
+    }
+
     private ProtonBuffer createProtonBuffer(int available) {
         byte[] array = new byte[available];
         Arrays.fill(array, (byte) 65);
@@ -59,6 +59,7 @@ import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
 import org.apache.qpid.protonj2.engine.util.SimplePojo;
 import org.apache.qpid.protonj2.test.driver.ProtonTestConnector;
 import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.UnsignedLong;
@@ -1634,6 +1635,141 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testReceiverKeepsDeliveryTagsWhenDecodedPerformativesAreReused() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setReuseDecodedPerformatives(true);
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(3);
+        peer.remoteTransfer().withDeliveryId(0)
+                             .withDeliveryTag(new byte[] {0})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+        peer.remoteTransfer().withDeliveryId(1)
+                             .withDeliveryTag(new byte[] {1})
+                             .withMore(true)
+                             .withMessageFormat(0).queue();
+        peer.remoteTransfer().withDeliveryId(1)
+                             .withDeliveryTag(new byte[] {1})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        Receiver receiver = session.receiver("test");
+
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>();
+        receiver.deliveryReadHandler(delivery -> {
+            if (!delivery.isPartial()) {
+                deliveries.add(delivery);
+            }
+        });
+        receiver.open();
+        receiver.addCredit(3);
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(2, deliveries.size());
+        assertArrayEquals(new byte[] {0}, deliveries.get(0).getTag().tagBytes());
+        assertArrayEquals(new byte[] {1}, deliveries.get(1).getTag().tagBytes());
+
+        peer.expectDisposition().withFirst(0)
+                                .withSettled(true)
+                                .withRole(Role.RECEIVER.getValue())
+                                .withState().accepted();
+        peer.remoteTransfer().withDeliveryId(2)
+                             .withDeliveryTag(new byte[] {2})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+
+        // Settling the first delivery releases its tag for reuse by the next incoming delivery
+        deliveries.get(0).disposition(Accepted.getInstance(), true);
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(3, deliveries.size());
+        assertArrayEquals(new byte[] {1}, deliveries.get(1).getTag().tagBytes());
+        assertArrayEquals(new byte[] {2}, deliveries.get(2).getTag().tagBytes());
+
+        assertNull(failure);
+    }
+
+    @Test
+    public void testBulkSettleReturnsReusedDeliveryTagsToThePool() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setReuseDecodedPerformatives(true);
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(4);
+        peer.remoteTransfer().withDeliveryId(0)
+                             .withDeliveryTag(new byte[] {0})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+        peer.remoteTransfer().withDeliveryId(1)
+                             .withDeliveryTag(new byte[] {1})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        Receiver receiver = session.receiver("test");
+
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>();
+        receiver.deliveryReadHandler(delivery -> deliveries.add(delivery));
+        receiver.open();
+        receiver.addCredit(4);
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(2, deliveries.size());
+
+        final DeliveryTag tag0 = deliveries.get(0).getTag();
+        final DeliveryTag tag1 = deliveries.get(1).getTag();
+
+        peer.expectDisposition().withFirst(0)
+                                .withSettled(true)
+                                .withRole(Role.RECEIVER.getValue())
+                                .withState().accepted();
+        peer.expectDisposition().withFirst(1)
+                                .withSettled(true)
+                                .withRole(Role.RECEIVER.getValue())
+                                .withState().accepted();
+        peer.remoteTransfer().withDeliveryId(2)
+                             .withDeliveryTag(new byte[] {2})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+        peer.remoteTransfer().withDeliveryId(3)
+                             .withDeliveryTag(new byte[] {3})
+                             .withMore(false)
+                             .withMessageFormat(0).queue();
+
+        receiver.disposition(delivery -> true, Accepted.getInstance(), true);
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(4, deliveries.size());
+        assertEquals(2, receiver.unsettled().size());
+
+        // Both holders were released by the bulk settle and are handed out again in release order
+        assertSame(tag0, deliveries.get(2).getTag());
+        assertSame(tag1, deliveries.get(3).getTag());
+        assertArrayEquals(new byte[] {2}, deliveries.get(2).getTag().tagBytes());
+        assertArrayEquals(new byte[] {3}, deliveries.get(3).getTag().tagBytes());
+
+        assertNull(failure);
+    }
+
     @Test
     public void testReceiverSendsDispositionOnlyOnceForTransfer() throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
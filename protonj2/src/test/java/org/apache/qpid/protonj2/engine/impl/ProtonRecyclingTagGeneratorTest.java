@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonByteUtils;
+import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+import org.junit.jupiter.api.Test;
+
+public class ProtonRecyclingTagGeneratorTest {
+
+    @Test
+    public void testCreateTagGenerator() {
+        DeliveryTagGenerator generator = ProtonDeliveryTagGenerator.BUILTIN.RECYCLING.createGenerator();
+        assertTrue(generator instanceof ProtonRecyclingTagGenerator);
+    }
+
+    @Test
+    public void testCreateTagGeneratorChecksLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonRecyclingTagGenerator(-1));
+    }
+
+    @Test
+    public void testTagsAreFixedWidth() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        DeliveryTag tag = generator.nextTag();
+        assertNotNull(tag);
+        assertEquals(Long.BYTES, tag.tagLength());
+        assertArrayEquals(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0 }, tag.tagBytes());
+
+        generator.setNextTagId(0x0102030405060708l);
+
+        tag = generator.nextTag();
+        assertEquals(Long.BYTES, tag.tagLength());
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, tag.tagBytes());
+
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(Long.BYTES);
+        tag.writeTo(buffer);
+
+        assertEquals(Long.BYTES, buffer.getReadableBytes());
+        assertEquals(0x0102030405060708l, buffer.readLong());
+    }
+
+    @Test
+    public void testTagBytesAndBufferCreatedOnceForRecycledTag() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        DeliveryTag tag = generator.nextTag();
+
+        final byte[] tagBytes = tag.tagBytes();
+        final ProtonBuffer tagBuffer = tag.tagBuffer();
+
+        assertSame(tagBytes, tag.tagBytes());
+        assertSame(tagBuffer, tag.tagBuffer());
+        assertEquals(Long.BYTES, tagBuffer.getReadableBytes());
+
+        tag.release();
+
+        DeliveryTag recycled = generator.nextTag();
+
+        assertSame(tag, recycled);
+        assertSame(tagBytes, recycled.tagBytes());
+        assertSame(tagBuffer, recycled.tagBuffer());
+    }
+
+    @Test
+    public void testReleasedTagsAreReused() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        DeliveryTag tag1 = generator.nextTag();
+        DeliveryTag tag2 = generator.nextTag();
+
+        assertNotSame(tag1, tag2);
+        assertNotEquals(tag1, tag2);
+
+        tag1.release();
+
+        assertEquals(1, generator.getRecycledTagCount());
+        assertSame(tag1, generator.nextTag());
+        assertEquals(0, generator.getRecycledTagCount());
+    }
+
+    @Test
+    public void testReleaseIsIdempotent() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        DeliveryTag tag = generator.nextTag();
+
+        tag.release();
+        tag.release();
+        tag.release();
+
+        assertEquals(1, generator.getRecycledTagCount());
+        assertSame(tag, generator.nextTag());
+        assertNotSame(tag, generator.nextTag());
+    }
+
+    @Test
+    public void testRecycledTagsFollowTheNumberOfUnsettledTags() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        final int unsettled = 2048;
+        final ArrayList<DeliveryTag> tags = new ArrayList<>(unsettled);
+
+        for (int i = 0; i < unsettled; ++i) {
+            tags.add(generator.nextTag());
+        }
+
+        tags.forEach(tag -> tag.release());
+
+        assertEquals(unsettled, generator.getRecycledTagCount());
+
+        for (int i = 0; i < unsettled; ++i) {
+            assertTrue(tags.contains(generator.nextTag()));
+        }
+
+        assertEquals(0, generator.getRecycledTagCount());
+        assertArrayEquals(ProtonByteUtils.toByteArray((long) unsettled), generator.nextTag().tagBytes());
+    }
+
+    @Test
+    public void testRecycledTagLimitIsHonored() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator(1);
+
+        DeliveryTag tag1 = generator.nextTag();
+        DeliveryTag tag2 = generator.nextTag();
+
+        tag1.release();
+        tag2.release();
+
+        assertEquals(1, generator.getRecycledTagCount());
+        assertSame(tag1, generator.nextTag());
+        assertNotSame(tag2, generator.nextTag());
+    }
+
+    @Test
+    public void testCopiedTagIsNotRecycled() {
+        ProtonRecyclingTagGenerator generator = new ProtonRecyclingTagGenerator();
+
+        DeliveryTag tag = generator.nextTag();
+        DeliveryTag copy = tag.copy();
+
+        assertEquals(tag, copy);
+        assertEquals(tag.hashCode(), copy.hashCode());
+
+        copy.release();
+
+        assertEquals(0, generator.getRecycledTagCount());
+    }
+}
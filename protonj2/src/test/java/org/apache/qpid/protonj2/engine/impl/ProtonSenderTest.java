@@ -37,7 +37,9 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -516,6 +518,58 @@ public class ProtonSenderTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testSenderOpenWithUnsettledStateAndReadRemoteUnsettled() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Map<org.apache.qpid.protonj2.test.driver.codec.primitives.Binary,
+                  org.apache.qpid.protonj2.test.driver.codec.transport.DeliveryState> remoteUnsettled = new LinkedHashMap<>();
+        remoteUnsettled.put(new org.apache.qpid.protonj2.test.driver.codec.primitives.Binary(new byte[] { 0 }),
+                            org.apache.qpid.protonj2.test.driver.codec.messaging.Accepted.getInstance());
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().withUnsettled(notNullValue())
+                           .respond()
+                           .withUnsettled(remoteUnsettled);
+
+        Connection connection = engine.start();
+
+        connection.open();
+        Session session = connection.session();
+        session.open();
+
+        final Map<Binary, DeliveryState> unsettled = new LinkedHashMap<>();
+        unsettled.put(new Binary(new byte[] { 0 }), null);
+        unsettled.put(new Binary(new byte[] { 1 }), null);
+
+        Sender sender = session.sender("sender");
+        sender.setUnsettled(unsettled);
+
+        assertEquals(unsettled, sender.getUnsettled());
+        assertNull(sender.getRemoteUnsettled());
+
+        sender.open();
+
+        assertThrows(IllegalStateException.class, () -> sender.setUnsettled(null));
+
+        peer.waitForScriptToComplete();
+        peer.expectDetach().respond();
+
+        assertNotNull(sender.getRemoteUnsettled());
+        assertEquals(1, sender.getRemoteUnsettled().size());
+        assertTrue(sender.getRemoteUnsettled().get(new Binary(new byte[] { 0 })) instanceof Accepted);
+
+        sender.close();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
     @Test
     public void testSenderOpenAndCloseAreIdempotent() throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -1220,6 +1274,65 @@ public class ProtonSenderTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testSendResumeTransferForDeliveryUnsettledOnPreviousLink() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().withRole(Role.SENDER.getValue()).respond();
+        peer.remoteFlow().withDeliveryCount(0)
+                         .withLinkCredit(10)
+                         .withIncomingWindow(1024)
+                         .withOutgoingWindow(10)
+                         .withNextIncomingId(0)
+                         .withNextOutgoingId(1).queue();
+        peer.expectTransfer().withHandle(0)
+                             .withResume(true)
+                             .withSettled(true)
+                             .withState().accepted()
+                             .withDeliveryId(0)
+                             .withDeliveryTag(new byte[] {0})
+                             .withNullPayload();
+        peer.expectDetach().withHandle(0).respond();
+
+        Connection connection = engine.start();
+
+        connection.open();
+        Session session = connection.session();
+        session.open();
+
+        Sender sender = session.sender("sender-1");
+
+        sender.creditStateUpdateHandler(handler -> {
+            if (handler.isSendable()) {
+                OutgoingDelivery delivery = handler.next();
+
+                delivery.setTag(new byte[] {0}).setResume(true);
+
+                assertTrue(delivery.isResume());
+
+                delivery.disposition(Accepted.getInstance(), true);
+                delivery.writeBytes(null);
+
+                assertThrows(IllegalStateException.class, () -> delivery.setResume(false));
+            }
+        });
+
+        sender.open();
+
+        assertFalse(sender.hasUnsettled());
+
+        sender.close();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
     @Test
     public void testSendTransferWithNonDefaultMessageFormat() throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -31,13 +31,17 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.engine.Connection;
@@ -2005,6 +2009,73 @@ public class ProtonSessionTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testSendersSharingOutgoingWindowAreNotifiedInRoundRobinOrder() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        Queue<Runnable> asyncIOCallbacks = new ArrayDeque<>();
+        ProtonTestConnector peer = createTestPeer(engine, asyncIOCallbacks);
+
+        final byte[] payload = new byte[] {0, 1, 2, 3, 4};
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().withMaxFrameSize(1024).respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withHandle(0).withLinkCredit(20).queue();
+        peer.remoteFlow().withHandle(1).withLinkCredit(20).queue();
+
+        Connection connection = engine.start().setMaxFrameSize(1024).open();
+        Session session = connection.session().setOutgoingCapacity(1024).open();
+        Sender sender1 = session.sender("sender1").setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator());
+        Sender sender2 = session.sender("sender2").setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator());
+
+        final List<String> notified = new ArrayList<>();
+        final Consumer<Sender> handler = (self) -> {
+            if (self.isSendable()) {
+                notified.add(self.getName());
+                self.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+            }
+        };
+
+        sender1.open();
+        sender2.open();
+
+        peer.waitForScriptToComplete();
+
+        // Open, Begin, Attach, Attach
+        assertEquals(4, asyncIOCallbacks.size());
+        asyncIOCallbacks.forEach(runner -> runner.run());
+        asyncIOCallbacks.clear();
+
+        sender1.creditStateUpdateHandler(handler);
+        sender2.creditStateUpdateHandler(handler);
+
+        peer.expectTransfer().withHandle(0).withPayload(payload);
+        peer.expectTransfer().withHandle(0).withPayload(payload);
+        peer.expectTransfer().withHandle(1).withPayload(payload);
+        peer.expectTransfer().withHandle(0).withPayload(payload);
+        peer.expectTransfer().withHandle(1).withPayload(payload);
+
+        sender1.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+
+        assertFalse(sender1.isSendable());
+        assertFalse(sender2.isSendable());
+
+        // Each completed write frees the window for exactly one transfer which should be
+        // offered to the sender that has waited the longest instead of always the first.
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(1, asyncIOCallbacks.size());
+            asyncIOCallbacks.poll().run();
+        }
+
+        assertEquals(Arrays.asList("sender1", "sender2", "sender1", "sender2"), notified);
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testSetSameOutgoingWindowAfterBecomingNotWritableDoesNotTriggerWritable() throws Exception {
         // Should not become writable because two outstanding writes but low water mark remains one frame pending.
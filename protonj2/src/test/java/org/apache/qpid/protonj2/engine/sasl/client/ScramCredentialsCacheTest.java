@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.sasl.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+public class ScramCredentialsCacheTest extends MechanismTestBase {
+
+    private static final String HMAC = ScramSHA256Mechanism.HMAC_SHA_256;
+    private static final byte[] SALT = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 };
+
+    private static final String CLIENT_NONCE = "rOprNGfwEbeRWgbNEkqO";
+
+    private static final ProtonBuffer SERVER_FIRST_MESSAGE = ProtonByteBufferAllocator.DEFAULT.wrap(
+        "r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,s=W22ZaJ0SNY7soEsUEjb6gQ==,i=4096".getBytes(StandardCharsets.UTF_8));
+    private static final ProtonBuffer EXPECTED_CLIENT_FINAL_MESSAGE = ProtonByteBufferAllocator.DEFAULT.wrap(
+        "c=biws,r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,p=dHzbZapWIk4jUhN+Ute9ytag9zjfMHgsqmmiz7AndVQ=".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void testLookupAfterStore() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache(2);
+
+        byte[] password = PASSWORD.getBytes(StandardCharsets.UTF_8);
+
+        assertNull(cache.lookup(HMAC, USERNAME, SALT, 4096, password));
+
+        cache.store(HMAC, USERNAME, SALT, 4096, password, createEntry(1));
+
+        ScramCredentialsCache.CacheEntry entry = cache.lookup(HMAC, USERNAME, SALT, 4096, password);
+
+        assertNotNull(entry);
+        assertArrayEquals(createEntry(1).getClientKey(), entry.getClientKey());
+        assertArrayEquals(createEntry(1).getStoredKey(), entry.getStoredKey());
+        assertArrayEquals(createEntry(1).getServerKey(), entry.getServerKey());
+
+        assertNull(cache.lookup(HMAC, USERNAME, SALT, 4097, password));
+        assertNull(cache.lookup(HMAC, "other", SALT, 4096, password));
+        assertNull(cache.lookup(ScramSHA512Mechanism.HMAC_SHA_512, USERNAME, SALT, 4096, password));
+        assertNull(cache.lookup(HMAC, USERNAME, new byte[] { 1 }, 4096, password));
+    }
+
+    @Test
+    public void testStoredEntryUnaffectedByLaterChangesToSalt() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache(2);
+
+        byte[] password = PASSWORD.getBytes(StandardCharsets.UTF_8);
+        byte[] salt = SALT.clone();
+
+        cache.store(HMAC, USERNAME, salt, 4096, password, createEntry(1));
+
+        salt[0] = 42;
+
+        assertNotNull(cache.lookup(HMAC, USERNAME, SALT, 4096, password));
+        assertNull(cache.lookup(HMAC, USERNAME, salt, 4096, password));
+    }
+
+    @Test
+    public void testChangedPasswordRemovesEntry() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache(2);
+
+        cache.store(HMAC, USERNAME, SALT, 4096, PASSWORD.getBytes(StandardCharsets.UTF_8), createEntry(1));
+
+        assertEquals(1, cache.size());
+        assertNull(cache.lookup(HMAC, USERNAME, SALT, 4096, "changed".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache(2);
+
+        byte[] password = PASSWORD.getBytes(StandardCharsets.UTF_8);
+
+        cache.store(HMAC, "user1", SALT, 4096, password, createEntry(1));
+        cache.store(HMAC, "user2", SALT, 4096, password, createEntry(2));
+
+        // Access moves user1 to most recently used
+        assertNotNull(cache.lookup(HMAC, "user1", SALT, 4096, password));
+
+        cache.store(HMAC, "user3", SALT, 4096, password, createEntry(3));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.lookup(HMAC, "user1", SALT, 4096, password));
+        assertNull(cache.lookup(HMAC, "user2", SALT, 4096, password));
+        assertNotNull(cache.lookup(HMAC, "user3", SALT, 4096, password));
+
+        cache.setMaxEntries(0);
+
+        assertEquals(0, cache.size());
+
+        cache.store(HMAC, "user1", SALT, 4096, password, createEntry(1));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSetMaxEntriesRejectsNegative() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new ScramCredentialsCache(1).setMaxEntries(-1));
+    }
+
+    @Test
+    public void testMechanismProducesSameProofFromCachedKeys() throws Exception {
+        ScramCredentialsCache.getInstance().clear();
+
+        for (int i = 0; i < 2; ++i) {
+            Mechanism mechanism = new ScramSHA256Mechanism(CLIENT_NONCE);
+
+            mechanism.getInitialResponse(credentials(USERNAME, PASSWORD));
+
+            assertEquals(EXPECTED_CLIENT_FINAL_MESSAGE, mechanism.getChallengeResponse(credentials(USERNAME, PASSWORD), SERVER_FIRST_MESSAGE));
+            assertEquals(1, ScramCredentialsCache.getInstance().size());
+        }
+
+        ScramCredentialsCache.getInstance().clear();
+
+        assertEquals(0, ScramCredentialsCache.getInstance().size());
+    }
+
+    private static ScramCredentialsCache.CacheEntry createEntry(int seed) {
+        return new ScramCredentialsCache.CacheEntry(new byte[] { (byte) seed, 1 }, new byte[] { (byte) seed, 2 }, new byte[] { (byte) seed, 3 });
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DenseIntMapTest {
+
+    @Test
+    void testPutGetRemoveDenseKeys() {
+        DenseIntMap<String> map = new DenseIntMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+
+        assertNull(map.put(0, "zero"));
+        assertNull(map.put(100, "hundred"));
+        assertEquals("zero", map.put(0, "ZERO"));
+
+        assertEquals(2, map.size());
+        assertEquals("ZERO", map.get(0));
+        assertEquals("hundred", map.get(100));
+        assertTrue(map.containsKey(100));
+        assertFalse(map.containsKey(99));
+
+        assertEquals("hundred", map.remove(100));
+        assertNull(map.remove(100));
+        assertNull(map.remove(5000));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testKeysOutsideDenseRange() {
+        DenseIntMap<String> map = new DenseIntMap<>(8);
+
+        map.put(7, "dense");
+        map.put(8, "sparse");
+        map.put(-1, "unsigned-max");
+
+        assertEquals(3, map.size());
+        assertEquals("dense", map.get(7));
+        assertEquals("sparse", map.get(8));
+        assertEquals("unsigned-max", map.get(-1));
+
+        assertEquals("unsigned-max", map.remove(-1));
+        assertNull(map.get(-1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testForEachVisitsAllValues() {
+        DenseIntMap<Integer> map = new DenseIntMap<>(4);
+
+        map.put(10, 10);
+        map.put(2, 2);
+        map.put(0, 0);
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEach(values::add);
+
+        assertEquals(Arrays.asList(0, 2, 10), values);
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(2));
+        assertNull(map.get(10));
+    }
+
+    @Test
+    void testNullValueRejected() {
+        assertThrows(NullPointerException.class, () -> new DenseIntMap<>().put(1, null));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void testCreateWithInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new HashedWheelTimer(null));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("timer", 0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("timer", 1, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    void testTimeoutExpires() throws Exception {
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        Timeout timeout = timer.newTimeout(expired::countDown, null, 5, TimeUnit.MILLISECONDS);
+
+        assertSame(timer, timeout.timer());
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertTrue(timeout.isDone());
+        assertFalse(timeout.isCancelled());
+        assertEquals(0, timer.getScheduledCount());
+    }
+
+    @Test
+    void testTimeoutRunsOnGivenExecutor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicReference<Thread> taskThread = new AtomicReference<>();
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        try {
+            final Thread executorThread = executor.submit(() -> Thread.currentThread()).get();
+
+            timer.newTimeout(() -> {
+                taskThread.set(Thread.currentThread());
+                expired.countDown();
+            }, executor, 1, TimeUnit.MILLISECONDS);
+
+            assertTrue(expired.await(5, TimeUnit.SECONDS));
+            assertSame(executorThread, taskThread.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTimeoutsExpireInDeadlineOrder() throws Exception {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch expired = new CountDownLatch(3);
+
+        // Deadlines span more than one rotation of the eight tick wheel
+        timer.newTimeout(() -> { order.add(3); expired.countDown(); }, null, 60, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> { order.add(1); expired.countDown(); }, null, 1, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> { order.add(2); expired.countDown(); }, null, 25, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), order);
+    }
+
+    @Test
+    void testTimeoutDoesNotExpireBeforeDeadline() throws Exception {
+        final CountDownLatch expired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        timer.newTimeout(expired::countDown, null, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+    }
+
+    @Test
+    void testCancelledTimeoutDoesNotRun() throws Exception {
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        Timeout timeout = timer.newTimeout(() -> ran.set(true), null, 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, timer.getScheduledCount());
+        assertTrue(timeout.getDelay(TimeUnit.MILLISECONDS) <= 20);
+        assertTrue(timeout.cancel(false));
+        assertFalse(timeout.cancel(false));
+        assertTrue(timeout.isCancelled());
+        assertTrue(timeout.isDone());
+        assertEquals(0, timer.getScheduledCount());
+        assertThrows(CancellationException.class, () -> timeout.get());
+
+        // A later timeout expiring shows the cancelled one was passed over
+        final CountDownLatch expired = new CountDownLatch(1);
+        timer.newTimeout(expired::countDown, null, 40, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void testGetWaitsForExpiration() throws Exception {
+        Timeout timeout = timer.newTimeout(() -> {}, null, 10, TimeUnit.MILLISECONDS);
+
+        timeout.get(5, TimeUnit.SECONDS);
+
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    void testTaskFailureDoesNotStopTimer() throws Exception {
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        timer.newTimeout(() -> { throw new RuntimeException("Expected"); }, null, 1, TimeUnit.MILLISECONDS);
+        timer.newTimeout(expired::countDown, null, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testStopCancelsPendingTimeouts() throws Exception {
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        Timeout timeout = timer.newTimeout(() -> ran.set(true), null, 10, TimeUnit.SECONDS);
+
+        timer.stop();
+
+        assertTrue(timeout.isCancelled());
+        assertFalse(ran.get());
+        assertEquals(0, timer.getScheduledCount());
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(() -> {}, null, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testManyTimeoutsScheduledAndCancelled() throws Exception {
+        final List<Timeout> timeouts = new ArrayList<>();
+        final CountDownLatch expired = new CountDownLatch(500);
+
+        for (int i = 0; i < 1000; ++i) {
+            timeouts.add(timer.newTimeout(expired::countDown, null, 100 + (i % 50), TimeUnit.MILLISECONDS));
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            timeouts.get(i).cancel(false);
+        }
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i % 2 == 0, timeouts.get(i).isCancelled());
+        }
+
+        assertEquals(0, timer.getScheduledCount());
+    }
+}
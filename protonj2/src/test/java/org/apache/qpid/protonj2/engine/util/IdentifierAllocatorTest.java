@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IdentifierAllocatorTest {
+
+    @Test
+    void testAllocateInSequence() {
+        IdentifierAllocator allocator = new IdentifierAllocator();
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, allocator.allocate(Integer.MAX_VALUE));
+        }
+
+        assertEquals(100, allocator.size());
+    }
+
+    @Test
+    void testFreedIdentifierIsReusedLowestFirst() {
+        IdentifierAllocator allocator = new IdentifierAllocator();
+
+        for (int i = 0; i < 10; ++i) {
+            allocator.allocate(10);
+        }
+
+        allocator.free(7);
+        allocator.free(3);
+
+        assertFalse(allocator.isAllocated(3));
+        assertFalse(allocator.isAllocated(7));
+        assertEquals(8, allocator.size());
+
+        assertEquals(3, allocator.allocate(10));
+        assertEquals(7, allocator.allocate(10));
+        assertEquals(10, allocator.allocate(10));
+        assertTrue(allocator.isAllocated(7));
+    }
+
+    @Test
+    void testAllocateRespectsLimit() {
+        IdentifierAllocator allocator = new IdentifierAllocator();
+
+        assertEquals(0, allocator.allocate(1));
+        assertEquals(1, allocator.allocate(1));
+        assertEquals(-1, allocator.allocate(1));
+
+        allocator.free(0);
+
+        assertEquals(0, allocator.allocate(1));
+    }
+
+    @Test
+    void testAllocateWithUnsignedIntegerLimit() {
+        IdentifierAllocator allocator = new IdentifierAllocator();
+
+        assertEquals(0, allocator.allocate(4294967295L));
+        assertEquals(1, allocator.allocate(4294967295L));
+    }
+
+    @Test
+    void testFreeOfUnallocatedIdentifierIsIgnored() {
+        IdentifierAllocator allocator = new IdentifierAllocator();
+
+        allocator.free(5);
+        allocator.free(-1);
+
+        assertEquals(0, allocator.size());
+        assertEquals(0, allocator.allocate(10));
+        assertFalse(allocator.isAllocated(-1));
+    }
+}
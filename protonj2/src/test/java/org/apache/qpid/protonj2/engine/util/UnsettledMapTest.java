@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class UnsettledMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+
+        for (int i = 0; i < 100; ++i) {
+            assertNull(map.put(i, i));
+        }
+
+        assertEquals(100, map.size());
+        assertEquals(Integer.valueOf(50), map.put(50, 50));
+        assertEquals(100, map.size());
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(Integer.valueOf(i), map.get(i));
+        }
+
+        assertFalse(map.containsKey(100));
+        assertEquals(Integer.valueOf(0), map.remove(0));
+        assertEquals(Integer.valueOf(99), map.remove(99));
+        assertEquals(Integer.valueOf(50), map.remove(50));
+        assertNull(map.remove(50));
+        assertNull(map.remove(1000));
+        assertEquals(97, map.size());
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+
+    @Test
+    void testDeliveryIdWrapsAroundUnsignedMaximum() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        for (int i = -10; i < 10; ++i) {
+            map.put(i, i);
+        }
+
+        assertEquals(20, map.size());
+        assertEquals(Integer.valueOf(-1), map.get(-1));
+        assertEquals(Integer.valueOf(0), map.get(0));
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEach(values::add);
+
+        assertEquals(Integer.valueOf(-10), values.get(0));
+        assertEquals(Integer.valueOf(9), values.get(19));
+    }
+
+    @Test
+    void testForEachInRange() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        for (int i = 0; i < 32; ++i) {
+            map.put(i, i);
+        }
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEachInRange(4, 7, values::add);
+        assertEquals(Arrays.asList(4, 5, 6, 7), values);
+
+        values.clear();
+        map.forEachInRange(30, 1000, values::add);
+        assertEquals(Arrays.asList(30, 31), values);
+    }
+
+    @Test
+    void testForEachInRangeThatWraps() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        for (int i = -3; i < 3; ++i) {
+            map.put(i, i);
+        }
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEachInRange(-2, 1, values::add);
+        assertEquals(Arrays.asList(-2, -1, 0, 1), values);
+
+        // A range larger than the stored Ids is checked against the stored entries
+        values.clear();
+        map.forEachInRange(-1, Integer.MAX_VALUE, values::add);
+        assertEquals(Arrays.asList(-1, 0, 1, 2), values);
+    }
+
+    @Test
+    void testActionMayRemoveEntries() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, i);
+        }
+
+        map.forEachInRange(0, 4, value -> map.remove(value));
+
+        assertEquals(5, map.size());
+        assertNull(map.get(4));
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEach(value -> {
+            values.add(value);
+            map.remove(value);
+        });
+
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9), values);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testSparseIdsAreStoredOutsideTheRing() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        map.put(10, 10);
+        map.put(1_000_000, 1_000_000);
+        map.put(5, 5);
+        map.put(11, 11);
+
+        assertEquals(4, map.size());
+        assertEquals(Integer.valueOf(1_000_000), map.get(1_000_000));
+        assertEquals(Integer.valueOf(5), map.get(5));
+
+        final List<Integer> values = new ArrayList<>();
+        map.forEachInRange(0, 10, values::add);
+        assertEquals(Arrays.asList(10, 5), values);
+
+        values.clear();
+        map.forEach(values::add);
+        assertEquals(Arrays.asList(10, 11, 5, 1_000_000), values);
+
+        assertEquals(Integer.valueOf(1_000_000), map.remove(1_000_000));
+        assertEquals(Integer.valueOf(5), map.remove(5));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testRingFollowsSettlementOfOldestEntries() {
+        UnsettledMap<Integer> map = new UnsettledMap<>();
+
+        // Keep a sliding window of unsettled Ids which should never need the overflow tree
+        for (int i = 0; i < 100_000; ++i) {
+            map.put(i, i);
+            if (i >= 64) {
+                assertEquals(Integer.valueOf(i - 64), map.remove(i - 64));
+            }
+        }
+
+        assertEquals(64, map.size());
+        assertEquals(Integer.valueOf(99_999), map.get(99_999));
+        assertNull(map.get(100));
+    }
+
+    @Test
+    void testNullValueRejected() {
+        assertThrows(NullPointerException.class, () -> new UnsettledMap<>().put(1, null));
+    }
+}